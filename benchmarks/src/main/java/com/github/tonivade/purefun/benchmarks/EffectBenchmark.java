@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.tonivade.purefun.effect.EIO;
+import com.github.tonivade.purefun.effect.Task;
+import com.github.tonivade.purefun.effect.UIO;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Try;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EffectBenchmark {
+
+  private static final RuntimeException ERROR = new RuntimeException("error");
+  // every retry repeats the previous pause, so the cost grows exponentially
+  private static final int RETRIES = 10;
+
+  @Param({"100", "1000"})
+  public int size;
+
+  @Benchmark
+  public Integer uioFlatMap() {
+    UIO<Integer> program = UIO.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> UIO.pure(x + 1));
+    }
+    return program.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer uioRedeemWith() {
+    UIO<Integer> program = UIO.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> UIO.<Integer>raiseError(ERROR))
+          .redeemWith(error -> UIO.pure(1), UIO::pure);
+    }
+    return program.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Either<String, Integer> eioFlatMap() {
+    EIO<String, Integer> program = EIO.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> EIO.pure(x + 1));
+    }
+    return program.safeRunSync();
+  }
+
+  @Benchmark
+  public Either<String, Integer> eioFoldM() {
+    EIO<String, Integer> program = EIO.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> EIO.<String, Integer>raiseError("error"))
+          .foldM(error -> EIO.pure(1), EIO::pure);
+    }
+    return program.safeRunSync();
+  }
+
+  @Benchmark
+  public Try<Integer> taskFlatMap() {
+    Task<Integer> program = Task.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> Task.pure(x + 1));
+    }
+    return program.safeRunSync();
+  }
+
+  @Benchmark
+  public Try<Integer> taskMap() {
+    Task<Integer> program = Task.task(() -> 0);
+    for (int i = 0; i < size; i++) {
+      program = program.map(x -> x + 1);
+    }
+    return program.safeRunSync();
+  }
+
+  @Benchmark
+  public Try<Integer> taskRetry() {
+    return Task.<Integer>raiseError(ERROR).retry(RETRIES).safeRunSync();
+  }
+
+  @Benchmark
+  public Try<Integer> taskBracket() {
+    Task<Integer> program = Task.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> Task.bracket(Task.pure(x), r -> Task.pure(r + 1), r -> {}));
+    }
+    return program.safeRunSync();
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.tonivade.purefun.type.Eval;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvalBenchmark {
+
+  @Param({"100", "1000"})
+  public int size;
+
+  @Benchmark
+  public Integer leftNestedFlatMap() {
+    Eval<Integer> program = Eval.ZERO;
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> Eval.now(x + 1));
+    }
+    return program.value();
+  }
+
+  @Benchmark
+  public Integer rightNestedFlatMap() {
+    return rightNested(0).value();
+  }
+
+  @Benchmark
+  public Integer mapPipeline() {
+    Eval<Integer> program = Eval.always(() -> 0);
+    for (int i = 0; i < size; i++) {
+      program = program.map(x -> x + 1);
+    }
+    return program.value();
+  }
+
+  @Benchmark
+  public Integer deferLoop() {
+    return deferLoop(0).value();
+  }
+
+  private Eval<Integer> rightNested(int i) {
+    return Eval.now(i).flatMap(x -> x < size ? rightNested(x + 1) : Eval.now(x));
+  }
+
+  private Eval<Integer> deferLoop(int i) {
+    return i < size ? Eval.defer(() -> deferLoop(i + 1)) : Eval.now(i);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.tonivade.purefun.monad.IO;
+import com.github.tonivade.purefun.type.Try;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IOBenchmark {
+
+  private static final RuntimeException ERROR = new RuntimeException("error");
+  // every retry repeats the previous pause, so the cost grows exponentially
+  private static final int RETRIES = 10;
+
+  @Param({"100", "1000"})
+  public int size;
+
+  @Benchmark
+  public Integer leftNestedFlatMap() {
+    IO<Integer> program = IO.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> IO.pure(x + 1));
+    }
+    return program.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer rightNestedFlatMap() {
+    return rightNested(0).unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer mapPipeline() {
+    IO<Integer> program = IO.task(() -> 0);
+    for (int i = 0; i < size; i++) {
+      program = program.map(x -> x + 1);
+    }
+    return program.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer suspendLoop() {
+    return suspendLoop(0).unsafeRunSync();
+  }
+
+  @Benchmark
+  public Try<Integer> attempt() {
+    IO<Try<Integer>> program = IO.<Integer>raiseError(ERROR).attempt();
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> IO.<Integer>raiseError(ERROR).attempt());
+    }
+    return program.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer redeemWith() {
+    IO<Integer> program = IO.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> IO.<Integer>raiseError(ERROR))
+          .redeemWith(error -> IO.pure(1), IO::pure);
+    }
+    return program.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer repeat() {
+    return IO.pure(1).repeat(size).unsafeRunSync();
+  }
+
+  @Benchmark
+  public Try<Integer> retry() {
+    return IO.<Integer>raiseError(ERROR).retry(RETRIES).safeRunSync();
+  }
+
+  @Benchmark
+  public Integer bracket() {
+    IO<Integer> program = IO.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> IO.bracket(IO.pure(x), r -> IO.pure(r + 1), r -> {}));
+    }
+    return program.unsafeRunSync();
+  }
+
+  private IO<Integer> rightNested(int i) {
+    return IO.pure(i).flatMap(x -> x < size ? rightNested(x + 1) : IO.pure(x));
+  }
+
+  private IO<Integer> suspendLoop(int i) {
+    return i < size ? IO.suspend(() -> suspendLoop(i + 1)) : IO.pure(i);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.benchmarks;
+
+import static com.github.tonivade.purefun.Nothing.nothing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.tonivade.purefun.Nothing;
+import com.github.tonivade.purefun.effect.ZIO;
+import com.github.tonivade.purefun.type.Either;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZIOBenchmark {
+
+  private static final RuntimeException ERROR = new RuntimeException("error");
+  // every retry repeats the previous pause, so the cost grows exponentially
+  private static final int RETRIES = 10;
+
+  @Param({"100", "1000"})
+  public int size;
+
+  @Benchmark
+  public Either<Throwable, Integer> leftNestedFlatMap() {
+    ZIO<Nothing, Throwable, Integer> program = ZIO.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> ZIO.pure(x + 1));
+    }
+    return program.provide(nothing());
+  }
+
+  @Benchmark
+  public Either<Throwable, Integer> rightNestedFlatMap() {
+    return rightNested(0).provide(nothing());
+  }
+
+  @Benchmark
+  public Either<Throwable, Integer> mapPipeline() {
+    ZIO<Nothing, Throwable, Integer> program = ZIO.task(() -> 0);
+    for (int i = 0; i < size; i++) {
+      program = program.map(x -> x + 1);
+    }
+    return program.provide(nothing());
+  }
+
+  @Benchmark
+  public Either<Throwable, Integer> foldM() {
+    ZIO<Nothing, Throwable, Integer> program = ZIO.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> ZIO.<Nothing, Throwable, Integer>raiseError(ERROR))
+          .foldM(error -> ZIO.<Nothing, Throwable, Integer>pure(1), value -> ZIO.<Nothing, Throwable, Integer>pure(value));
+    }
+    return program.provide(nothing());
+  }
+
+  @Benchmark
+  public Either<Throwable, Integer> accessM() {
+    ZIO<Integer, Throwable, Integer> program = ZIO.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> ZIO.accessM(env -> ZIO.pure(x + env)));
+    }
+    return program.provide(1);
+  }
+
+  @Benchmark
+  public Either<Throwable, Integer> repeat() {
+    return ZIO.<Nothing, Throwable, Integer>pure(1).repeat(size).provide(nothing());
+  }
+
+  @Benchmark
+  public Either<Throwable, Integer> retry() {
+    return ZIO.<Nothing, Throwable, Integer>raiseError(ERROR).retry(RETRIES).provide(nothing());
+  }
+
+  @Benchmark
+  public Either<Throwable, Integer> bracket() {
+    ZIO<Nothing, Throwable, Integer> program = ZIO.pure(0);
+    for (int i = 0; i < size; i++) {
+      program = program.flatMap(x -> ZIO.bracket(ZIO.pure(x), r -> ZIO.pure(r + 1), r -> {}));
+    }
+    return program.provide(nothing());
+  }
+
+  private ZIO<Nothing, Throwable, Integer> rightNested(int i) {
+    return ZIO.<Nothing, Throwable, Integer>pure(i).flatMap(x -> x < size ? rightNested(x + 1) : ZIO.pure(x));
+  }
+}
@@ -26,7 +26,8 @@ public interface Cancellable<T> {
 
 final class CancellableImpl<T> implements Cancellable<T> {
   
-  private final State state = new State();
+  private volatile Thread thread;
+  private volatile boolean cancelled;
   private final Promise<T> promise;
   
   public CancellableImpl(Promise<T> promise) {
@@ -35,18 +36,17 @@ final class CancellableImpl<T> implements Cancellable<T> {
 
   @Override
   public void updateThread() {
-    synchronized (state) {
-      state.thread = Thread.currentThread();
-    }
+    thread = Thread.currentThread();
   }
 
   @Override
   public void cancel(boolean mayThreadInterrupted) {
     if (promise.tryComplete(Try.failure(new CancellationException()))) {
-      synchronized (state) {
-        state.cancelled = true;
-        if (mayThreadInterrupted) {
-          state.interrupt();
+      cancelled = true;
+      if (mayThreadInterrupted) {
+        Thread current = thread;
+        if (nonNull(current)) {
+          current.interrupt();
         }
       }
     }
@@ -54,19 +54,6 @@ final class CancellableImpl<T> implements Cancellable<T> {
 
   @Override
   public boolean isCancelled() {
-    synchronized (state) {
-      return state.cancelled;
-    }
-  }
-  
-  private static final class State {
-    private boolean cancelled = false;
-    private Thread thread = null;
-
-    private void interrupt() {
-      if (nonNull(thread)) {
-        thread.interrupt();
-      }
-    }
+    return cancelled;
   }
 }
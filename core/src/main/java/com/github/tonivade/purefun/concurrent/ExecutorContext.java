@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.concurrent;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Keeps track of the executor that is running the current thread, so a task submitted
+ * to the same executor can be executed right away, avoiding a thread hop. The number
+ * of nested tasks executed this way is limited to keep the stack bounded.
+ */
+final class ExecutorContext {
+
+  private static final int MAX_DEPTH = 32;
+
+  private static final ThreadLocal<ExecutorContext> CURRENT = ThreadLocal.withInitial(ExecutorContext::new);
+
+  private Executor executor;
+  private int depth;
+
+  private ExecutorContext() { }
+
+  static void dispatch(Executor executor, Runnable task) {
+    ExecutorContext context = CURRENT.get();
+    if (context.executor == executor && context.depth < MAX_DEPTH) {
+      context.depth++;
+      try {
+        runSafe(task);
+      } finally {
+        context.depth--;
+      }
+    } else {
+      execute(executor, task);
+    }
+  }
+
+  static void execute(Executor executor, Runnable task) {
+    executor.execute(() -> {
+      ExecutorContext context = CURRENT.get();
+      Executor previousExecutor = context.executor;
+      int previousDepth = context.depth;
+      context.executor = executor;
+      context.depth = 0;
+      try {
+        task.run();
+      } finally {
+        context.executor = previousExecutor;
+        context.depth = previousDepth;
+      }
+    });
+  }
+
+  private static void runSafe(Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException | Error e) {
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+  }
+}
@@ -8,16 +8,19 @@ import static com.github.tonivade.purefun.Function1.cons;
 import static com.github.tonivade.purefun.Function1.identity;
 import static com.github.tonivade.purefun.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.Unit.unit;
-import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static com.github.tonivade.purefun.data.Sequence.listOf;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.github.tonivade.purefun.CheckedRunnable;
 import com.github.tonivade.purefun.Consumer1;
@@ -27,6 +30,9 @@ import com.github.tonivade.purefun.HigherKind;
 import com.github.tonivade.purefun.Matcher1;
 import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Either;
 import com.github.tonivade.purefun.type.Try;
 
 /**
@@ -46,6 +52,11 @@ import com.github.tonivade.purefun.type.Try;
  *   <li>Future.bracket(acquire, usage, release): returns a future that eventually will acquire a resource, then use it, and finally release it.</li>
  * </ul>
  *
+ * <p>Several futures can be combined without blocking any thread: {@code Future.firstCompletedOf} and {@code Future.race}
+ * return the first result and cancel the rest of futures, {@code Future.sequence} and {@code Future.traverse} collect all
+ * the results but fail as soon as any of the futures fails, also cancelling the rest. A future can be limited in time
+ * using {@code timeout}.</p>
+ *
  * <p>A future can be cancelable by calling the method {@code cancel}. If the future has not been executed yet, the future will be cancelled
  * and the result of the computation will be a {@code Try.failure(CancellableException)}, but if the future has been executed, and is completed
  * the calling of cancel method will not have any consequences. If the computation is running when the cancel method is called, and if the flag
@@ -90,6 +101,8 @@ public interface Future<T> extends FutureOf<T> {
 
   Future<T> orElse(Future<T> other);
 
+  Future<T> timeout(Duration timeout);
+
   default T get() {
     return getOrElseThrow(NoSuchElementException::new);
   }
@@ -159,6 +172,14 @@ public interface Future<T> extends FutureOf<T> {
     return async(executor, future::get);
   }
 
+  static <T> Future<T> from(Promise<T> promise) {
+    return from(DEFAULT_EXECUTOR, promise);
+  }
+
+  static <T> Future<T> from(Executor executor, Promise<T> promise) {
+    return FutureImpl.from(executor, promise);
+  }
+
   static <T> Future<T> async(Producer<T> task) {
     return async(DEFAULT_EXECUTOR, task);
   }
@@ -180,7 +201,11 @@ public interface Future<T> extends FutureOf<T> {
   }
 
   static <T> Future<T> delay(Executor executor, Duration timeout, Producer<T> producer) {
-    return sleep(executor, timeout).flatMap(x -> async(executor, producer));
+    return delay(executor, HashedWheelTimer.DEFAULT, timeout, producer);
+  }
+
+  static <T> Future<T> delay(Executor executor, HashedWheelTimer timer, Duration timeout, Producer<T> producer) {
+    return FutureImpl.delay(executor, timer, timeout, producer);
   }
 
   static Future<Unit> sleep(Duration delay) {
@@ -188,7 +213,11 @@ public interface Future<T> extends FutureOf<T> {
   }
 
   static Future<Unit> sleep(Executor executor, Duration delay) {
-    return FutureImpl.sleep(executor, delay);
+    return sleep(executor, HashedWheelTimer.DEFAULT, delay);
+  }
+
+  static Future<Unit> sleep(Executor executor, HashedWheelTimer timer, Duration delay) {
+    return FutureImpl.sleep(executor, timer, delay);
   }
 
   static <T> Future<T> defer(Producer<Future<T>> producer) {
@@ -199,6 +228,38 @@ public interface Future<T> extends FutureOf<T> {
     return async(executor, producer::get).flatMap(identity());
   }
 
+  static <T> Future<T> firstCompletedOf(Sequence<Future<T>> futures) {
+    return firstCompletedOf(DEFAULT_EXECUTOR, futures);
+  }
+
+  static <T> Future<T> firstCompletedOf(Executor executor, Sequence<Future<T>> futures) {
+    return FutureImpl.firstCompletedOf(executor, futures);
+  }
+
+  static <A, B> Future<Either<A, B>> race(Future<A> futureA, Future<B> futureB) {
+    return race(DEFAULT_EXECUTOR, futureA, futureB);
+  }
+
+  static <A, B> Future<Either<A, B>> race(Executor executor, Future<A> futureA, Future<B> futureB) {
+    return firstCompletedOf(executor, listOf(futureA.<Either<A, B>>map(Either::left), futureB.<Either<A, B>>map(Either::right)));
+  }
+
+  static <T> Future<Sequence<T>> sequence(Sequence<Future<T>> futures) {
+    return sequence(DEFAULT_EXECUTOR, futures);
+  }
+
+  static <T> Future<Sequence<T>> sequence(Executor executor, Sequence<Future<T>> futures) {
+    return FutureImpl.sequence(executor, futures);
+  }
+
+  static <A, B> Future<Sequence<B>> traverse(Sequence<A> values, Function1<A, Future<B>> mapper) {
+    return traverse(DEFAULT_EXECUTOR, values, mapper);
+  }
+
+  static <A, B> Future<Sequence<B>> traverse(Executor executor, Sequence<A> values, Function1<A, Future<B>> mapper) {
+    return sequence(executor, values.map(mapper));
+  }
+
   static <T extends AutoCloseable, R> Future<R> bracket(Future<T> acquire, Function1<T, Future<R>> use) {
     return bracket(DEFAULT_EXECUTOR, acquire, use);
   }
@@ -228,11 +289,15 @@ final class FutureImpl<T> implements SealedFuture<T> {
   }
 
   protected FutureImpl(Executor executor, Consumer2<Promise<T>, Cancellable<T>> callback, Consumer1<Boolean> propagate) {
+    this(executor, Promise.make(executor), propagate);
+    callback.accept(promise, cancellable);
+  }
+
+  private FutureImpl(Executor executor, Promise<T> promise, Consumer1<Boolean> propagate) {
     this.executor = checkNonNull(executor);
     this.propagate = checkNonNull(propagate);
-    this.promise = Promise.make(executor);
+    this.promise = checkNonNull(promise);
     this.cancellable = Cancellable.from(promise);
-    callback.accept(promise, cancellable);
   }
 
   @Override
@@ -298,6 +363,11 @@ final class FutureImpl<T> implements SealedFuture<T> {
     return chain(executor, this, value -> value.fold(cons(other), t -> Future.success(executor, t)));
   }
 
+  @Override
+  public Future<T> timeout(Duration timeout) {
+    return timeout(executor, this, timeout);
+  }
+
   @Override
   public <X extends Throwable> Future<T> recoverWith(Class<X> type, Function1<X, T> mapper) {
     return transform(executor, this, value -> value.recoverWith(type, mapper));
@@ -351,7 +421,7 @@ final class FutureImpl<T> implements SealedFuture<T> {
     checkNonNull(producer);
     return new FutureImpl<>(executor,
         (promise, cancellable) ->
-          executor.execute(() -> {
+          ExecutorContext.execute(executor, () -> {
             cancellable.updateThread();
             promise.tryComplete(producer.get());
           }));
@@ -363,10 +433,112 @@ final class FutureImpl<T> implements SealedFuture<T> {
     return new FutureImpl<>(executor, (current, cancel) -> promise.onComplete(current::tryComplete));
   }
 
-  protected static Future<Unit> sleep(Executor executor, Duration delay) {
+  protected static Future<Unit> sleep(Executor executor, HashedWheelTimer timer, Duration delay) {
     checkNonNull(executor);
+    checkNonNull(timer);
     checkNonNull(delay);
-    return from(executor, Delayed.sleep(executor, delay));
+    return new FutureImpl<>(executor, timer.sleep(executor, delay), x -> {});
+  }
+
+  protected static <T> Future<T> delay(Executor executor, HashedWheelTimer timer, Duration delay, Producer<T> producer) {
+    checkNonNull(executor);
+    checkNonNull(timer);
+    checkNonNull(delay);
+    checkNonNull(producer);
+    Promise<Unit> sleep = timer.sleep(executor, delay);
+    return new FutureImpl<>(executor,
+        (promise, cancellable) ->
+          sleep.onComplete(result -> {
+            cancellable.updateThread();
+            promise.tryComplete(result.flatMap(x -> Try.of(producer)));
+          }), x -> sleep.tryComplete(Try.failure(new CancellationException())));
+  }
+
+  protected static <T> Future<T> timeout(Executor executor, Future<T> current, Duration timeout) {
+    checkNonNull(executor);
+    checkNonNull(current);
+    checkNonNull(timeout);
+    Promise<Unit> sleep = HashedWheelTimer.DEFAULT.sleep(executor, timeout);
+    return new FutureImpl<>(executor,
+        (promise, cancellable) -> {
+          AtomicBoolean done = new AtomicBoolean();
+          current.onComplete(result -> {
+            if (done.compareAndSet(false, true)) {
+              sleep.tryComplete(Try.success(unit()));
+              promise.tryComplete(result);
+            }
+          });
+          sleep.onComplete(result -> {
+            if (done.compareAndSet(false, true)) {
+              current.cancel(false);
+              promise.tryComplete(Try.failure(new TimeoutException()));
+            }
+          });
+        },
+        mayInterruptThread -> {
+          sleep.tryComplete(Try.success(unit()));
+          current.cancel(mayInterruptThread);
+        });
+  }
+
+  protected static <T> Future<T> firstCompletedOf(Executor executor, Sequence<Future<T>> futures) {
+    checkNonNull(executor);
+    checkNonNull(futures);
+    if (futures.isEmpty()) {
+      throw new IllegalArgumentException("cannot race an empty sequence of futures");
+    }
+    return new FutureImpl<>(executor,
+        (promise, cancellable) -> {
+          AtomicBoolean done = new AtomicBoolean();
+          for (Future<T> future : futures) {
+            future.onComplete(result -> {
+              if (done.compareAndSet(false, true)) {
+                cancelAll(futures, false);
+                promise.tryComplete(result);
+              }
+            });
+          }
+        }, mayInterruptThread -> cancelAll(futures, mayInterruptThread));
+  }
+
+  @SuppressWarnings("unchecked")
+  protected static <T> Future<Sequence<T>> sequence(Executor executor, Sequence<Future<T>> futures) {
+    checkNonNull(executor);
+    checkNonNull(futures);
+    if (futures.isEmpty()) {
+      return sync(executor, Try.success(ImmutableList.empty()));
+    }
+    return new FutureImpl<>(executor,
+        (promise, cancellable) -> {
+          Object[] results = new Object[futures.size()];
+          AtomicInteger remaining = new AtomicInteger(results.length);
+          AtomicBoolean failed = new AtomicBoolean();
+          int index = 0;
+          for (Future<T> future : futures) {
+            int current = index++;
+            future.onComplete(result -> {
+              if (result.isFailure()) {
+                if (failed.compareAndSet(false, true)) {
+                  cancelAll(futures, false);
+                  promise.tryComplete(Try.failure(result.getCause()));
+                }
+              } else {
+                results[current] = result.get();
+                if (remaining.decrementAndGet() == 0) {
+                  promise.tryComplete(Try.success(ImmutableList.from(Arrays.asList((T[]) results))));
+                }
+              }
+            });
+          }
+        }, mayInterruptThread -> cancelAll(futures, mayInterruptThread));
+  }
+
+  private static <T> void cancelAll(Sequence<Future<T>> futures, boolean mayInterruptThread) {
+    for (Future<T> future : futures) {
+      if (!future.isCompleted()) {
+        future.cancel(mayInterruptThread);
+      }
+    }
   }
 
   protected static <T, R> Future<R> bracket(Executor executor, Future<T> acquire, Function1<T, Future<R>> use, Consumer1<T> release) {
@@ -382,16 +554,3 @@ final class FutureImpl<T> implements SealedFuture<T> {
                   .onComplete(result -> resource.onSuccess(release))));
   }
 }
-
-final class Delayed {
-
-  private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(0);
-
-  protected static Promise<Unit> sleep(Executor executor, Duration delay) {
-    return Promise.from(executor, supplyAsync(Unit::unit, delayedExecutor(delay, executor)));
-  }
-
-  private static Executor delayedExecutor(Duration delay, Executor executor) {
-    return task -> SCHEDULER.schedule(() -> executor.execute(task), delay.toMillis(), TimeUnit.MILLISECONDS);
-  }
-}
\ No newline at end of file
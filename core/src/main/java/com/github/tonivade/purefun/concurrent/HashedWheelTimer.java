@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.concurrent;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.type.Try;
+
+/**
+ * <p>A timer based on a hashed timing wheel, shared by all the delayed operations like {@code Future.sleep}.</p>
+ *
+ * <p>Time is divided in ticks of a fixed duration and every pending timeout is stored in the bucket of
+ * the wheel where it expires. A single daemon thread advances the wheel once per tick and completes all the
+ * expired timeouts of the current bucket in a batch, so the precision is the duration of a tick.</p>
+ *
+ * <p>The timer used by the effects can be replaced using the overloads that receive a timer, for example
+ * {@code Future.sleep(executor, timer, delay)}.</p>
+ *
+ * <p>The timer completes the promise returned by {@code sleep} directly. If that promise is completed by
+ * any other means, for example when the future is cancelled, the timeout is discarded.</p>
+ */
+public final class HashedWheelTimer {
+
+  public static final HashedWheelTimer DEFAULT = new HashedWheelTimer(Duration.ofMillis(10), 512);
+
+  private static final int MAX_TRANSFER = 100_000;
+
+  private final long tickNanos;
+  private final int mask;
+  private final List<List<Timeout>> wheel;
+  private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+
+  // only accessed by the worker thread
+  private long startTime;
+  private long tick;
+
+  public HashedWheelTimer(Duration tickDuration, int ticksPerWheel) {
+    checkNonNull(tickDuration);
+    if (tickDuration.isNegative() || tickDuration.isZero()) {
+      throw new IllegalArgumentException("tick duration should be greater than zero: " + tickDuration);
+    }
+    if (ticksPerWheel < 1) {
+      throw new IllegalArgumentException("ticks per wheel should be greater than zero: " + ticksPerWheel);
+    }
+    this.tickNanos = tickDuration.toNanos();
+    int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+    this.mask = Math.max(size, 1) - 1;
+    this.wheel = new ArrayList<>(mask + 1);
+    for (int i = 0; i <= mask; i++) {
+      wheel.add(new ArrayList<>());
+    }
+  }
+
+  public Promise<Unit> sleep(Duration delay) {
+    return sleep(Future.DEFAULT_EXECUTOR, delay);
+  }
+
+  public Promise<Unit> sleep(Executor executor, Duration delay) {
+    checkNonNull(executor);
+    checkNonNull(delay);
+    Promise<Unit> promise = Promise.make(executor);
+    if (delay.isNegative() || delay.isZero()) {
+      promise.tryComplete(Try.success(Unit.unit()));
+    } else {
+      start();
+      pending.add(new Timeout(System.nanoTime() + delay.toNanos(), promise));
+    }
+    return promise;
+  }
+
+  private void start() {
+    if (started.compareAndSet(false, true)) {
+      Thread worker = new Thread(this::run, "purefun-timer");
+      worker.setDaemon(true);
+      worker.start();
+    }
+  }
+
+  private void run() {
+    startTime = System.nanoTime();
+    while (true) {
+      waitForNextTick();
+      transferPending();
+      expire(wheel.get((int) (tick & mask)));
+      tick++;
+    }
+  }
+
+  private void waitForNextTick() {
+    long deadline = tickNanos * (tick + 1);
+    long current = System.nanoTime() - startTime;
+    while (current < deadline) {
+      LockSupport.parkNanos(this, deadline - current);
+      current = System.nanoTime() - startTime;
+    }
+  }
+
+  private void transferPending() {
+    for (int i = 0; i < MAX_TRANSFER; i++) {
+      Timeout timeout = pending.poll();
+      if (timeout == null) {
+        break;
+      }
+      if (!timeout.isCancelled()) {
+        long expiration = (timeout.deadline - startTime) / tickNanos;
+        timeout.rounds = (expiration - tick) / wheel.size();
+        wheel.get((int) (Math.max(expiration, tick) & mask)).add(timeout);
+      }
+    }
+  }
+
+  private void expire(List<Timeout> bucket) {
+    int size = 0;
+    for (Timeout timeout : bucket) {
+      if (timeout.isCancelled()) {
+        continue;
+      }
+      if (timeout.rounds <= 0) {
+        timeout.expire();
+      } else {
+        timeout.rounds--;
+        bucket.set(size++, timeout);
+      }
+    }
+    bucket.subList(size, bucket.size()).clear();
+  }
+
+  private static final class Timeout {
+
+    private final long deadline;
+    private final Promise<Unit> promise;
+    private long rounds;
+
+    private Timeout(long deadline, Promise<Unit> promise) {
+      this.deadline = deadline;
+      this.promise = promise;
+    }
+
+    private boolean isCancelled() {
+      return promise.isCompleted();
+    }
+
+    private void expire() {
+      try {
+        promise.tryComplete(Try.success(Unit.unit()));
+      } catch (Throwable e) {
+        // the executor may reject the callbacks or a waiting thread may fail, but the timer thread must keep running
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+      }
+    }
+  }
+}
@@ -6,8 +6,11 @@ package com.github.tonivade.purefun.concurrent;
 
 import static com.github.tonivade.purefun.Function1.identity;
 import static com.github.tonivade.purefun.Function2.second;
-import static com.github.tonivade.purefun.data.ImmutableList.empty;
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Executor;
 import com.github.tonivade.purefun.CheckedRunnable;
 import com.github.tonivade.purefun.Consumer1;
@@ -15,11 +18,15 @@ import com.github.tonivade.purefun.Function1;
 import com.github.tonivade.purefun.Function2;
 import com.github.tonivade.purefun.HigherKind;
 import com.github.tonivade.purefun.Matcher1;
+import com.github.tonivade.purefun.Operator2;
 import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Tuple;
 import com.github.tonivade.purefun.Tuple2;
 import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.concurrent.internal.ParallelTraverse;
+import com.github.tonivade.purefun.data.ImmutableList;
 import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Try;
 
 @HigherKind
 @FunctionalInterface
@@ -44,7 +51,7 @@ public interface Par<T> extends ParOf<T> {
   }
 
   default <R> Par<R> ap(Par<Function1<T, R>> apply) {
-    return apply.flatMap(this::map);
+    return map2(this, apply, (value, function) -> function.apply(value));
   }
 
   default Par<T> filter(Matcher1<T> matcher) {
@@ -95,8 +102,15 @@ public interface Par<T> extends ParOf<T> {
     return executor -> Future.bracket(acquire.apply(executor), a -> use.apply(a).apply(executor), release);
   }
 
+  @SuppressWarnings("unchecked")
   static <A, B, C> Par<C> map2(Par<A> parA, Par<B> parB, Function2<A, B, C> mapper) {
-    return parB.ap(parA.map(mapper.curried()));
+    checkNonNull(mapper);
+    // same as traverse, so if one of them fails the other is cancelled
+    return traverse(ImmutableList.of(parA.map(value -> (Object) value), parB.map(value -> (Object) value)))
+        .map(values -> {
+          Iterator<Object> iterator = values.iterator();
+          return mapper.apply((A) iterator.next(), (B) iterator.next());
+        });
   }
 
   static <A, B> Par<Tuple2<A, B>> tuple(Par<A> parA, Par<B> parB) {
@@ -104,12 +118,48 @@ public interface Par<T> extends ParOf<T> {
   }
 
   static <A> Par<Sequence<A>> traverse(Sequence<Par<A>> sequence) {
-    return sequence.foldLeft(success(empty()),
-        (Par<Sequence<A>> parA, Par<A> parB) -> map2(parA, parB, Sequence::append));
+    return traverseN(Integer.MAX_VALUE, sequence);
+  }
+
+  static <A> Par<Sequence<A>> traverseN(int parallelism, Sequence<Par<A>> sequence) {
+    checkNonNull(sequence);
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism should be greater than zero: " + parallelism);
+    }
+    return executor -> {
+      Promise<Sequence<A>> promise = Promise.make(executor);
+      ParallelTraverse.traverse(sequence, parallelism,
+          par -> ParallelTraverse.Running.from(par.apply(executor)), promise::tryComplete);
+      return Future.from(executor, promise);
+    };
   }
 
   static Par<Unit> sequence(Sequence<Par<?>> sequence) {
-    return sequence.fold(unit(), Par::andThen).andThen(unit());
+    return traverse(sequence.map(par -> par.map(value -> (Object) value))).andThen(unit());
+  }
+
+  static <A, B> Par<B> parFoldMap(Sequence<A> sequence, B zero, Function1<A, B> mapper, Operator2<B> combinator) {
+    return parFoldMap(ParChunk.size(sequence.size()), sequence, zero, mapper, combinator);
+  }
+
+  static <A, B> Par<B> parFoldMap(
+      int chunkSize, Sequence<A> sequence, B zero, Function1<A, B> mapper, Operator2<B> combinator) {
+    checkNonNull(sequence);
+    checkNonNull(mapper);
+    checkNonNull(combinator);
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunk size should be greater than zero: " + chunkSize);
+    }
+    return defer(() -> {
+      List<A> list = new ArrayList<>(sequence.size());
+      sequence.forEach(list::add);
+      List<Par<B>> chunks = new ArrayList<>();
+      for (int from = 0; from < list.size(); from += chunkSize) {
+        List<A> chunk = list.subList(from, Math.min(from + chunkSize, list.size()));
+        chunks.add(task(() -> ParChunk.foldMap(chunk, zero, mapper, combinator)));
+      }
+      return traverse(ImmutableList.from(chunks)).map(partial -> partial.fold(zero, combinator));
+    });
   }
 
   static Par<Unit> unit() {
@@ -117,3 +167,21 @@ public interface Par<T> extends ParOf<T> {
   }
 }
 
+final class ParChunk {
+
+  private static final int MIN_SIZE = 16;
+
+  private ParChunk() {}
+
+  static int size(int size) {
+    return Math.max(MIN_SIZE, size / (Runtime.getRuntime().availableProcessors() * 4));
+  }
+
+  static <A, B> B foldMap(List<A> chunk, B zero, Function1<A, B> mapper, Operator2<B> combinator) {
+    B result = zero;
+    for (A value : chunk) {
+      result = combinator.apply(result, mapper.apply(value));
+    }
+    return result;
+  }
+}
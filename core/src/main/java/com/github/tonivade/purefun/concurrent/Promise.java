@@ -6,18 +6,15 @@ package com.github.tonivade.purefun.concurrent;
 
 import com.github.tonivade.purefun.Consumer1;
 import com.github.tonivade.purefun.HigherKind;
-import com.github.tonivade.purefun.type.Option;
 import com.github.tonivade.purefun.type.Try;
 
 import java.time.Duration;
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 
-import static java.util.Objects.isNull;
 import static com.github.tonivade.purefun.Precondition.checkNonNull;
 
 @HigherKind(sealed = true)
@@ -68,22 +65,25 @@ public interface Promise<T> {
 
   static <T> Promise<T> from(Executor executor, CompletableFuture<T> future) {
     Promise<T> promise = make(executor);
-    future.whenCompleteAsync((unit, error) -> {
-      if (unit != null) {
-        promise.tryComplete(Try.success(unit));
+    future.whenComplete((value, error) -> {
+      if (error == null) {
+        promise.tryComplete(Try.success(value));
       } else {
         promise.tryComplete(Try.failure(error));
       }
-    }, executor);
+    });
     return promise;
   }
 }
 
 final class PromiseImpl<T> implements SealedPromise<T> {
 
-  private final State state = new State();
-  private final Queue<Consumer1<Try<T>>> consumers = new LinkedList<>();
-  private final AtomicReference<Try<T>> reference = new AtomicReference<>();
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<PromiseImpl, Object> STATE =
+      AtomicReferenceFieldUpdater.newUpdater(PromiseImpl.class, Object.class, "state");
+
+  // null when empty, a stack of callbacks while pending, or the result once completed
+  private volatile Object state;
 
   private final Executor executor;
 
@@ -92,94 +92,172 @@ final class PromiseImpl<T> implements SealedPromise<T> {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public boolean tryComplete(Try<T> value) {
-    if (isEmpty()) {
-      synchronized (state) {
-        if (isEmpty()) {
-          state.completed = true;
-          setValue(value);
-          state.notifyAll();
-          return true;
-        }
+    checkNonNull(value);
+    Object current;
+    do {
+      current = state;
+      if (current instanceof Try) {
+        return false;
       }
+    } while (!STATE.compareAndSet(this, current, value));
+
+    for (Callback<T> callback = Callback.reverse((Callback<T>) current); callback != null; callback = callback.next) {
+      submit(value, callback.consumer);
     }
-    return false;
+    return true;
   }
 
   @Override
   public Try<T> get() {
-    if (isEmpty()) {
-      synchronized (state) {
-        if (isEmpty()) {
-          try {
-            state.wait();
-          } catch (InterruptedException e) {
+    Try<T> current = value();
+    if (current == null) {
+      Waiter<T> waiter = new Waiter<>(Thread.currentThread());
+      if (add(waiter)) {
+        while ((current = value()) == null) {
+          LockSupport.park(this);
+          if (Thread.interrupted()) {
             Thread.currentThread().interrupt();
-            return Try.failure(e);
+            remove(waiter);
+            return Try.failure(new InterruptedException());
           }
         }
       }
+      current = value();
     }
-    return checkNonNull(reference.get());
+    return current;
   }
 
   @Override
   public Try<T> get(Duration timeout) {
-    if (isEmpty()) {
-      synchronized (state) {
-        if (isEmpty()) {
-          try {
-            state.wait(timeout.toMillis());
-          } catch (InterruptedException e) {
+    Try<T> current = value();
+    if (current == null) {
+      long deadline = System.nanoTime() + timeout.toNanos();
+      Waiter<T> waiter = new Waiter<>(Thread.currentThread());
+      if (add(waiter)) {
+        while ((current = value()) == null) {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            remove(waiter);
+            return Try.failure(new TimeoutException());
+          }
+          LockSupport.parkNanos(this, remaining);
+          if (Thread.interrupted()) {
             Thread.currentThread().interrupt();
-            return Try.failure(e);
+            remove(waiter);
+            return Try.failure(new InterruptedException());
           }
         }
       }
+      current = value();
     }
-    return Option.of(reference::get).getOrElse(Try.failure(new TimeoutException()));
+    return current;
   }
 
   @Override
   public boolean isCompleted() {
-    synchronized (state) {
-      return state.completed;
-    }
+    return state instanceof Try;
   }
 
   @Override
   public Promise<T> onComplete(Consumer1<Try<T>> consumer) {
-    current(consumer).ifPresent(consumer);
+    checkNonNull(consumer);
+    if (!add(consumer)) {
+      consumer.accept(value());
+    }
     return this;
   }
 
-  private Option<Try<T>> current(Consumer1<Try<T>> consumer) {
-    Try<T> current = reference.get();
-    if (isNull(current)) {
-      synchronized (state) {
-        current = reference.get();
-        if (isNull(current)) {
-          consumers.add(consumer);
-        }
+  @SuppressWarnings("unchecked")
+  private boolean add(Consumer1<Try<T>> consumer) {
+    Object current;
+    do {
+      current = state;
+      if (current instanceof Try) {
+        return false;
       }
-    }
-    return Option.of(current);
+    } while (!STATE.compareAndSet(this, current, new Callback<>(consumer, (Callback<T>) current)));
+    return true;
   }
 
-  private void setValue(Try<T> value) {
-    reference.set(value);
-    consumers.forEach(consumer -> submit(value, consumer));
+  // unlinks a waiter that gave up, so the callbacks don't keep growing while the promise is pending
+  @SuppressWarnings("unchecked")
+  private void remove(Consumer1<Try<T>> consumer) {
+    Object current;
+    Callback<T> updated;
+    do {
+      current = state;
+      if (current instanceof Try) {
+        return;
+      }
+      updated = Callback.remove((Callback<T>) current, consumer);
+      if (updated == current) {
+        return;
+      }
+    } while (!STATE.compareAndSet(this, current, updated));
   }
 
   private void submit(Try<T> value, Consumer1<Try<T>> consumer) {
-    executor.execute(() -> consumer.accept(value));
+    if (consumer instanceof Waiter) {
+      consumer.accept(value);
+    } else {
+      ExecutorContext.dispatch(executor, () -> consumer.accept(value));
+    }
   }
 
-  private boolean isEmpty() {
-    return isNull(reference.get());
+  @SuppressWarnings("unchecked")
+  private Try<T> value() {
+    Object current = state;
+    return current instanceof Try ? (Try<T>) current : null;
   }
 
-  private static final class State {
-    private boolean completed = false;
+  private static final class Callback<T> {
+
+    private final Consumer1<Try<T>> consumer;
+    private final Callback<T> next;
+
+    private Callback(Consumer1<Try<T>> consumer, Callback<T> next) {
+      this.consumer = consumer;
+      this.next = next;
+    }
+
+    // the callbacks are shared between states, so the ones before the removed callback are copied
+    private static <T> Callback<T> remove(Callback<T> callback, Consumer1<Try<T>> consumer) {
+      Callback<T> prefix = null;
+      for (Callback<T> current = callback; current != null; current = current.next) {
+        if (current.consumer == consumer) {
+          Callback<T> result = current.next;
+          for (Callback<T> previous = prefix; previous != null; previous = previous.next) {
+            result = new Callback<>(previous.consumer, result);
+          }
+          return result;
+        }
+        prefix = new Callback<>(current.consumer, prefix);
+      }
+      return callback;
+    }
+
+    private static <T> Callback<T> reverse(Callback<T> callback) {
+      Callback<T> result = null;
+      for (Callback<T> current = callback; current != null; current = current.next) {
+        result = new Callback<>(current.consumer, result);
+      }
+      return result;
+    }
+  }
+
+  private static final class Waiter<T> implements Consumer1<Try<T>> {
+
+    private final Thread thread;
+
+    private Waiter(Thread thread) {
+      this.thread = thread;
+    }
+
+    @Override
+    public void run(Try<T> value) {
+      LockSupport.unpark(thread);
+    }
   }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.concurrent.internal;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.github.tonivade.purefun.Consumer1;
+import com.github.tonivade.purefun.Function1;
+import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Try;
+
+/**
+ * <p>Runs a sequence of computations in parallel, and cancels the ones still running when the result is known.
+ * It's shared by {@code Par} and by the effects that evaluate their programs in fibers, that only need to
+ * tell how a computation is started, observed and cancelled.</p>
+ *
+ * <p>It's not part of the public API, it can change or be removed in any version.</p>
+ *
+ * @param <T> type of the computations
+ * @param <A> result of each computation
+ */
+public final class ParallelTraverse<T, A> {
+
+  /**
+   * A computation already started.
+   */
+  public interface Running<A> {
+
+    void onComplete(Consumer1<Try<A>> callback);
+
+    void cancel();
+
+    static <A> Running<A> of(Consumer1<Consumer1<Try<A>>> onComplete, Runnable cancel) {
+      checkNonNull(onComplete);
+      checkNonNull(cancel);
+      return new Running<A>() {
+        @Override
+        public void onComplete(Consumer1<Try<A>> callback) {
+          onComplete.accept(callback);
+        }
+
+        @Override
+        public void cancel() {
+          cancel.run();
+        }
+      };
+    }
+
+    static <A> Running<A> from(Future<A> future) {
+      checkNonNull(future);
+      return of(future::onComplete, () -> future.cancel(false));
+    }
+  }
+
+  private final Object[] tasks;
+  private final Object[] results;
+  private final Function1<T, Running<A>> start;
+  private final Consumer1<Try<Sequence<A>>> callback;
+
+  private final AtomicReferenceArray<Running<A>> running;
+  private final AtomicInteger next = new AtomicInteger();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicInteger remaining;
+  private final AtomicBoolean done = new AtomicBoolean();
+
+  private ParallelTraverse(Sequence<T> sequence, Function1<T, Running<A>> start, Consumer1<Try<Sequence<A>>> callback) {
+    this.tasks = sequence.stream().toArray();
+    this.results = new Object[tasks.length];
+    this.start = checkNonNull(start);
+    this.callback = checkNonNull(callback);
+    this.running = new AtomicReferenceArray<>(tasks.length);
+    this.remaining = new AtomicInteger(tasks.length);
+  }
+
+  /**
+   * Starts up to {@code parallelism} computations at the same time, and calls the callback with the results
+   * in the same order, or with the first error.
+   */
+  public static <T, A> void traverse(Sequence<T> sequence, int parallelism,
+      Function1<T, Running<A>> start, Consumer1<Try<Sequence<A>>> callback) {
+    checkNonNull(sequence);
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism should be greater than zero: " + parallelism);
+    }
+    ParallelTraverse<T, A> traverse = new ParallelTraverse<>(sequence, start, callback);
+    if (traverse.tasks.length == 0) {
+      callback.accept(Try.success(ImmutableList.empty()));
+      return;
+    }
+    for (int i = 0; i < Math.min(parallelism, traverse.tasks.length); i++) {
+      traverse.startNext();
+    }
+  }
+
+  /**
+   * Starts all the computations, and calls the callback with the first one that completes.
+   */
+  public static <T, A> void race(Sequence<T> sequence, Function1<T, Running<A>> start, Consumer1<Try<A>> callback) {
+    checkNonNull(sequence);
+    checkNonNull(start);
+    checkNonNull(callback);
+    if (sequence.isEmpty()) {
+      throw new IllegalArgumentException("nothing to race");
+    }
+    ImmutableList<Running<A>> running = ImmutableList.from(sequence.stream().map(start::apply));
+    AtomicBoolean done = new AtomicBoolean();
+    running.forEach(current -> current.onComplete(result -> {
+      if (done.compareAndSet(false, true)) {
+        running.forEach(Running::cancel);
+        callback.accept(result);
+      }
+    }));
+  }
+
+  // a computation can complete synchronously, so the next ones are started in a loop instead of recursively
+  private void startNext() {
+    if (pending.getAndIncrement() == 0) {
+      do {
+        int index = next.getAndIncrement();
+        if (index < tasks.length && !done.get()) {
+          start(index);
+        }
+      } while (pending.decrementAndGet() > 0);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void start(int index) {
+    Running<A> current = start.apply((T) tasks[index]);
+    running.set(index, current);
+    current.onComplete(result -> completed(index, result));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void completed(int index, Try<A> result) {
+    if (result.isFailure()) {
+      if (done.compareAndSet(false, true)) {
+        cancelAll();
+        callback.accept(Try.failure(result.getCause()));
+      }
+    } else {
+      results[index] = result.get();
+      if (remaining.decrementAndGet() == 0) {
+        if (done.compareAndSet(false, true)) {
+          callback.accept(Try.success(ImmutableList.from(Arrays.asList((A[]) results))));
+        }
+      } else {
+        startNext();
+      }
+    }
+  }
+
+  private void cancelAll() {
+    for (int i = 0; i < running.length(); i++) {
+      Running<A> current = running.get(i);
+      if (current != null) {
+        current.cancel();
+      }
+    }
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+import com.github.tonivade.purefun.Equal;
+
+/**
+ * Immutable sequence of {@code double} values backed by a primitive array, so the values are never boxed.
+ * The operations use the primitive functional interfaces of the JDK for the same reason.
+ */
+public final class DoubleSequence implements Serializable {
+
+  private static final long serialVersionUID = -1438810928461337052L;
+
+  private static final DoubleSequence EMPTY = new DoubleSequence(new double[0]);
+
+  private static final Equal<DoubleSequence> EQUAL =
+      Equal.<DoubleSequence>of().append((a, b) -> Arrays.equals(a.values, b.values));
+
+  private final double[] values;
+
+  private DoubleSequence(double[] values) {
+    this.values = values;
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  public double get(int index) {
+    return values[index];
+  }
+
+  public boolean contains(double value) {
+    return indexOf(value) >= 0;
+  }
+
+  public int indexOf(double value) {
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  public DoubleSequence append(double value) {
+    double[] newValues = Arrays.copyOf(values, values.length + 1);
+    newValues[values.length] = value;
+    return new DoubleSequence(newValues);
+  }
+
+  public DoubleSequence appendAll(DoubleSequence other) {
+    if (other.isEmpty()) {
+      return this;
+    }
+    if (isEmpty()) {
+      return other;
+    }
+    double[] newValues = Arrays.copyOf(values, values.length + other.values.length);
+    System.arraycopy(other.values, 0, newValues, values.length, other.values.length);
+    return new DoubleSequence(newValues);
+  }
+
+  public DoubleSequence map(DoubleUnaryOperator mapper) {
+    checkNonNull(mapper);
+    double[] newValues = new double[values.length];
+    for (int i = 0; i < values.length; i++) {
+      newValues[i] = mapper.applyAsDouble(values[i]);
+    }
+    return of(newValues, newValues.length);
+  }
+
+  public <T> ImmutableArray<T> mapToObj(DoubleFunction<T> mapper) {
+    checkNonNull(mapper);
+    ImmutableArray.Transient<T> result = ImmutableArray.<T>empty().toTransient();
+    for (double value : values) {
+      result.append(mapper.apply(value));
+    }
+    return result.persistent();
+  }
+
+  public DoubleSequence filter(DoublePredicate matcher) {
+    checkNonNull(matcher);
+    double[] newValues = new double[values.length];
+    int size = 0;
+    for (double value : values) {
+      if (matcher.test(value)) {
+        newValues[size++] = value;
+      }
+    }
+    return size == values.length ? this : of(newValues, size);
+  }
+
+  public DoubleSequence filterNot(DoublePredicate matcher) {
+    return filter(matcher.negate());
+  }
+
+  public double fold(double initial, DoubleBinaryOperator operator) {
+    checkNonNull(operator);
+    double result = initial;
+    for (double value : values) {
+      result = operator.applyAsDouble(result, value);
+    }
+    return result;
+  }
+
+  // uses Kahan summation to reduce the accumulated rounding error
+  public double sum() {
+    double sum = 0;
+    double compensation = 0;
+    for (double value : values) {
+      double y = value - compensation;
+      double t = sum + y;
+      compensation = (t - sum) - y;
+      sum = t;
+    }
+    return sum;
+  }
+
+  public DoubleSequence sort() {
+    double[] newValues = values.clone();
+    Arrays.sort(newValues);
+    return new DoubleSequence(newValues);
+  }
+
+  /**
+   * Same as {@link Arrays#binarySearch(double[], double)}, the sequence should be sorted.
+   */
+  public int binarySearch(double value) {
+    return Arrays.binarySearch(values, value);
+  }
+
+  public void forEach(DoubleConsumer consumer) {
+    checkNonNull(consumer);
+    for (double value : values) {
+      consumer.accept(value);
+    }
+  }
+
+  public PrimitiveIterator.OfDouble iterator() {
+    return new PrimitiveIterator.OfDouble() {
+
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < values.length;
+      }
+
+      @Override
+      public double nextDouble() {
+        if (index >= values.length) {
+          throw new NoSuchElementException();
+        }
+        return values[index++];
+      }
+    };
+  }
+
+  public DoubleStream stream() {
+    return Arrays.stream(values);
+  }
+
+  public double[] toArray() {
+    return values.clone();
+  }
+
+  public ImmutableArray<Double> toSequence() {
+    return mapToObj(Double::valueOf);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return EQUAL.applyTo(this, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return "DoubleSequence(" + Arrays.toString(values) + ")";
+  }
+
+  public static DoubleSequence empty() {
+    return EMPTY;
+  }
+
+  public static DoubleSequence of(double... values) {
+    return of(values.clone(), values.length);
+  }
+
+  public static DoubleSequence from(DoubleStream stream) {
+    double[] values = stream.toArray();
+    return of(values, values.length);
+  }
+
+  public static DoubleSequence from(Iterable<Double> values) {
+    double[] result = new double[16];
+    int size = 0;
+    for (Double value : values) {
+      if (size == result.length) {
+        result = Arrays.copyOf(result, size * 2);
+      }
+      result[size++] = checkNonNull(value);
+    }
+    return of(result, size);
+  }
+
+  private static DoubleSequence of(double[] values, int size) {
+    if (size == 0) {
+      return EMPTY;
+    }
+    return new DoubleSequence(size == values.length ? values : Arrays.copyOf(values, size));
+  }
+}
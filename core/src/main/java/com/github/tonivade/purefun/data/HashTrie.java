@@ -0,0 +1,558 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Persistent hash array mapped trie. Every level of the trie consumes 5 bits of the hash of the key, and the
+ * nodes only allocate space for the children that exist, using a bitmap to locate them. Updates copy only
+ * the path from the root to the modified leaf, the rest of the trie is shared with the previous version.
+ * A transient version of the trie marks the nodes it copies with its own token, and updates these nodes
+ * in place instead of copying them again.
+ */
+final class HashTrie<K, V> implements Serializable {
+
+  private static final long serialVersionUID = 6043562880640036540L;
+
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+  private static final int MAX_DEPTH = 8;
+
+  private static final HashTrie<?, ?> EMPTY = new HashTrie<>(new BitmapNode<>(null, 0, newArray(0)), 0);
+
+  private final BitmapNode<K, V> root;
+  private final int size;
+
+  private HashTrie(BitmapNode<K, V> root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <K, V> HashTrie<K, V> empty() {
+    return (HashTrie<K, V>) EMPTY;
+  }
+
+  int size() {
+    return size;
+  }
+
+  Leaf<K, V> find(Object key) {
+    return root.find(key, hash(key), 0);
+  }
+
+  HashTrie<K, V> put(K key, V value) {
+    Leaf<K, V> current = find(key);
+    if (current != null && current.value == value) {
+      return this;
+    }
+    Node<K, V> newRoot = root.put(new Leaf<>(hash(key), key, value), 0, null);
+    return new HashTrie<>((BitmapNode<K, V>) newRoot, current == null ? size + 1 : size);
+  }
+
+  HashTrie<K, V> remove(Object key) {
+    if (find(key) == null) {
+      return this;
+    }
+    Node<K, V> newRoot = root.remove(key, hash(key), 0, null);
+    return newRoot == null ? empty() : new HashTrie<>((BitmapNode<K, V>) newRoot, size - 1);
+  }
+
+  Iterator<Leaf<K, V>> iterator() {
+    return new LeafIterator<>(root);
+  }
+
+  Spliterator<K> keySpliterator() {
+    return new KeySpliterator<>(root, size);
+  }
+
+  Transient<K, V> toTransient() {
+    return new Transient<>(root, size);
+  }
+
+  boolean sameEntries(HashTrie<?, ?> other) {
+    if (size != other.size) {
+      return false;
+    }
+    for (Iterator<Leaf<K, V>> iterator = iterator(); iterator.hasNext();) {
+      Leaf<K, V> leaf = iterator.next();
+      Leaf<?, ?> found = other.find(leaf.key);
+      if (found == null || !Objects.equals(leaf.value, found.value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int hash(Object key) {
+    return Objects.hashCode(key);
+  }
+
+  private static int index(int hash, int shift) {
+    return (hash >>> shift) & MASK;
+  }
+
+  abstract static class Node<K, V> implements Serializable {
+
+    private static final long serialVersionUID = -5276547466426440390L;
+
+    abstract Leaf<K, V> find(Object key, int hash, int shift);
+
+    // nodes owned by the given edit token are modified in place
+    abstract Node<K, V> put(Leaf<K, V> leaf, int shift, Object edit);
+
+    // returns null when the node becomes empty
+    abstract Node<K, V> remove(Object key, int hash, int shift, Object edit);
+
+    abstract int arity();
+
+    abstract Node<K, V> child(int index);
+  }
+
+  static final class Leaf<K, V> extends Node<K, V> {
+
+    private static final long serialVersionUID = 3307214474588524186L;
+
+    private final int hash;
+    final K key;
+    final V value;
+
+    private Leaf(int hash, K key, V value) {
+      this.hash = hash;
+      this.key = key;
+      this.value = value;
+    }
+
+    private boolean matches(Object key, int hash) {
+      return this.hash == hash && Objects.equals(this.key, key);
+    }
+
+    @Override
+    Leaf<K, V> find(Object key, int hash, int shift) {
+      return matches(key, hash) ? this : null;
+    }
+
+    @Override
+    Node<K, V> put(Leaf<K, V> leaf, int shift, Object edit) {
+      if (matches(leaf.key, leaf.hash)) {
+        return leaf;
+      }
+      return merge(this, hash, leaf, shift, edit);
+    }
+
+    @Override
+    Node<K, V> remove(Object key, int hash, int shift, Object edit) {
+      return matches(key, hash) ? null : this;
+    }
+
+    @Override
+    int arity() {
+      return 0;
+    }
+
+    @Override
+    Node<K, V> child(int index) {
+      throw new IndexOutOfBoundsException();
+    }
+  }
+
+  static final class BitmapNode<K, V> extends Node<K, V> {
+
+    private static final long serialVersionUID = -8406421432931462385L;
+
+    private final transient Object edit;
+    private int bitmap;
+    private Node<K, V>[] children;
+
+    private BitmapNode(Object edit, int bitmap, Node<K, V>[] children) {
+      this.edit = edit;
+      this.bitmap = bitmap;
+      this.children = children;
+    }
+
+    @Override
+    Leaf<K, V> find(Object key, int hash, int shift) {
+      int bit = 1 << index(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      return children[position(bit)].find(key, hash, shift + BITS);
+    }
+
+    @Override
+    Node<K, V> put(Leaf<K, V> leaf, int shift, Object edit) {
+      int bit = 1 << index(leaf.hash, shift);
+      int position = position(bit);
+      if ((bitmap & bit) == 0) {
+        Node<K, V>[] newChildren = newArray(children.length + 1);
+        System.arraycopy(children, 0, newChildren, 0, position);
+        newChildren[position] = leaf;
+        System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+        return update(edit, bitmap | bit, newChildren);
+      }
+      Node<K, V> newChild = children[position].put(leaf, shift + BITS, edit);
+      if (isOwner(edit)) {
+        children[position] = newChild;
+        return this;
+      }
+      Node<K, V>[] newChildren = children.clone();
+      newChildren[position] = newChild;
+      return new BitmapNode<>(edit, bitmap, newChildren);
+    }
+
+    @Override
+    Node<K, V> remove(Object key, int hash, int shift, Object edit) {
+      int bit = 1 << index(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int position = position(bit);
+      Node<K, V> child = children[position];
+      Node<K, V> newChild = child.remove(key, hash, shift + BITS, edit);
+      if (newChild == child) {
+        return this;
+      }
+      if (newChild != null) {
+        if (shift > 0 && children.length == 1 && newChild instanceof Leaf) {
+          return newChild;
+        }
+        if (isOwner(edit)) {
+          children[position] = newChild;
+          return this;
+        }
+        Node<K, V>[] newChildren = children.clone();
+        newChildren[position] = newChild;
+        return new BitmapNode<>(edit, bitmap, newChildren);
+      }
+      if (children.length == 1) {
+        return null;
+      }
+      if (shift > 0 && children.length == 2 && children[position ^ 1] instanceof Leaf) {
+        return children[position ^ 1];
+      }
+      Node<K, V>[] newChildren = newArray(children.length - 1);
+      System.arraycopy(children, 0, newChildren, 0, position);
+      System.arraycopy(children, position + 1, newChildren, position, children.length - position - 1);
+      return update(edit, bitmap & ~bit, newChildren);
+    }
+
+    @Override
+    int arity() {
+      return children.length;
+    }
+
+    @Override
+    Node<K, V> child(int index) {
+      return children[index];
+    }
+
+    private int position(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    private boolean isOwner(Object edit) {
+      return edit != null && this.edit == edit;
+    }
+
+    private BitmapNode<K, V> update(Object edit, int newBitmap, Node<K, V>[] newChildren) {
+      if (isOwner(edit)) {
+        this.bitmap = newBitmap;
+        this.children = newChildren;
+        return this;
+      }
+      return new BitmapNode<>(edit, newBitmap, newChildren);
+    }
+  }
+
+  static final class CollisionNode<K, V> extends Node<K, V> {
+
+    private static final long serialVersionUID = 1856342553264306233L;
+
+    private final int hash;
+    private final Leaf<K, V>[] leaves;
+
+    private CollisionNode(int hash, Leaf<K, V>[] leaves) {
+      this.hash = hash;
+      this.leaves = leaves;
+    }
+
+    @Override
+    Leaf<K, V> find(Object key, int hash, int shift) {
+      for (Leaf<K, V> leaf : leaves) {
+        if (leaf.matches(key, hash)) {
+          return leaf;
+        }
+      }
+      return null;
+    }
+
+    @Override
+    Node<K, V> put(Leaf<K, V> leaf, int shift, Object edit) {
+      if (leaf.hash != hash) {
+        return merge(this, hash, leaf, shift, edit);
+      }
+      for (int i = 0; i < leaves.length; i++) {
+        if (leaves[i].matches(leaf.key, leaf.hash)) {
+          Leaf<K, V>[] newLeaves = leaves.clone();
+          newLeaves[i] = leaf;
+          return new CollisionNode<>(hash, newLeaves);
+        }
+      }
+      Leaf<K, V>[] newLeaves = newLeaves(leaves.length + 1);
+      System.arraycopy(leaves, 0, newLeaves, 0, leaves.length);
+      newLeaves[leaves.length] = leaf;
+      return new CollisionNode<>(hash, newLeaves);
+    }
+
+    @Override
+    Node<K, V> remove(Object key, int hash, int shift, Object edit) {
+      for (int i = 0; i < leaves.length; i++) {
+        if (leaves[i].matches(key, hash)) {
+          if (leaves.length == 2) {
+            return leaves[i ^ 1];
+          }
+          Leaf<K, V>[] newLeaves = newLeaves(leaves.length - 1);
+          System.arraycopy(leaves, 0, newLeaves, 0, i);
+          System.arraycopy(leaves, i + 1, newLeaves, i, leaves.length - i - 1);
+          return new CollisionNode<>(hash, newLeaves);
+        }
+      }
+      return this;
+    }
+
+    @Override
+    int arity() {
+      return leaves.length;
+    }
+
+    @Override
+    Node<K, V> child(int index) {
+      return leaves[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Leaf<K, V>[] newLeaves(int length) {
+      return (Leaf<K, V>[]) new Leaf<?, ?>[length];
+    }
+  }
+
+  // the current node is a leaf or a collision node with the given hash, and the keys are different
+  private static <K, V> Node<K, V> merge(Node<K, V> current, int currentHash, Leaf<K, V> leaf, int shift, Object edit) {
+    if (currentHash == leaf.hash) {
+      Leaf<K, V>[] leaves = CollisionNode.newLeaves(2);
+      leaves[0] = (Leaf<K, V>) current;
+      leaves[1] = leaf;
+      return new CollisionNode<>(leaf.hash, leaves);
+    }
+    int currentIndex = index(currentHash, shift);
+    int leafIndex = index(leaf.hash, shift);
+    if (currentIndex == leafIndex) {
+      Node<K, V>[] children = newArray(1);
+      children[0] = merge(current, currentHash, leaf, shift + BITS, edit);
+      return new BitmapNode<>(edit, 1 << currentIndex, children);
+    }
+    Node<K, V>[] children = newArray(2);
+    children[currentIndex < leafIndex ? 0 : 1] = current;
+    children[currentIndex < leafIndex ? 1 : 0] = leaf;
+    return new BitmapNode<>(edit, (1 << currentIndex) | (1 << leafIndex), children);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K, V> Node<K, V>[] newArray(int length) {
+    return (Node<K, V>[]) new Node<?, ?>[length];
+  }
+
+  /**
+   * Mutable version of the trie. It should be used by a single thread, and it cannot be used anymore after
+   * calling {@code persistent()}.
+   */
+  static final class Transient<K, V> {
+
+    private Object edit = new Object();
+    private BitmapNode<K, V> root;
+    private int size;
+
+    private Transient(BitmapNode<K, V> root, int size) {
+      this.root = root;
+      this.size = size;
+    }
+
+    int size() {
+      return size;
+    }
+
+    Leaf<K, V> find(Object key) {
+      ensureEditable();
+      return root.find(key, hash(key), 0);
+    }
+
+    void put(K key, V value) {
+      Leaf<K, V> current = find(key);
+      if (current != null && current.value == value) {
+        return;
+      }
+      root = (BitmapNode<K, V>) root.put(new Leaf<>(hash(key), key, value), 0, edit);
+      if (current == null) {
+        size++;
+      }
+    }
+
+    void remove(Object key) {
+      if (find(key) == null) {
+        return;
+      }
+      Node<K, V> newRoot = root.remove(key, hash(key), 0, edit);
+      root = newRoot == null ? HashTrie.<K, V>empty().root : (BitmapNode<K, V>) newRoot;
+      size--;
+    }
+
+    HashTrie<K, V> persistent() {
+      ensureEditable();
+      edit = null;
+      return size == 0 ? empty() : new HashTrie<>(root, size);
+    }
+
+    private void ensureEditable() {
+      if (edit == null) {
+        throw new IllegalStateException("transient used after persistent");
+      }
+    }
+  }
+
+  private static final class LeafIterator<K, V> implements Iterator<Leaf<K, V>> {
+
+    private final Object[] nodes = new Object[MAX_DEPTH + 1];
+    private final int[] positions = new int[MAX_DEPTH + 1];
+    private int depth;
+    private Leaf<K, V> next;
+
+    private LeafIterator(Node<K, V> root) {
+      nodes[0] = root;
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public Leaf<K, V> next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+      Leaf<K, V> current = next;
+      advance();
+      return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void advance() {
+      next = null;
+      while (depth >= 0) {
+        Node<K, V> node = (Node<K, V>) nodes[depth];
+        if (positions[depth] == node.arity()) {
+          nodes[depth] = null;
+          depth--;
+          continue;
+        }
+        Node<K, V> child = node.child(positions[depth]++);
+        if (child instanceof Leaf) {
+          next = (Leaf<K, V>) child;
+          return;
+        }
+        depth++;
+        nodes[depth] = child;
+        positions[depth] = 0;
+      }
+    }
+  }
+
+  /**
+   * Splits the trie by its sub-nodes, the first half of the pending nodes goes to the new spliterator.
+   * The size of a sub-node is not known, so after splitting the size is an estimate. Once the traversal
+   * starts it can not be split anymore.
+   */
+  private static final class KeySpliterator<K, V> implements Spliterator<K> {
+
+    private final Deque<Node<K, V>> nodes = new ArrayDeque<>();
+    private Iterator<Leaf<K, V>> iterator;
+    private long estimate;
+    private boolean sized = true;
+
+    private KeySpliterator(Node<K, V> root, long estimate) {
+      this.nodes.add(root);
+      this.estimate = estimate;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super K> action) {
+      while (true) {
+        if (iterator != null && iterator.hasNext()) {
+          action.accept(iterator.next().key);
+          return true;
+        }
+        Node<K, V> node = nodes.poll();
+        if (node == null) {
+          return false;
+        }
+        if (node instanceof Leaf) {
+          action.accept(((Leaf<K, V>) node).key);
+          return true;
+        }
+        iterator = new LeafIterator<>(node);
+      }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super K> action) {
+      while (tryAdvance(action)) {
+        // nothing to do
+      }
+    }
+
+    @Override
+    public Spliterator<K> trySplit() {
+      if (iterator != null) {
+        return null;
+      }
+      while (nodes.size() == 1 && nodes.peek().arity() > 0) {
+        Node<K, V> node = nodes.poll();
+        for (int i = 0; i < node.arity(); i++) {
+          nodes.add(node.child(i));
+        }
+      }
+      if (nodes.size() < 2) {
+        return null;
+      }
+      KeySpliterator<K, V> prefix = new KeySpliterator<>(nodes.poll(), estimate / 2);
+      for (int i = nodes.size() / 2; i > 0; i--) {
+        prefix.nodes.add(nodes.poll());
+      }
+      prefix.sized = false;
+      estimate -= prefix.estimate;
+      sized = false;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+      return DISTINCT | IMMUTABLE | (sized ? SIZED : 0);
+    }
+  }
+}
@@ -4,9 +4,8 @@
  */
 package com.github.tonivade.purefun.data;
 
-import static java.util.Collections.emptyList;
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
 import static java.util.Collections.unmodifiableList;
-import static java.util.stream.Collectors.collectingAndThen;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -16,8 +15,9 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.github.tonivade.purefun.Equal;
@@ -47,23 +47,39 @@ public interface ImmutableArray<E> extends Sequence<E> {
   ImmutableArray<E> insert(int position, E element);
   ImmutableArray<E> insertAll(int position, Sequence<E> elements);
 
-  default ImmutableArray<E> drop(int n) {
-    return ImmutableArray.from(stream().skip(n));
+  ImmutableArray<E> drop(int n);
+
+  default Transient<E> toTransient() {
+    return ImmutableArray.<E>empty().toTransient().appendAll(this);
   }
 
   @Override
   default <R> ImmutableArray<R> map(Function1<E, R> mapper) {
-    return ImmutableArray.from(stream().map(mapper::apply));
+    Transient<R> result = ImmutableArray.<R>empty().toTransient();
+    for (E element : this) {
+      result.append(mapper.apply(element));
+    }
+    return result.persistent();
   }
 
   @Override
   default <R> ImmutableArray<R> flatMap(Function1<E, Sequence<R>> mapper) {
-    return ImmutableArray.from(stream().flatMap(mapper.andThen(Sequence::stream)::apply));
+    Transient<R> result = ImmutableArray.<R>empty().toTransient();
+    for (E element : this) {
+      result.appendAll(mapper.apply(element));
+    }
+    return result.persistent();
   }
 
   @Override
   default ImmutableArray<E> filter(Matcher1<E> matcher) {
-    return ImmutableArray.from(stream().filter(matcher::match));
+    Transient<E> result = ImmutableArray.<E>empty().toTransient();
+    for (E element : this) {
+      if (matcher.match(element)) {
+        result.append(element);
+      }
+    }
+    return result.persistent();
   }
 
   @Override
@@ -71,27 +87,238 @@ public interface ImmutableArray<E> extends Sequence<E> {
     return filter(matcher.negate());
   }
 
+  @Override
+  default <R> ImmutableArray<R> parMap(Function1<E, R> mapper) {
+    return parMap(ForkJoinPool.commonPool(), mapper);
+  }
+
+  @Override
+  default <R> ImmutableArray<R> parMap(ForkJoinPool pool, Function1<E, R> mapper) {
+    checkNonNull(mapper);
+    return Parallel.run(this, pool, stream -> stream.map(mapper::apply).collect(toImmutableArray()));
+  }
+
+  @Override
+  default ImmutableArray<E> parFilter(Matcher1<E> matcher) {
+    return parFilter(ForkJoinPool.commonPool(), matcher);
+  }
+
+  @Override
+  default ImmutableArray<E> parFilter(ForkJoinPool pool, Matcher1<E> matcher) {
+    checkNonNull(matcher);
+    return Parallel.run(this, pool, stream -> stream.filter(matcher::match).collect(toImmutableArray()));
+  }
+
   static <T> ImmutableArray<T> from(Iterable<T> iterable) {
-    return from(Sequence.asStream(iterable.iterator()));
+    return ImmutableArray.<T>empty().toTransient().appendAll(iterable).persistent();
   }
 
   static <T> ImmutableArray<T> from(Stream<T> stream) {
-    return new JavaBasedImmutableArray<>(stream.collect(Collectors.toList()));
+    return stream.collect(toImmutableArray());
   }
 
   @SafeVarargs
   static <T> ImmutableArray<T> of(T... elements) {
-    return new JavaBasedImmutableArray<>(Arrays.asList(elements));
+    return VectorBasedImmutableArray.from(PersistentVector.from(elements.clone()));
   }
 
   static <T> ImmutableArray<T> empty() {
-    return new JavaBasedImmutableArray<>(emptyList());
+    return VectorBasedImmutableArray.from(PersistentVector.empty());
   }
 
   static <E> Collector<E, ?, ImmutableArray<E>> toImmutableArray() {
-    return collectingAndThen(Collectors.toList(), JavaBasedImmutableArray::new);
+    return Collector.of(() -> ImmutableArray.<E>empty().toTransient(), Transient::append,
+        (a, b) -> a.persistent().appendAll(b.persistent()).toTransient(), Transient::persistent);
+  }
+
+  /**
+   * Mutable builder of a {@code ImmutableArray}. The elements are appended in place, without copying the structure
+   * for each element, and {@code persistent()} returns the resulting array without copying the elements.
+   * A transient should be used by a single thread, and it cannot be used anymore after calling
+   * {@code persistent()}.
+   */
+  final class Transient<E> {
+
+    private final PersistentVector.Transient<E> backend;
+
+    private Transient(PersistentVector.Transient<E> backend) {
+      this.backend = backend;
+    }
+
+    public int size() {
+      return backend.size();
+    }
+
+    public Transient<E> append(E element) {
+      backend.append(element);
+      return this;
+    }
+
+    public Transient<E> appendAll(Iterable<? extends E> elements) {
+      for (E element : elements) {
+        backend.append(element);
+      }
+      return this;
+    }
+
+    public ImmutableArray<E> persistent() {
+      return VectorBasedImmutableArray.from(backend.persistent());
+    }
   }
 
+  final class VectorBasedImmutableArray<E> implements ImmutableArray<E>, Serializable {
+
+    private static final long serialVersionUID = 5728385935547829871L;
+
+    private static final ImmutableArray<?> EMPTY = new VectorBasedImmutableArray<>(PersistentVector.empty());
+
+    private static final Equal<VectorBasedImmutableArray<?>> EQUAL =
+        Equal.<VectorBasedImmutableArray<?>>of().comparing(a -> a.backend);
+
+    private final PersistentVector<E> backend;
+
+    private VectorBasedImmutableArray(PersistentVector<E> backend) {
+      this.backend = backend;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> ImmutableArray<E> from(PersistentVector<E> backend) {
+      return backend.size() == 0 ? (ImmutableArray<E>) EMPTY : new VectorBasedImmutableArray<>(backend);
+    }
+
+    @Override
+    public Transient<E> toTransient() {
+      return new Transient<>(backend.toTransient());
+    }
+
+    @Override
+    public int size() {
+      return backend.size();
+    }
+
+    @Override
+    public boolean contains(E element) {
+      return backend.indexOf(element) >= 0;
+    }
+
+    @Override
+    public ImmutableArray<E> reverse() {
+      Object[] array = backend.toArray();
+      Collections.reverse(Arrays.asList(array));
+      return from(PersistentVector.from(array));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ImmutableArray<E> sort(Comparator<E> comparator) {
+      Object[] array = backend.toArray();
+      Arrays.sort(array, (Comparator<Object>) comparator);
+      return from(PersistentVector.from(array));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      return backend.iterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+      return backend.spliterator();
+    }
+
+    @Override
+    public ImmutableArray<E> append(E element) {
+      return from(backend.append(element));
+    }
+
+    @Override
+    public ImmutableArray<E> remove(E element) {
+      int index = backend.indexOf(element);
+      return index < 0 ? this : from(backend.remove(index));
+    }
+
+    @Override
+    public ImmutableArray<E> appendAll(Sequence<E> other) {
+      return update(backend.concat(toVector(other)));
+    }
+
+    @Override
+    public ImmutableArray<E> removeAll(Sequence<E> other) {
+      return filterNot(new SequenceCollection<>(other)::contains);
+    }
+
+    @Override
+    public E get(int position) {
+      return backend.get(position);
+    }
+
+    @Override
+    public ImmutableArray<E> replace(int position, E element) {
+      return from(backend.set(position, element));
+    }
+
+    @Override
+    public ImmutableArray<E> remove(int position) {
+      return from(backend.remove(position));
+    }
+
+    @Override
+    public ImmutableArray<E> insert(int position, E element) {
+      return from(backend.insert(position, element));
+    }
+
+    @Override
+    public ImmutableArray<E> insertAll(int position, Sequence<E> elements) {
+      if (position < 0 || position > size()) {
+        throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size());
+      }
+      return update(backend.take(position).concat(toVector(elements)).concat(backend.drop(position)));
+    }
+
+    @Override
+    public ImmutableArray<E> drop(int n) {
+      return update(backend.drop(n));
+    }
+
+    @Override
+    public List<E> toList() {
+      List<E> list = new ArrayList<>(size());
+      forEach(list::add);
+      return list;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(backend);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return EQUAL.applyTo(this, obj);
+    }
+
+    @Override
+    public String toString() {
+      return "ImmutableArray(" + Arrays.toString(backend.toArray()) + ")";
+    }
+
+    private ImmutableArray<E> update(PersistentVector<E> newBackend) {
+      return newBackend == backend ? this : from(newBackend);
+    }
+
+    private static <E> PersistentVector<E> toVector(Sequence<E> sequence) {
+      if (sequence instanceof VectorBasedImmutableArray) {
+        return ((VectorBasedImmutableArray<E>) sequence).backend;
+      }
+      return PersistentVector.from(PersistentVector.toArray(sequence));
+    }
+  }
+
+  /**
+   * @deprecated the factories return {@link VectorBasedImmutableArray} now, this implementation is kept
+   * for the code that refers to it and to read its serialized form.
+   */
+  @Deprecated
   final class JavaBasedImmutableArray<E> implements ImmutableArray<E>, Serializable {
 
     private static final long serialVersionUID = 5728385935547829871L;
@@ -174,6 +401,11 @@ public interface ImmutableArray<E> extends Sequence<E> {
       return new JavaBasedImmutableArray<>(list);
     }
 
+    @Override
+    public ImmutableArray<E> drop(int n) {
+      return ImmutableArray.from(stream().skip(n));
+    }
+
     @Override
     public ImmutableArray<E> remove(int position) {
       List<E> list = toList();
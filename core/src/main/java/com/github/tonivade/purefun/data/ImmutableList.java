@@ -4,9 +4,8 @@
  */
 package com.github.tonivade.purefun.data;
 
-import static java.util.Collections.emptyList;
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
 import static java.util.Collections.unmodifiableList;
-import static java.util.stream.Collectors.collectingAndThen;
 
 import java.io.Serializable;
 import java.util.Arrays;
@@ -16,8 +15,9 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.github.tonivade.purefun.Equal;
@@ -54,19 +54,37 @@ public interface ImmutableList<E> extends Sequence<E> {
     return ImmutableList.from(stream().skip(n));
   }
 
+  default Transient<E> toTransient() {
+    return ImmutableList.<E>empty().toTransient().appendAll(this);
+  }
+
   @Override
   default <R> ImmutableList<R> map(Function1<E, R> mapper) {
-    return ImmutableList.from(stream().map(mapper::apply));
+    Transient<R> result = ImmutableList.<R>empty().toTransient();
+    for (E element : this) {
+      result.append(mapper.apply(element));
+    }
+    return result.persistent();
   }
 
   @Override
   default <R> ImmutableList<R> flatMap(Function1<E, Sequence<R>> mapper) {
-    return ImmutableList.from(stream().flatMap(mapper.andThen(Sequence::stream)::apply));
+    Transient<R> result = ImmutableList.<R>empty().toTransient();
+    for (E element : this) {
+      result.appendAll(mapper.apply(element));
+    }
+    return result.persistent();
   }
 
   @Override
   default ImmutableList<E> filter(Matcher1<E> matcher) {
-    return ImmutableList.from(stream().filter(matcher::match));
+    Transient<E> result = ImmutableList.<E>empty().toTransient();
+    for (E element : this) {
+      if (matcher.match(element)) {
+        result.append(element);
+      }
+    }
+    return result.persistent();
   }
 
   @Override
@@ -74,27 +92,211 @@ public interface ImmutableList<E> extends Sequence<E> {
     return filter(matcher.negate());
   }
 
+  @Override
+  default <R> ImmutableList<R> parMap(Function1<E, R> mapper) {
+    return parMap(ForkJoinPool.commonPool(), mapper);
+  }
+
+  @Override
+  default <R> ImmutableList<R> parMap(ForkJoinPool pool, Function1<E, R> mapper) {
+    checkNonNull(mapper);
+    return Parallel.run(this, pool, stream -> stream.map(mapper::apply).collect(toImmutableList()));
+  }
+
+  @Override
+  default ImmutableList<E> parFilter(Matcher1<E> matcher) {
+    return parFilter(ForkJoinPool.commonPool(), matcher);
+  }
+
+  @Override
+  default ImmutableList<E> parFilter(ForkJoinPool pool, Matcher1<E> matcher) {
+    checkNonNull(matcher);
+    return Parallel.run(this, pool, stream -> stream.filter(matcher::match).collect(toImmutableList()));
+  }
+
   static <T> ImmutableList<T> from(Iterable<T> iterable) {
-    return from(Sequence.asStream(iterable.iterator()));
+    return ImmutableList.<T>empty().toTransient().appendAll(iterable).persistent();
   }
 
   static <T> ImmutableList<T> from(Stream<T> stream) {
-    return new JavaBasedImmutableList<>(stream.collect(Collectors.toList()));
+    return stream.collect(toImmutableList());
   }
 
   @SafeVarargs
   static <T> ImmutableList<T> of(T... elements) {
-    return new JavaBasedImmutableList<>(Arrays.asList(elements));
+    return VectorBasedImmutableList.from(PersistentVector.from(elements.clone()));
   }
 
   static <T> ImmutableList<T> empty() {
-    return new JavaBasedImmutableList<>(emptyList());
+    return VectorBasedImmutableList.from(PersistentVector.empty());
   }
 
   static <E> Collector<E, ?, ImmutableList<E>> toImmutableList() {
-    return collectingAndThen(Collectors.toList(), JavaBasedImmutableList::new);
+    return Collector.of(() -> ImmutableList.<E>empty().toTransient(), Transient::append,
+        (a, b) -> a.persistent().appendAll(b.persistent()).toTransient(), Transient::persistent);
+  }
+
+  /**
+   * Mutable builder of a {@code ImmutableList}. The elements are appended in place, without copying the structure
+   * for each element, and {@code persistent()} returns the resulting list without copying the elements.
+   * A transient should be used by a single thread, and it cannot be used anymore after calling
+   * {@code persistent()}.
+   */
+  final class Transient<E> {
+
+    private final PersistentVector.Transient<E> backend;
+
+    private Transient(PersistentVector.Transient<E> backend) {
+      this.backend = backend;
+    }
+
+    public int size() {
+      return backend.size();
+    }
+
+    public Transient<E> append(E element) {
+      backend.append(element);
+      return this;
+    }
+
+    public Transient<E> appendAll(Iterable<? extends E> elements) {
+      for (E element : elements) {
+        backend.append(element);
+      }
+      return this;
+    }
+
+    public ImmutableList<E> persistent() {
+      return VectorBasedImmutableList.from(backend.persistent());
+    }
+  }
+
+  final class VectorBasedImmutableList<E> implements ImmutableList<E>, Serializable {
+
+    private static final long serialVersionUID = -7468103369804662814L;
+
+    private static final ImmutableList<?> EMPTY = new VectorBasedImmutableList<>(PersistentVector.empty());
+
+    private static final Equal<VectorBasedImmutableList<?>> EQUAL =
+        Equal.<VectorBasedImmutableList<?>>of().comparing(a -> a.backend);
+
+    private final PersistentVector<E> backend;
+
+    private VectorBasedImmutableList(PersistentVector<E> backend) {
+      this.backend = backend;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> ImmutableList<E> from(PersistentVector<E> backend) {
+      return backend.size() == 0 ? (ImmutableList<E>) EMPTY : new VectorBasedImmutableList<>(backend);
+    }
+
+    @Override
+    public Transient<E> toTransient() {
+      return new Transient<>(backend.toTransient());
+    }
+
+    @Override
+    public int size() {
+      return backend.size();
+    }
+
+    @Override
+    public boolean contains(E element) {
+      return backend.indexOf(element) >= 0;
+    }
+
+    @Override
+    public Option<E> head() {
+      return isEmpty() ? Option.none() : Option.of(backend.get(0));
+    }
+
+    @Override
+    public ImmutableList<E> drop(int n) {
+      return update(backend.drop(n));
+    }
+
+    @Override
+    public ImmutableList<E> reverse() {
+      Object[] array = backend.toArray();
+      Collections.reverse(Arrays.asList(array));
+      return from(PersistentVector.from(array));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ImmutableList<E> sort(Comparator<E> comparator) {
+      Object[] array = backend.toArray();
+      Arrays.sort(array, (Comparator<Object>) comparator);
+      return from(PersistentVector.from(array));
+    }
+
+    @Override
+    public ImmutableList<E> append(E element) {
+      return from(backend.append(element));
+    }
+
+    @Override
+    public ImmutableList<E> remove(E element) {
+      int index = backend.indexOf(element);
+      return index < 0 ? this : from(backend.remove(index));
+    }
+
+    @Override
+    public ImmutableList<E> appendAll(Sequence<E> other) {
+      if (other instanceof VectorBasedImmutableList) {
+        return update(backend.concat(((VectorBasedImmutableList<E>) other).backend));
+      }
+      return update(backend.concat(PersistentVector.from(PersistentVector.toArray(other))));
+    }
+
+    @Override
+    public ImmutableList<E> removeAll(Sequence<E> other) {
+      return filterNot(new SequenceCollection<>(other)::contains);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      return backend.iterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+      return backend.spliterator();
+    }
+
+    @Override
+    public List<E> toList() {
+      List<E> list = new LinkedList<>();
+      forEach(list::add);
+      return list;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(backend);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return EQUAL.applyTo(this, obj);
+    }
+
+    @Override
+    public String toString() {
+      return "ImmutableList(" + Arrays.toString(backend.toArray()) + ")";
+    }
+
+    private ImmutableList<E> update(PersistentVector<E> newBackend) {
+      return newBackend == backend ? this : from(newBackend);
+    }
   }
 
+  /**
+   * @deprecated the factories return {@link VectorBasedImmutableList} now, this implementation is kept
+   * for the code that refers to it and to read its serialized form.
+   */
+  @Deprecated
   final class JavaBasedImmutableList<E> implements ImmutableList<E>, Serializable {
 
     private static final long serialVersionUID = -7468103369804662814L;
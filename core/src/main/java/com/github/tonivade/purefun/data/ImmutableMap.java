@@ -5,14 +5,13 @@
 package com.github.tonivade.purefun.data;
 
 import static java.util.Collections.unmodifiableMap;
-import static java.util.Collections.emptyMap;
 
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.github.tonivade.purefun.Consumer2;
@@ -104,11 +103,15 @@ public interface ImmutableMap<K, V> extends Iterable<Tuple2<K, V>> {
   }
 
   static <K, V> ImmutableMap<K, V> from(Map<K, V> map) {
-    return new JavaBasedImmutableMap<>(map);
+    Builder<K, V> builder = builder();
+    for (Map.Entry<K, V> entry : map.entrySet()) {
+      builder.put(entry.getKey(), entry.getValue());
+    }
+    return builder.build();
   }
 
   static <K, V> ImmutableMap<K,V> empty() {
-    return new JavaBasedImmutableMap<>(emptyMap());
+    return TrieBasedImmutableMap.from(HashTrie.empty());
   }
 
   static <K, V> ImmutableMap<K, V> from(Stream<Tuple2<K, V>> entries) {
@@ -116,8 +119,11 @@ public interface ImmutableMap<K, V> extends Iterable<Tuple2<K, V>> {
   }
 
   static <K, V> ImmutableMap<K, V> from(ImmutableSet<Tuple2<K, V>> entries) {
-    return new JavaBasedImmutableMap<>(entries.stream()
-        .collect(Collectors.toMap(Tuple2::get1, Tuple2::get2)));
+    Builder<K, V> builder = builder();
+    for (Tuple2<K, V> entry : entries) {
+      builder.put(entry.get1(), entry.get2());
+    }
+    return builder.build();
   }
 
   static <K, V> Builder<K, V> builder() {
@@ -126,20 +132,147 @@ public interface ImmutableMap<K, V> extends Iterable<Tuple2<K, V>> {
 
   final class Builder<K, V> {
 
-    private final Map<K, V> map = new HashMap<>();
+    private final HashTrie.Transient<K, V> trie = HashTrie.<K, V>empty().toTransient();
 
     private Builder() { }
 
     public Builder<K, V> put(K key, V value) {
-      map.put(key, value);
+      trie.put(key, value);
       return this;
     }
 
     public ImmutableMap<K, V> build() {
-      return ImmutableMap.from(map);
+      return TrieBasedImmutableMap.from(trie.persistent());
+    }
+  }
+
+  final class TrieBasedImmutableMap<K, V> implements ImmutableMap<K, V>, Serializable {
+
+    private static final long serialVersionUID = -1236334562860351635L;
+
+    private static final ImmutableMap<?, ?> EMPTY = new TrieBasedImmutableMap<>(HashTrie.empty());
+
+    private static final Equal<TrieBasedImmutableMap<?, ?>> EQUAL =
+        Equal.<TrieBasedImmutableMap<?, ?>>of().append((a, b) -> a.backend.sameEntries(b.backend));
+
+    private final HashTrie<K, V> backend;
+
+    private TrieBasedImmutableMap(HashTrie<K, V> backend) {
+      this.backend = backend;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> ImmutableMap<K, V> from(HashTrie<K, V> backend) {
+      return backend.size() == 0 ? (ImmutableMap<K, V>) EMPTY : new TrieBasedImmutableMap<>(backend);
+    }
+
+    @Override
+    public Map<K, V> toMap() {
+      Map<K, V> map = new HashMap<>();
+      forEach(map::put);
+      return map;
+    }
+
+    @Override
+    public int size() {
+      return backend.size();
+    }
+
+    @Override
+    public ImmutableMap<K, V> put(K key, V value) {
+      return update(backend.put(key, value));
+    }
+
+    @Override
+    public ImmutableMap<K, V> remove(K key) {
+      return update(backend.remove(key));
+    }
+
+    @Override
+    public Option<V> get(K key) {
+      HashTrie.Leaf<K, V> leaf = backend.find(key);
+      return leaf == null ? Option.none() : Option.of(leaf.value);
+    }
+
+    @Override
+    public ImmutableMap<K, V> merge(K key, V value, Operator2<V> merger) {
+      HashTrie.Leaf<K, V> leaf = backend.find(key);
+      return put(key, leaf == null || leaf.value == null ? value : merger.apply(leaf.value, value));
+    }
+
+    @Override
+    public Sequence<V> values() {
+      return ImmutableList.from(Sequence.asStream(backend.iterator()).map(leaf -> leaf.value));
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public ImmutableSet<K> keys() {
+      return ImmutableSet.TrieBasedImmutableSet.from((HashTrie) backend);
+    }
+
+    @Override
+    public ImmutableSet<Tuple2<K, V>> entries() {
+      return ImmutableSet.from(Sequence.asStream(iterator()));
+    }
+
+    @Override
+    public Iterator<Tuple2<K, V>> iterator() {
+      Iterator<HashTrie.Leaf<K, V>> iterator = backend.iterator();
+      return new Iterator<Tuple2<K, V>>() {
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Tuple2<K, V> next() {
+          HashTrie.Leaf<K, V> leaf = iterator.next();
+          return Tuple.of(leaf.key, leaf.value);
+        }
+      };
+    }
+
+    @Override
+    public void forEach(Consumer2<K, V> consumer) {
+      for (Iterator<HashTrie.Leaf<K, V>> iterator = backend.iterator(); iterator.hasNext();) {
+        HashTrie.Leaf<K, V> leaf = iterator.next();
+        consumer.accept(leaf.key, leaf.value);
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 0;
+      for (Iterator<HashTrie.Leaf<K, V>> iterator = backend.iterator(); iterator.hasNext();) {
+        HashTrie.Leaf<K, V> leaf = iterator.next();
+        hashCode += Objects.hashCode(leaf.key) ^ Objects.hashCode(leaf.value);
+      }
+      return 31 + hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return EQUAL.applyTo(this, obj);
+    }
+
+    @Override
+    public String toString() {
+      Map<K, V> map = new LinkedHashMap<>();
+      forEach(map::put);
+      return "ImmutableMap(" + map + ")";
+    }
+
+    private ImmutableMap<K, V> update(HashTrie<K, V> newBackend) {
+      return newBackend == backend ? this : from(newBackend);
     }
   }
 
+  /**
+   * @deprecated the factories return {@link TrieBasedImmutableMap} now, this implementation is kept
+   * for the code that refers to it and to read its serialized form.
+   */
+  @Deprecated
   final class JavaBasedImmutableMap<K, V> implements ImmutableMap<K, V>, Serializable {
 
     private static final long serialVersionUID = -1236334562860351635L;
@@ -4,9 +4,8 @@
  */
 package com.github.tonivade.purefun.data;
 
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
 import static java.util.Collections.unmodifiableSet;
-import static java.util.Collections.emptySet;
-import static java.util.stream.Collectors.collectingAndThen;
 
 import java.io.Serializable;
 import java.util.Arrays;
@@ -14,8 +13,9 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.github.tonivade.purefun.Equal;
@@ -42,19 +42,37 @@ public interface ImmutableSet<E> extends Sequence<E> {
   ImmutableSet<E> intersection(ImmutableSet<E> other);
   ImmutableSet<E> difference(ImmutableSet<E> other);
 
+  default Transient<E> toTransient() {
+    return ImmutableSet.<E>empty().toTransient().appendAll(this);
+  }
+
   @Override
   default <R> ImmutableSet<R> map(Function1<E, R> mapper) {
-    return ImmutableSet.from(stream().map(mapper::apply));
+    Transient<R> result = ImmutableSet.<R>empty().toTransient();
+    for (E element : this) {
+      result.append(mapper.apply(element));
+    }
+    return result.persistent();
   }
 
   @Override
   default <R> ImmutableSet<R> flatMap(Function1<E, Sequence<R>> mapper) {
-    return ImmutableSet.from(stream().flatMap(mapper.andThen(Sequence::stream)::apply));
+    Transient<R> result = ImmutableSet.<R>empty().toTransient();
+    for (E element : this) {
+      result.appendAll(mapper.apply(element));
+    }
+    return result.persistent();
   }
 
   @Override
   default ImmutableSet<E> filter(Matcher1<E> matcher) {
-    return ImmutableSet.from(stream().filter(matcher::match));
+    Transient<E> result = ImmutableSet.<E>empty().toTransient();
+    for (E element : this) {
+      if (matcher.match(element)) {
+        result.append(element);
+      }
+    }
+    return result.persistent();
   }
 
   @Override
@@ -62,27 +80,247 @@ public interface ImmutableSet<E> extends Sequence<E> {
     return filter(matcher.negate());
   }
 
+  @Override
+  default <R> ImmutableSet<R> parMap(Function1<E, R> mapper) {
+    return parMap(ForkJoinPool.commonPool(), mapper);
+  }
+
+  @Override
+  default <R> ImmutableSet<R> parMap(ForkJoinPool pool, Function1<E, R> mapper) {
+    checkNonNull(mapper);
+    return Parallel.run(this, pool, stream -> stream.map(mapper::apply).collect(toImmutableSet()));
+  }
+
+  @Override
+  default ImmutableSet<E> parFilter(Matcher1<E> matcher) {
+    return parFilter(ForkJoinPool.commonPool(), matcher);
+  }
+
+  @Override
+  default ImmutableSet<E> parFilter(ForkJoinPool pool, Matcher1<E> matcher) {
+    checkNonNull(matcher);
+    return Parallel.run(this, pool, stream -> stream.filter(matcher::match).collect(toImmutableSet()));
+  }
+
   static <T> ImmutableSet<T> from(Iterable<T> iterable) {
-    return from(Sequence.asStream(iterable.iterator()));
+    return ImmutableSet.<T>empty().toTransient().appendAll(iterable).persistent();
   }
 
   static <T> ImmutableSet<T> from(Stream<T> stream) {
-    return new JavaBasedImmutableSet<>(stream.collect(Collectors.toSet()));
+    return stream.collect(toImmutableSet());
   }
 
+  /**
+   * Creates a set with the given elements, ignoring the duplicates. The order of the arguments is not kept,
+   * the set is iterated in the order of the hash codes of the elements.
+   */
   @SafeVarargs
   static <T> ImmutableSet<T> of(T... elements) {
-    return new JavaBasedImmutableSet<>(new LinkedHashSet<>(Arrays.asList(elements)));
+    return from(Arrays.asList(elements));
   }
 
   static <T> ImmutableSet<T> empty() {
-    return new JavaBasedImmutableSet<>(emptySet());
+    return TrieBasedImmutableSet.from(HashTrie.empty());
   }
 
   static <E> Collector<E, ?, ImmutableSet<E>> toImmutableSet() {
-    return collectingAndThen(Collectors.toSet(), JavaBasedImmutableSet::new);
+    return Collector.of(() -> ImmutableSet.<E>empty().toTransient(), Transient::append,
+        (a, b) -> a.appendAll(b.persistent()), Transient::persistent, Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Mutable builder of an {@code ImmutableSet}. The elements are added in place, without copying the structure
+   * for each element, and {@code persistent()} returns the resulting set without copying it.
+   * A transient should be used by a single thread, and it cannot be used anymore after calling
+   * {@code persistent()}.
+   */
+  final class Transient<E> {
+
+    private final HashTrie.Transient<E, Object> backend;
+
+    private Transient(HashTrie.Transient<E, Object> backend) {
+      this.backend = backend;
+    }
+
+    public int size() {
+      return backend.size();
+    }
+
+    public boolean contains(E element) {
+      return backend.find(element) != null;
+    }
+
+    public Transient<E> append(E element) {
+      if (!contains(element)) {
+        backend.put(element, element);
+      }
+      return this;
+    }
+
+    public Transient<E> appendAll(Iterable<? extends E> elements) {
+      for (E element : elements) {
+        append(element);
+      }
+      return this;
+    }
+
+    public Transient<E> remove(E element) {
+      backend.remove(element);
+      return this;
+    }
+
+    public ImmutableSet<E> persistent() {
+      return TrieBasedImmutableSet.from(backend.persistent());
+    }
+  }
+
+  final class TrieBasedImmutableSet<E> implements ImmutableSet<E>, Serializable {
+
+    private static final long serialVersionUID = -4111867323115030715L;
+
+    private static final ImmutableSet<?> EMPTY = new TrieBasedImmutableSet<>(HashTrie.empty());
+
+    private static final Equal<TrieBasedImmutableSet<?>> EQUAL =
+        Equal.<TrieBasedImmutableSet<?>>of().append(TrieBasedImmutableSet::sameElements);
+
+    // the values of the trie are ignored, so the keys of a map can be shared as a set
+    private final HashTrie<E, Object> backend;
+
+    private TrieBasedImmutableSet(HashTrie<E, Object> backend) {
+      this.backend = backend;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> ImmutableSet<E> from(HashTrie<E, Object> backend) {
+      return backend.size() == 0 ? (ImmutableSet<E>) EMPTY : new TrieBasedImmutableSet<>(backend);
+    }
+
+    @Override
+    public Transient<E> toTransient() {
+      return new Transient<>(backend.toTransient());
+    }
+
+    @Override
+    public int size() {
+      return backend.size();
+    }
+
+    @Override
+    public boolean contains(E element) {
+      return backend.find(element) != null;
+    }
+
+    @Override
+    public ImmutableSet<E> reverse() {
+      return this;
+    }
+
+    @Override
+    public ImmutableSet<E> append(E element) {
+      return contains(element) ? this : from(backend.put(element, element));
+    }
+
+    @Override
+    public ImmutableSet<E> remove(E element) {
+      HashTrie<E, Object> newBackend = backend.remove(element);
+      return newBackend == backend ? this : from(newBackend);
+    }
+
+    @Override
+    public ImmutableSet<E> appendAll(Sequence<E> other) {
+      Transient<E> result = toTransient().appendAll(other);
+      return result.size() == size() ? this : result.persistent();
+    }
+
+    @Override
+    public ImmutableSet<E> removeAll(Sequence<E> other) {
+      Transient<E> result = toTransient();
+      for (E element : other) {
+        result.remove(element);
+      }
+      return result.size() == size() ? this : result.persistent();
+    }
+
+    @Override
+    public ImmutableSet<E> union(ImmutableSet<E> other) {
+      return size() >= other.size() ? appendAll(other) : other.appendAll(this);
+    }
+
+    @Override
+    public ImmutableSet<E> intersection(ImmutableSet<E> other) {
+      return filter(other::contains);
+    }
+
+    @Override
+    public ImmutableSet<E> difference(ImmutableSet<E> other) {
+      return removeAll(other);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      Iterator<HashTrie.Leaf<E, Object>> iterator = backend.iterator();
+      return new Iterator<E>() {
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+          return iterator.next().key;
+        }
+      };
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+      return backend.keySpliterator();
+    }
+
+    @Override
+    public Set<E> toSet() {
+      Set<E> set = new LinkedHashSet<>();
+      forEach(set::add);
+      return set;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 0;
+      for (E element : this) {
+        hashCode += Objects.hashCode(element);
+      }
+      return 31 + hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return EQUAL.applyTo(this, obj);
+    }
+
+    @Override
+    public String toString() {
+      return "ImmutableSet(" + toSet() + ")";
+    }
+
+    private static boolean sameElements(TrieBasedImmutableSet<?> a, TrieBasedImmutableSet<?> b) {
+      if (a.size() != b.size()) {
+        return false;
+      }
+      for (Object element : a) {
+        if (b.backend.find(element) == null) {
+          return false;
+        }
+      }
+      return true;
+    }
   }
 
+  /**
+   * @deprecated the factories return {@link TrieBasedImmutableSet} now, this implementation is kept
+   * for the code that refers to it and to read its serialized form.
+   */
+  @Deprecated
   final class JavaBasedImmutableSet<E> implements ImmutableSet<E>, Serializable {
 
     private static final long serialVersionUID = -4111867323115030715L;
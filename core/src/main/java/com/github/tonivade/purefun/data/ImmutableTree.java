@@ -4,17 +4,17 @@
  */
 package com.github.tonivade.purefun.data;
 
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
 import static java.util.Collections.unmodifiableNavigableSet;
-import static java.util.Collections.emptyNavigableSet;
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.toCollection;
 
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 
@@ -49,19 +49,37 @@ public interface ImmutableTree<E> extends Sequence<E> {
   Option<E> ceiling(E value);
   Option<E> floor(E value);
 
+  default Transient<E> toTransient() {
+    return ImmutableTree.<E>empty().toTransient().appendAll(this);
+  }
+
   @Override
   default <R> ImmutableTree<R> map(Function1<E, R> mapper) {
-    return ImmutableTree.from(stream().map(mapper::apply));
+    Transient<R> result = ImmutableTree.<R>empty().toTransient();
+    for (E element : this) {
+      result.append(mapper.apply(element));
+    }
+    return result.persistent();
   }
 
   @Override
   default <R> ImmutableTree<R> flatMap(Function1<E, Sequence<R>> mapper) {
-    return ImmutableTree.from(stream().flatMap(mapper.andThen(Sequence::stream)::apply));
+    Transient<R> result = ImmutableTree.<R>empty().toTransient();
+    for (E element : this) {
+      result.appendAll(mapper.apply(element));
+    }
+    return result.persistent();
   }
 
   @Override
   default ImmutableTree<E> filter(Matcher1<E> matcher) {
-    return ImmutableTree.from(stream().filter(matcher::match));
+    Transient<E> result = ImmutableTree.<E>empty().toTransient();
+    for (E element : this) {
+      if (matcher.match(element)) {
+        result.append(element);
+      }
+    }
+    return result.persistent();
   }
 
   @Override
@@ -69,27 +87,275 @@ public interface ImmutableTree<E> extends Sequence<E> {
     return filter(matcher.negate());
   }
 
+  @Override
+  default <R> ImmutableTree<R> parMap(Function1<E, R> mapper) {
+    return parMap(ForkJoinPool.commonPool(), mapper);
+  }
+
+  @Override
+  default <R> ImmutableTree<R> parMap(ForkJoinPool pool, Function1<E, R> mapper) {
+    checkNonNull(mapper);
+    return Parallel.run(this, pool, stream -> stream.map(mapper::apply).collect(toImmutableTree()));
+  }
+
+  @Override
+  default ImmutableTree<E> parFilter(Matcher1<E> matcher) {
+    return parFilter(ForkJoinPool.commonPool(), matcher);
+  }
+
+  @Override
+  default ImmutableTree<E> parFilter(ForkJoinPool pool, Matcher1<E> matcher) {
+    checkNonNull(matcher);
+    return Parallel.run(this, pool, stream -> stream.filter(matcher::match).collect(toImmutableTree()));
+  }
+
   static <T> ImmutableTree<T> from(Iterable<T> iterable) {
-    return from(Sequence.asStream(iterable.iterator()));
+    return TreeBasedImmutableTree.from(PersistentVector.toArray(iterable));
   }
 
   static <T> ImmutableTree<T> from(Stream<T> stream) {
-    return new JavaBasedImmutableTree<>(stream.collect(toCollection(TreeSet::new)));
+    return TreeBasedImmutableTree.from(stream.toArray());
   }
 
   @SafeVarargs
   static <T> ImmutableTree<T> of(T... elements) {
-    return new JavaBasedImmutableTree<>(new TreeSet<>(Arrays.asList(elements)));
+    return TreeBasedImmutableTree.from(elements.clone());
   }
 
   static <T> ImmutableTree<T> empty() {
-    return new JavaBasedImmutableTree<>(emptyNavigableSet());
+    return TreeBasedImmutableTree.from(PersistentTree.empty());
   }
 
   static <E> Collector<E, ?, ImmutableTree<E>> toImmutableTree() {
-    return collectingAndThen(toCollection(TreeSet::new), JavaBasedImmutableTree::new);
+    return Collector.of(() -> ImmutableTree.<E>empty().toTransient(), Transient::append,
+        (a, b) -> a.appendAll(b.persistent()), Transient::persistent);
+  }
+
+  /**
+   * Mutable builder of an {@code ImmutableTree}. The elements are added in place, without copying the path
+   * to the root for each element, and {@code persistent()} returns the resulting tree without copying it.
+   * A transient should be used by a single thread, and it cannot be used anymore after calling
+   * {@code persistent()}.
+   */
+  final class Transient<E> {
+
+    private final PersistentTree.Transient<E, E> backend;
+
+    private Transient(PersistentTree.Transient<E, E> backend) {
+      this.backend = backend;
+    }
+
+    public int size() {
+      return backend.size();
+    }
+
+    public boolean contains(E element) {
+      return backend.find(element) != null;
+    }
+
+    public Transient<E> append(E element) {
+      if (!contains(element)) {
+        backend.put(element, element);
+      }
+      return this;
+    }
+
+    public Transient<E> appendAll(Iterable<? extends E> elements) {
+      for (E element : elements) {
+        append(element);
+      }
+      return this;
+    }
+
+    public Transient<E> remove(E element) {
+      backend.remove(element);
+      return this;
+    }
+
+    public ImmutableTree<E> persistent() {
+      return TreeBasedImmutableTree.from(backend.persistent());
+    }
+  }
+
+  final class TreeBasedImmutableTree<E> implements ImmutableTree<E>, Serializable {
+
+    private static final long serialVersionUID = -328223831102407507L;
+
+    private static final ImmutableTree<?> EMPTY = new TreeBasedImmutableTree<>(PersistentTree.empty());
+
+    private static final Equal<TreeBasedImmutableTree<?>> EQUAL =
+        Equal.<TreeBasedImmutableTree<?>>of().append((a, b) -> a.backend.sameEntries(b.backend));
+
+    // every element is stored as both key and value of the tree
+    private final PersistentTree<E, E> backend;
+
+    private TreeBasedImmutableTree(PersistentTree<E, E> backend) {
+      this.backend = backend;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> ImmutableTree<E> from(PersistentTree<E, E> backend) {
+      return backend.size() == 0 ? (ImmutableTree<E>) EMPTY : new TreeBasedImmutableTree<>(backend);
+    }
+
+    // sorts the array, and keeps the first of the equivalent elements like a TreeSet does
+    static <E> ImmutableTree<E> from(Object[] elements) {
+      Arrays.sort(elements, PersistentTree::compare);
+      int size = 0;
+      for (Object element : elements) {
+        checkNonNull(element);
+        if (size == 0 || PersistentTree.compare(elements[size - 1], element) != 0) {
+          elements[size++] = element;
+        }
+      }
+      Object[] keys = Arrays.copyOf(elements, size, Object[].class);
+      return from(PersistentTree.<E, E>fromSorted(keys, keys));
+    }
+
+    @Override
+    public Transient<E> toTransient() {
+      return new Transient<>(backend.toTransient());
+    }
+
+    @Override
+    public int size() {
+      return backend.size();
+    }
+
+    @Override
+    public boolean contains(E element) {
+      return backend.find(element) != null;
+    }
+
+    @Override
+    public ImmutableTree<E> reverse() {
+      return this;
+    }
+
+    @Override
+    public ImmutableTree<E> append(E element) {
+      return contains(element) ? this : from(backend.put(element, element));
+    }
+
+    @Override
+    public ImmutableTree<E> remove(E element) {
+      return update(backend.remove(element));
+    }
+
+    @Override
+    public ImmutableTree<E> appendAll(Sequence<E> other) {
+      Transient<E> result = toTransient().appendAll(other);
+      return result.size() == size() ? this : result.persistent();
+    }
+
+    @Override
+    public ImmutableTree<E> removeAll(Sequence<E> other) {
+      Transient<E> result = toTransient();
+      for (E element : other) {
+        result.remove(element);
+      }
+      return result.size() == size() ? this : result.persistent();
+    }
+
+    @Override
+    public Option<E> head() {
+      return element(backend.first());
+    }
+
+    @Override
+    public Option<E> tail() {
+      return element(backend.last());
+    }
+
+    @Override
+    public ImmutableTree<E> headTree(E toElement) {
+      return from(backend.head(toElement));
+    }
+
+    @Override
+    public ImmutableTree<E> tailTree(E fromElement) {
+      return from(backend.tail(fromElement));
+    }
+
+    @Override
+    public Option<E> higher(E value) {
+      return element(backend.higher(value));
+    }
+
+    @Override
+    public Option<E> lower(E value) {
+      return element(backend.lower(value));
+    }
+
+    @Override
+    public Option<E> ceiling(E value) {
+      return element(backend.ceiling(value));
+    }
+
+    @Override
+    public Option<E> floor(E value) {
+      return element(backend.floor(value));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      Iterator<PersistentTree.Node<E, E>> iterator = backend.iterator();
+      return new Iterator<E>() {
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+          return iterator.next().key;
+        }
+      };
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+      return backend.keySpliterator();
+    }
+
+    @Override
+    public NavigableSet<E> toNavigableSet() {
+      return new TreeSet<>(new SequenceCollection<>(this));
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 0;
+      for (E element : this) {
+        hashCode += Objects.hashCode(element);
+      }
+      return 31 + hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return EQUAL.applyTo(this, obj);
+    }
+
+    @Override
+    public String toString() {
+      return "ImmutableTree(" + toNavigableSet() + ")";
+    }
+
+    private ImmutableTree<E> update(PersistentTree<E, E> newBackend) {
+      return newBackend == backend ? this : from(newBackend);
+    }
+
+    private static <E> Option<E> element(PersistentTree.Node<E, E> node) {
+      return node == null ? Option.none() : Option.some(node.key);
+    }
   }
 
+  /**
+   * @deprecated the factories return {@link TreeBasedImmutableTree} now, this implementation is kept
+   * for the code that refers to it and to read its serialized form.
+   */
+  @Deprecated
   final class JavaBasedImmutableTree<E> implements ImmutableTree<E>, Serializable {
 
     private static final long serialVersionUID = -328223831102407507L;
@@ -4,18 +4,19 @@
  */
 package com.github.tonivade.purefun.data;
 
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
 import static java.util.Collections.unmodifiableNavigableMap;
-import static java.util.Collections.emptyNavigableMap;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.TreeMap;
-import java.util.function.BinaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.github.tonivade.purefun.Consumer2;
 import com.github.tonivade.purefun.Equal;
 import com.github.tonivade.purefun.Function1;
 import com.github.tonivade.purefun.Matcher1;
@@ -130,20 +131,39 @@ public interface ImmutableTreeMap<K, V> extends ImmutableMap<K, V> {
   }
 
   static <K, V> ImmutableTreeMap<K, V> from(NavigableMap<K, V> map) {
-    return new JavaBasedImmutableTreeMap<>(map);
+    Object[] keys = new Object[map.size()];
+    Object[] values = new Object[map.size()];
+    int i = 0;
+    for (Map.Entry<K, V> entry : map.entrySet()) {
+      keys[i] = entry.getKey();
+      values[i++] = entry.getValue();
+    }
+    return TreeBasedImmutableTreeMap.from(PersistentTree.fromSorted(map.comparator(), keys, values));
   }
 
   static <K, V> ImmutableTreeMap<K, V> empty() {
-    return new JavaBasedImmutableTreeMap<>(emptyNavigableMap());
+    return TreeBasedImmutableTreeMap.from(PersistentTree.empty());
   }
 
   static <K, V> ImmutableTreeMap<K, V> from(Stream<Tuple2<K, V>> entries) {
     return from(ImmutableSet.from(entries));
   }
 
+  @SuppressWarnings("unchecked")
   static <K, V> ImmutableTreeMap<K, V> from(ImmutableSet<Tuple2<K, V>> entries) {
-    return new JavaBasedImmutableTreeMap<>(entries.stream()
-        .collect(Collectors.toMap(Tuple2::get1, Tuple2::get2, ImmutableTreeModule.throwingMerge(), TreeMap::new)));
+    Object[] array = PersistentVector.toArray(entries);
+    Arrays.sort(array, (a, b) -> PersistentTree.compare(((Tuple2<K, V>) a).get1(), ((Tuple2<K, V>) b).get1()));
+    Object[] keys = new Object[array.length];
+    Object[] values = new Object[array.length];
+    for (int i = 0; i < array.length; i++) {
+      Tuple2<K, V> entry = (Tuple2<K, V>) array[i];
+      keys[i] = checkNonNull(entry.get1());
+      values[i] = entry.get2();
+      if (i > 0 && PersistentTree.compare(keys[i - 1], keys[i]) == 0) {
+        throw new IllegalArgumentException("conflict detected");
+      }
+    }
+    return TreeBasedImmutableTreeMap.from(PersistentTree.fromSorted(keys, values));
   }
 
   static <K extends Comparable<?>, V> Builder<K, V> builder() {
@@ -152,20 +172,196 @@ public interface ImmutableTreeMap<K, V> extends ImmutableMap<K, V> {
 
   final class Builder<K extends Comparable<?>, V> {
 
-    private final NavigableMap<K, V> map = new TreeMap<>();
+    private final PersistentTree.Transient<K, V> tree = PersistentTree.<K, V>empty().toTransient();
 
     private Builder() { }
 
     public Builder<K, V> put(K key, V value) {
-      map.put(key, value);
+      tree.put(key, value);
       return this;
     }
 
     public ImmutableTreeMap<K, V> build() {
-      return ImmutableTreeMap.from(map);
+      return TreeBasedImmutableTreeMap.from(tree.persistent());
     }
   }
 
+  final class TreeBasedImmutableTreeMap<K, V> implements ImmutableTreeMap<K, V>, Serializable {
+
+    private static final long serialVersionUID = 8618845296089216532L;
+
+    private static final ImmutableTreeMap<?, ?> EMPTY = new TreeBasedImmutableTreeMap<>(PersistentTree.empty());
+
+    private static final Equal<TreeBasedImmutableTreeMap<?, ?>> EQUAL =
+        Equal.<TreeBasedImmutableTreeMap<?, ?>>of().append((a, b) -> a.backend.sameEntries(b.backend));
+
+    private final PersistentTree<K, V> backend;
+
+    private TreeBasedImmutableTreeMap(PersistentTree<K, V> backend) {
+      this.backend = backend;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> ImmutableTreeMap<K, V> from(PersistentTree<K, V> backend) {
+      if (backend.size() == 0 && backend.comparator() == null) {
+        return (ImmutableTreeMap<K, V>) EMPTY;
+      }
+      return new TreeBasedImmutableTreeMap<>(backend);
+    }
+
+    @Override
+    public Map<K, V> toMap() {
+      return toNavigableMap();
+    }
+
+    @Override
+    public NavigableMap<K, V> toNavigableMap() {
+      NavigableMap<K, V> map = new TreeMap<>(backend.comparator());
+      forEach(map::put);
+      return map;
+    }
+
+    @Override
+    public ImmutableTreeMap<K, V> put(K key, V value) {
+      return update(backend.put(key, value));
+    }
+
+    @Override
+    public ImmutableTreeMap<K, V> remove(K key) {
+      return update(backend.remove(key));
+    }
+
+    @Override
+    public Option<V> get(K key) {
+      PersistentTree.Node<K, V> node = backend.find(key);
+      return node == null ? Option.none() : Option.of(node.value);
+    }
+
+    @Override
+    public ImmutableTreeMap<K, V> merge(K key, V value, Operator2<V> merger) {
+      PersistentTree.Node<K, V> node = backend.find(key);
+      return put(key, node == null || node.value == null ? value : merger.apply(node.value, value));
+    }
+
+    @Override
+    public ImmutableTreeMap<K, V> headMap(K toKey) {
+      return from(backend.head(toKey));
+    }
+
+    @Override
+    public ImmutableTreeMap<K, V> tailMap(K fromKey) {
+      return from(backend.tail(fromKey));
+    }
+
+    @Override
+    public Option<Tuple2<K, V>> headEntry() {
+      return entry(backend.first());
+    }
+
+    @Override
+    public Option<Tuple2<K, V>> tailEntry() {
+      return entry(backend.last());
+    }
+
+    @Override
+    public Option<Tuple2<K, V>> higherEntry(K key) {
+      return entry(backend.higher(key));
+    }
+
+    @Override
+    public Option<Tuple2<K, V>> lowerEntry(K key) {
+      return entry(backend.lower(key));
+    }
+
+    @Override
+    public Option<Tuple2<K, V>> floorEntry(K key) {
+      return entry(backend.floor(key));
+    }
+
+    @Override
+    public Option<Tuple2<K, V>> ceilingEntry(K key) {
+      return entry(backend.ceiling(key));
+    }
+
+    @Override
+    public Sequence<V> values() {
+      return ImmutableList.from(Sequence.asStream(backend.iterator()).map(node -> node.value));
+    }
+
+    @Override
+    public ImmutableSet<K> keys() {
+      return ImmutableSet.from(Sequence.asStream(backend.iterator()).map(node -> node.key));
+    }
+
+    @Override
+    public ImmutableSet<Tuple2<K, V>> entries() {
+      return ImmutableSet.from(Sequence.asStream(iterator()));
+    }
+
+    @Override
+    public Iterator<Tuple2<K, V>> iterator() {
+      Iterator<PersistentTree.Node<K, V>> iterator = backend.iterator();
+      return new Iterator<Tuple2<K, V>>() {
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Tuple2<K, V> next() {
+          PersistentTree.Node<K, V> node = iterator.next();
+          return Tuple.of(node.key, node.value);
+        }
+      };
+    }
+
+    @Override
+    public void forEach(Consumer2<K, V> consumer) {
+      for (Iterator<PersistentTree.Node<K, V>> iterator = backend.iterator(); iterator.hasNext();) {
+        PersistentTree.Node<K, V> node = iterator.next();
+        consumer.accept(node.key, node.value);
+      }
+    }
+
+    @Override
+    public int size() {
+      return backend.size();
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 0;
+      for (Iterator<PersistentTree.Node<K, V>> iterator = backend.iterator(); iterator.hasNext();) {
+        PersistentTree.Node<K, V> node = iterator.next();
+        hashCode += Objects.hashCode(node.key) ^ Objects.hashCode(node.value);
+      }
+      return 31 + hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return EQUAL.applyTo(this, obj);
+    }
+
+    @Override
+    public String toString() {
+      return "ImmutableTreeMap(" + toNavigableMap() + ")";
+    }
+
+    private ImmutableTreeMap<K, V> update(PersistentTree<K, V> newBackend) {
+      return newBackend == backend ? this : from(newBackend);
+    }
+
+    private static <K, V> Option<Tuple2<K, V>> entry(PersistentTree.Node<K, V> node) {
+      return node == null ? Option.none() : Option.some(Tuple.of(node.key, node.value));
+    }
+  }
+
+  /**
+   * @deprecated the factories return {@link TreeBasedImmutableTreeMap} now, this implementation is kept
+   * for the code that refers to it and to read its serialized form.
+   */
+  @Deprecated
   final class JavaBasedImmutableTreeMap<K, V> implements ImmutableTreeMap<K, V>, Serializable {
 
     private static final long serialVersionUID = 8618845296089216532L;
@@ -291,10 +487,3 @@ public interface ImmutableTreeMap<K, V> extends ImmutableMap<K, V> {
     }
   }
 }
-
-interface ImmutableTreeModule {
-
-  static <V> BinaryOperator<V> throwingMerge() {
-    return (a, b) -> { throw new IllegalArgumentException("conflict detected"); };
-  }
-}
\ No newline at end of file
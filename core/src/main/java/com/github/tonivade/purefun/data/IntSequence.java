@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import com.github.tonivade.purefun.Equal;
+
+/**
+ * Immutable sequence of {@code int} values backed by a primitive array, so the values are never boxed.
+ * The operations use the primitive functional interfaces of the JDK for the same reason.
+ */
+public final class IntSequence implements Serializable {
+
+  private static final long serialVersionUID = -5014387367512851203L;
+
+  private static final IntSequence EMPTY = new IntSequence(new int[0]);
+
+  private static final Equal<IntSequence> EQUAL =
+      Equal.<IntSequence>of().append((a, b) -> Arrays.equals(a.values, b.values));
+
+  private final int[] values;
+
+  private IntSequence(int[] values) {
+    this.values = values;
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  public int get(int index) {
+    return values[index];
+  }
+
+  public boolean contains(int value) {
+    return indexOf(value) >= 0;
+  }
+
+  public int indexOf(int value) {
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  public IntSequence append(int value) {
+    int[] newValues = Arrays.copyOf(values, values.length + 1);
+    newValues[values.length] = value;
+    return new IntSequence(newValues);
+  }
+
+  public IntSequence appendAll(IntSequence other) {
+    if (other.isEmpty()) {
+      return this;
+    }
+    if (isEmpty()) {
+      return other;
+    }
+    int[] newValues = Arrays.copyOf(values, values.length + other.values.length);
+    System.arraycopy(other.values, 0, newValues, values.length, other.values.length);
+    return new IntSequence(newValues);
+  }
+
+  public IntSequence map(IntUnaryOperator mapper) {
+    checkNonNull(mapper);
+    int[] newValues = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      newValues[i] = mapper.applyAsInt(values[i]);
+    }
+    return of(newValues, newValues.length);
+  }
+
+  public <T> ImmutableArray<T> mapToObj(IntFunction<T> mapper) {
+    checkNonNull(mapper);
+    ImmutableArray.Transient<T> result = ImmutableArray.<T>empty().toTransient();
+    for (int value : values) {
+      result.append(mapper.apply(value));
+    }
+    return result.persistent();
+  }
+
+  public IntSequence filter(IntPredicate matcher) {
+    checkNonNull(matcher);
+    int[] newValues = new int[values.length];
+    int size = 0;
+    for (int value : values) {
+      if (matcher.test(value)) {
+        newValues[size++] = value;
+      }
+    }
+    return size == values.length ? this : of(newValues, size);
+  }
+
+  public IntSequence filterNot(IntPredicate matcher) {
+    return filter(matcher.negate());
+  }
+
+  public int fold(int initial, IntBinaryOperator operator) {
+    checkNonNull(operator);
+    int result = initial;
+    for (int value : values) {
+      result = operator.applyAsInt(result, value);
+    }
+    return result;
+  }
+
+  public long sum() {
+    long sum = 0;
+    for (int value : values) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  public IntSequence sort() {
+    int[] newValues = values.clone();
+    Arrays.sort(newValues);
+    return new IntSequence(newValues);
+  }
+
+  /**
+   * Same as {@link Arrays#binarySearch(int[], int)}, the sequence should be sorted.
+   */
+  public int binarySearch(int value) {
+    return Arrays.binarySearch(values, value);
+  }
+
+  public void forEach(IntConsumer consumer) {
+    checkNonNull(consumer);
+    for (int value : values) {
+      consumer.accept(value);
+    }
+  }
+
+  public PrimitiveIterator.OfInt iterator() {
+    return new PrimitiveIterator.OfInt() {
+
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < values.length;
+      }
+
+      @Override
+      public int nextInt() {
+        if (index >= values.length) {
+          throw new NoSuchElementException();
+        }
+        return values[index++];
+      }
+    };
+  }
+
+  public IntStream stream() {
+    return Arrays.stream(values);
+  }
+
+  public int[] toArray() {
+    return values.clone();
+  }
+
+  public ImmutableArray<Integer> toSequence() {
+    return mapToObj(Integer::valueOf);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return EQUAL.applyTo(this, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return "IntSequence(" + Arrays.toString(values) + ")";
+  }
+
+  public static IntSequence empty() {
+    return EMPTY;
+  }
+
+  public static IntSequence of(int... values) {
+    return of(values.clone(), values.length);
+  }
+
+  public static IntSequence from(IntStream stream) {
+    int[] values = stream.toArray();
+    return of(values, values.length);
+  }
+
+  public static IntSequence from(Iterable<Integer> values) {
+    int[] result = new int[16];
+    int size = 0;
+    for (Integer value : values) {
+      if (size == result.length) {
+        result = Arrays.copyOf(result, size * 2);
+      }
+      result[size++] = checkNonNull(value);
+    }
+    return of(result, size);
+  }
+
+  private static IntSequence of(int[] values, int size) {
+    if (size == 0) {
+      return EMPTY;
+    }
+    return new IntSequence(size == values.length ? values : Arrays.copyOf(values, size));
+  }
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+import static java.util.Collections.emptyIterator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import com.github.tonivade.purefun.Equal;
+import com.github.tonivade.purefun.Function1;
+import com.github.tonivade.purefun.Matcher1;
+
+/**
+ * Lazy view of a sequence. The operations are not applied when they are called, they are recorded
+ * and applied in a single pass every time the view is forced, iterating it or transforming it
+ * into an immutable collection using {@code asList}, {@code asArray}, etc.
+ *
+ * Consecutive calls to {@code map} and {@code filter} are fused in the same step, so
+ * {@code seq.view().filter(p).map(f).map(g)} evaluates {@code p} and {@code f.andThen(g)}
+ * for each element without any intermediate collection.
+ *
+ * The view is not memoized, so every time it's forced the operations are evaluated again.
+ * {@code equals}, {@code hashCode} and {@code toString} force the view, two views are equal
+ * if they produce the same elements in the same order.
+ */
+public final class LazySequence<E> implements Sequence<E> {
+
+  private static final Equal<LazySequence<?>> EQUAL =
+      Equal.<LazySequence<?>>of().comparing(LazySequence::asArray);
+
+  private final Node<E> node;
+
+  private LazySequence(Node<E> node) {
+    this.node = checkNonNull(node);
+  }
+
+  /**
+   * The size is known without evaluating the view unless it contains a {@code filter},
+   * {@code flatMap} or {@code remove} operation, in that case the view is forced to count the elements.
+   */
+  @Override
+  public int size() {
+    int size = node.knownSize();
+    if (size >= 0) {
+      return size;
+    }
+    int count = 0;
+    for (Iterator<E> iterator = node.iterator(); iterator.hasNext(); iterator.next()) {
+      count++;
+    }
+    return count;
+  }
+
+  @Override
+  public boolean contains(E element) {
+    if (node instanceof Source) {
+      return ((Source<E>) node).sequence.contains(element);
+    }
+    for (E current : node) {
+      if (Objects.equals(current, element)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public LazySequence<E> append(E element) {
+    return new LazySequence<>(new Concat<>(node, new Source<>(ImmutableArray.of(element))));
+  }
+
+  @Override
+  public LazySequence<E> remove(E element) {
+    return new LazySequence<>(new Removed<>(node, element));
+  }
+
+  @Override
+  public LazySequence<E> appendAll(Sequence<E> other) {
+    return new LazySequence<>(new Concat<>(node, other.view().node));
+  }
+
+  @Override
+  public LazySequence<E> removeAll(Sequence<E> other) {
+    checkNonNull(other);
+    return filterNot(other::contains);
+  }
+
+  @Override
+  public LazySequence<E> reverse() {
+    return new LazySequence<>(new Reversed<>(node));
+  }
+
+  @Override
+  public <R> LazySequence<R> map(Function1<E, R> mapper) {
+    checkNonNull(mapper);
+    if (node instanceof Stage) {
+      return new LazySequence<>(((Stage<?, E>) node).andThen(mapper));
+    }
+    return new LazySequence<>(new Stage<>(node, null, mapper));
+  }
+
+  @Override
+  public <R> LazySequence<R> flatMap(Function1<E, Sequence<R>> mapper) {
+    return new LazySequence<>(new FlatMapped<>(node, checkNonNull(mapper)));
+  }
+
+  @Override
+  public LazySequence<E> filter(Matcher1<E> matcher) {
+    checkNonNull(matcher);
+    if (node instanceof Stage && ((Stage<?, E>) node).isFilter()) {
+      return new LazySequence<>(((Stage<?, E>) node).and(matcher));
+    }
+    return new LazySequence<>(new Stage<E, E>(node, matcher, null));
+  }
+
+  @Override
+  public LazySequence<E> filterNot(Matcher1<E> matcher) {
+    return filter(matcher.negate());
+  }
+
+  @Override
+  public LazySequence<E> view() {
+    return this;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return node.iterator();
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(asArray());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return EQUAL.applyTo(this, obj);
+  }
+
+  @Override
+  public String toString() {
+    return join(", ", "LazySequence([", "])");
+  }
+
+  public static <E> LazySequence<E> from(Sequence<E> sequence) {
+    if (sequence instanceof LazySequence) {
+      return (LazySequence<E>) sequence;
+    }
+    return new LazySequence<>(new Source<>(checkNonNull(sequence)));
+  }
+
+  private interface Node<E> extends Iterable<E> {
+
+    /**
+     * @return the number of elements or -1 if it's not possible to know without forcing the view
+     */
+    default int knownSize() {
+      return -1;
+    }
+  }
+
+  private static final class Source<E> implements Node<E> {
+
+    private final Sequence<E> sequence;
+
+    private Source(Sequence<E> sequence) {
+      this.sequence = sequence;
+    }
+
+    @Override
+    public int knownSize() {
+      return sequence.size();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      return sequence.iterator();
+    }
+  }
+
+  /**
+   * A filter followed by a transformation, any of them can be null. Both are evaluated in the same step.
+   */
+  private static final class Stage<T, E> implements Node<E> {
+
+    private final Node<T> parent;
+    private final Matcher1<T> matcher;
+    private final Function1<T, E> mapper;
+
+    private Stage(Node<T> parent, Matcher1<T> matcher, Function1<T, E> mapper) {
+      this.parent = parent;
+      this.matcher = matcher;
+      this.mapper = mapper;
+    }
+
+    private boolean isFilter() {
+      return mapper == null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> Stage<T, R> andThen(Function1<E, R> next) {
+      // if there's no mapper, T and E are the same type
+      Function1<T, R> composed = mapper == null ? (Function1<T, R>) next : mapper.andThen(next);
+      return new Stage<>(parent, matcher, composed);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Stage<T, E> and(Matcher1<E> next) {
+      // only valid if there's no mapper, so T and E are the same type
+      Matcher1<T> composed = matcher == null ? (Matcher1<T>) next : matcher.and((Matcher1<T>) next);
+      return new Stage<>(parent, composed, null);
+    }
+
+    @Override
+    public int knownSize() {
+      return matcher == null ? parent.knownSize() : -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      return new StageIterator<>(parent.iterator(), matcher, mapper);
+    }
+  }
+
+  private static final class FlatMapped<T, E> implements Node<E> {
+
+    private final Node<T> parent;
+    private final Function1<T, Sequence<E>> mapper;
+
+    private FlatMapped(Node<T> parent, Function1<T, Sequence<E>> mapper) {
+      this.parent = parent;
+      this.mapper = mapper;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      Iterator<T> iterator = parent.iterator();
+      return new Iterator<E>() {
+
+        private Iterator<E> current = emptyIterator();
+
+        @Override
+        public boolean hasNext() {
+          while (!current.hasNext() && iterator.hasNext()) {
+            current = mapper.apply(iterator.next()).iterator();
+          }
+          return current.hasNext();
+        }
+
+        @Override
+        public E next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          return current.next();
+        }
+      };
+    }
+  }
+
+  private static final class Concat<E> implements Node<E> {
+
+    private final Node<E> first;
+    private final Node<E> second;
+
+    private Concat(Node<E> first, Node<E> second) {
+      this.first = first;
+      this.second = second;
+    }
+
+    @Override
+    public int knownSize() {
+      int firstSize = first.knownSize();
+      int secondSize = second.knownSize();
+      return firstSize < 0 || secondSize < 0 ? -1 : firstSize + secondSize;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      Iterator<E> firstIterator = first.iterator();
+      return new Iterator<E>() {
+
+        private Iterator<E> current = firstIterator;
+
+        @Override
+        public boolean hasNext() {
+          if (current == firstIterator && !current.hasNext()) {
+            current = second.iterator();
+          }
+          return current.hasNext();
+        }
+
+        @Override
+        public E next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          return current.next();
+        }
+      };
+    }
+  }
+
+  private static final class Removed<E> implements Node<E> {
+
+    private final Node<E> parent;
+    private final E element;
+
+    private Removed(Node<E> parent, E element) {
+      this.parent = parent;
+      this.element = element;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      Iterator<E> iterator = parent.iterator();
+      return new Iterator<E>() {
+
+        private boolean removed;
+        private boolean ready;
+        private E next;
+
+        @Override
+        public boolean hasNext() {
+          if (!ready && iterator.hasNext()) {
+            next = iterator.next();
+            if (!removed && Objects.equals(next, element)) {
+              removed = true;
+              if (!iterator.hasNext()) {
+                return false;
+              }
+              next = iterator.next();
+            }
+            ready = true;
+          }
+          return ready;
+        }
+
+        @Override
+        public E next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          ready = false;
+          return next;
+        }
+      };
+    }
+  }
+
+  private static final class Reversed<E> implements Node<E> {
+
+    private final Node<E> parent;
+
+    private Reversed(Node<E> parent) {
+      this.parent = parent;
+    }
+
+    @Override
+    public int knownSize() {
+      return parent.knownSize();
+    }
+
+    /**
+     * The elements of the parent are buffered when the iteration starts.
+     */
+    @Override
+    public Iterator<E> iterator() {
+      List<E> buffer = new ArrayList<>();
+      parent.forEach(buffer::add);
+      return new Iterator<E>() {
+
+        private int index = buffer.size();
+
+        @Override
+        public boolean hasNext() {
+          return index > 0;
+        }
+
+        @Override
+        public E next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          return buffer.get(--index);
+        }
+      };
+    }
+  }
+}
+
+final class StageIterator<T, E> implements Iterator<E> {
+
+  private final Iterator<T> iterator;
+  private final Matcher1<T> matcher;
+  private final Function1<T, E> mapper;
+
+  private T next;
+  private boolean ready;
+
+  StageIterator(Iterator<T> iterator, Matcher1<T> matcher, Function1<T, E> mapper) {
+    this.iterator = checkNonNull(iterator);
+    this.matcher = matcher;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!ready && iterator.hasNext()) {
+      T candidate = iterator.next();
+      if (matcher == null || matcher.match(candidate)) {
+        next = candidate;
+        ready = true;
+      }
+    }
+    return ready;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T value = next;
+    next = null;
+    ready = false;
+    // if there's no mapper, T and E are the same type
+    return mapper == null ? (E) value : mapper.apply(value);
+  }
+}
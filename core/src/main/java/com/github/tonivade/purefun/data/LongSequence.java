@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+import com.github.tonivade.purefun.Equal;
+
+/**
+ * Immutable sequence of {@code long} values backed by a primitive array, so the values are never boxed.
+ * The operations use the primitive functional interfaces of the JDK for the same reason.
+ */
+public final class LongSequence implements Serializable {
+
+  private static final long serialVersionUID = 6214539187624431875L;
+
+  private static final LongSequence EMPTY = new LongSequence(new long[0]);
+
+  private static final Equal<LongSequence> EQUAL =
+      Equal.<LongSequence>of().append((a, b) -> Arrays.equals(a.values, b.values));
+
+  private final long[] values;
+
+  private LongSequence(long[] values) {
+    this.values = values;
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  public long get(int index) {
+    return values[index];
+  }
+
+  public boolean contains(long value) {
+    return indexOf(value) >= 0;
+  }
+
+  public int indexOf(long value) {
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  public LongSequence append(long value) {
+    long[] newValues = Arrays.copyOf(values, values.length + 1);
+    newValues[values.length] = value;
+    return new LongSequence(newValues);
+  }
+
+  public LongSequence appendAll(LongSequence other) {
+    if (other.isEmpty()) {
+      return this;
+    }
+    if (isEmpty()) {
+      return other;
+    }
+    long[] newValues = Arrays.copyOf(values, values.length + other.values.length);
+    System.arraycopy(other.values, 0, newValues, values.length, other.values.length);
+    return new LongSequence(newValues);
+  }
+
+  public LongSequence map(LongUnaryOperator mapper) {
+    checkNonNull(mapper);
+    long[] newValues = new long[values.length];
+    for (int i = 0; i < values.length; i++) {
+      newValues[i] = mapper.applyAsLong(values[i]);
+    }
+    return of(newValues, newValues.length);
+  }
+
+  public <T> ImmutableArray<T> mapToObj(LongFunction<T> mapper) {
+    checkNonNull(mapper);
+    ImmutableArray.Transient<T> result = ImmutableArray.<T>empty().toTransient();
+    for (long value : values) {
+      result.append(mapper.apply(value));
+    }
+    return result.persistent();
+  }
+
+  public LongSequence filter(LongPredicate matcher) {
+    checkNonNull(matcher);
+    long[] newValues = new long[values.length];
+    int size = 0;
+    for (long value : values) {
+      if (matcher.test(value)) {
+        newValues[size++] = value;
+      }
+    }
+    return size == values.length ? this : of(newValues, size);
+  }
+
+  public LongSequence filterNot(LongPredicate matcher) {
+    return filter(matcher.negate());
+  }
+
+  public long fold(long initial, LongBinaryOperator operator) {
+    checkNonNull(operator);
+    long result = initial;
+    for (long value : values) {
+      result = operator.applyAsLong(result, value);
+    }
+    return result;
+  }
+
+  public long sum() {
+    long sum = 0;
+    for (long value : values) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  public LongSequence sort() {
+    long[] newValues = values.clone();
+    Arrays.sort(newValues);
+    return new LongSequence(newValues);
+  }
+
+  /**
+   * Same as {@link Arrays#binarySearch(long[], long)}, the sequence should be sorted.
+   */
+  public int binarySearch(long value) {
+    return Arrays.binarySearch(values, value);
+  }
+
+  public void forEach(LongConsumer consumer) {
+    checkNonNull(consumer);
+    for (long value : values) {
+      consumer.accept(value);
+    }
+  }
+
+  public PrimitiveIterator.OfLong iterator() {
+    return new PrimitiveIterator.OfLong() {
+
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < values.length;
+      }
+
+      @Override
+      public long nextLong() {
+        if (index >= values.length) {
+          throw new NoSuchElementException();
+        }
+        return values[index++];
+      }
+    };
+  }
+
+  public LongStream stream() {
+    return Arrays.stream(values);
+  }
+
+  public long[] toArray() {
+    return values.clone();
+  }
+
+  public ImmutableArray<Long> toSequence() {
+    return mapToObj(Long::valueOf);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return EQUAL.applyTo(this, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return "LongSequence(" + Arrays.toString(values) + ")";
+  }
+
+  public static LongSequence empty() {
+    return EMPTY;
+  }
+
+  public static LongSequence of(long... values) {
+    return of(values.clone(), values.length);
+  }
+
+  public static LongSequence from(LongStream stream) {
+    long[] values = stream.toArray();
+    return of(values, values.length);
+  }
+
+  public static LongSequence from(Iterable<Long> values) {
+    long[] result = new long[16];
+    int size = 0;
+    for (Long value : values) {
+      if (size == result.length) {
+        result = Arrays.copyOf(result, size * 2);
+      }
+      result[size++] = checkNonNull(value);
+    }
+    return of(result, size);
+  }
+
+  private static LongSequence of(long[] values, int size) {
+    if (size == 0) {
+      return EMPTY;
+    }
+    return new LongSequence(size == values.length ? values : Arrays.copyOf(values, size));
+  }
+}
@@ -13,6 +13,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
 
 import static com.github.tonivade.purefun.Validator.greaterThan;
 import static com.github.tonivade.purefun.Validator.nonNullAnd;
@@ -50,6 +51,11 @@ public final class NonEmptyList<E> implements ImmutableList<E>, Serializable {
     return filter(matcher.negate());
   }
 
+  @Override
+  public ImmutableList.Transient<E> toTransient() {
+    return value.toTransient();
+  }
+
   @Override
   public List<E> toList() {
     return value.toList();
@@ -105,6 +111,11 @@ public final class NonEmptyList<E> implements ImmutableList<E>, Serializable {
     return value.iterator();
   }
 
+  @Override
+  public Spliterator<E> spliterator() {
+    return value.spliterator();
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(value);
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.tonivade.purefun.Function1;
+
+final class Parallel {
+
+  // smaller sequences are processed in the calling thread, splitting them is more expensive than the work
+  static final int THRESHOLD = 1 << 10;
+
+  private Parallel() {}
+
+  /**
+   * Runs the operation over a parallel stream inside the given pool, so all the tasks forked by the stream
+   * are executed by this pool instead of the common pool.
+   */
+  static <E, R> R run(Sequence<E> sequence, ForkJoinPool pool, Function1<Stream<E>, R> operation) {
+    checkNonNull(pool);
+    if (sequence.size() < THRESHOLD) {
+      return operation.apply(StreamSupport.stream(sequence.spliterator(), false));
+    }
+    return pool.invoke(ForkJoinTask.adapt(() -> operation.apply(StreamSupport.stream(sequence.spliterator(), true))));
+  }
+}
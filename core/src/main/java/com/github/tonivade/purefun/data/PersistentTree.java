@@ -0,0 +1,550 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Persistent binary search tree balanced by height (AVL), ordered by a comparator or by the natural order
+ * of the keys. Every node
+ * keeps the size of its subtree. Updates copy only the path from the root to the modified node, and the
+ * trees can be split by a key and joined again in logarithmic time, so range views share most of the nodes
+ * with the original tree. A transient version of the tree marks the nodes it creates with its own token,
+ * and updates these nodes in place instead of copying them again.
+ */
+final class PersistentTree<K, V> implements Serializable {
+
+  private static final long serialVersionUID = -2403364713683505484L;
+
+  private static final PersistentTree<?, ?> EMPTY = new PersistentTree<>(null, null);
+
+  // null means natural order
+  private final Comparator<? super K> comparator;
+  private final Node<K, V> root;
+
+  private PersistentTree(Comparator<? super K> comparator, Node<K, V> root) {
+    this.comparator = comparator;
+    this.root = root;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <K, V> PersistentTree<K, V> empty() {
+    return (PersistentTree<K, V>) EMPTY;
+  }
+
+  static <K, V> PersistentTree<K, V> empty(Comparator<? super K> comparator) {
+    return comparator == null ? empty() : new PersistentTree<>(comparator, null);
+  }
+
+  // keys should be sorted and without duplicates
+  static <K, V> PersistentTree<K, V> fromSorted(Object[] keys, Object[] values) {
+    return fromSorted(null, keys, values);
+  }
+
+  // keys should be sorted by the comparator and without duplicates
+  static <K, V> PersistentTree<K, V> fromSorted(Comparator<? super K> comparator, Object[] keys, Object[] values) {
+    return PersistentTree.<K, V>empty(comparator).with(build(keys, values, 0, keys.length));
+  }
+
+  Comparator<? super K> comparator() {
+    return comparator;
+  }
+
+  int size() {
+    return size(root);
+  }
+
+  Node<K, V> find(K key) {
+    return find(comparator, root, key);
+  }
+
+  private static <K, V> Node<K, V> find(Comparator<? super K> comparator, Node<K, V> root, K key) {
+    Node<K, V> current = root;
+    while (current != null) {
+      int compare = compare(comparator, key, current.key);
+      if (compare == 0) {
+        return current;
+      }
+      current = compare < 0 ? current.left : current.right;
+    }
+    return null;
+  }
+
+  PersistentTree<K, V> put(K key, V value) {
+    checkNonNull(key);
+    Node<K, V> newRoot = put(comparator, null, root, key, value);
+    return newRoot == root ? this : new PersistentTree<>(comparator, newRoot);
+  }
+
+  PersistentTree<K, V> remove(K key) {
+    if (find(key) == null) {
+      return this;
+    }
+    return with(remove(comparator, null, root, key));
+  }
+
+  Node<K, V> first() {
+    Node<K, V> current = root;
+    while (current != null && current.left != null) {
+      current = current.left;
+    }
+    return current;
+  }
+
+  Node<K, V> last() {
+    Node<K, V> current = root;
+    while (current != null && current.right != null) {
+      current = current.right;
+    }
+    return current;
+  }
+
+  Node<K, V> higher(K key) {
+    return search(key, false, false);
+  }
+
+  Node<K, V> ceiling(K key) {
+    return search(key, false, true);
+  }
+
+  Node<K, V> lower(K key) {
+    return search(key, true, false);
+  }
+
+  Node<K, V> floor(K key) {
+    return search(key, true, true);
+  }
+
+  // keys strictly lower than the given key
+  PersistentTree<K, V> head(K key) {
+    return with(splitLeft(comparator, root, key));
+  }
+
+  // keys strictly greater than the given key
+  PersistentTree<K, V> tail(K key) {
+    return with(splitRight(comparator, root, key));
+  }
+
+  Iterator<Node<K, V>> iterator() {
+    return new NodeIterator<>(root);
+  }
+
+  Spliterator<K> keySpliterator() {
+    return new KeySpliterator<>(comparator, root);
+  }
+
+  Transient<K, V> toTransient() {
+    return new Transient<>(comparator, root);
+  }
+
+  boolean sameEntries(PersistentTree<?, ?> other) {
+    if (size() != other.size()) {
+      return false;
+    }
+    if (!Objects.equals(comparator, other.comparator)) {
+      return sameEntriesUnordered(other);
+    }
+    Iterator<? extends Node<?, ?>> otherIterator = other.iterator();
+    for (Iterator<Node<K, V>> iterator = iterator(); iterator.hasNext();) {
+      Node<K, V> node = iterator.next();
+      Node<?, ?> otherNode = otherIterator.next();
+      if (!Objects.equals(node.key, otherNode.key) || !Objects.equals(node.value, otherNode.value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // the trees are ordered in a different way, so the entries are compared by hash
+  private boolean sameEntriesUnordered(PersistentTree<?, ?> other) {
+    Map<Object, Object> entries = new HashMap<>();
+    for (Iterator<Node<K, V>> iterator = iterator(); iterator.hasNext();) {
+      Node<K, V> node = iterator.next();
+      entries.put(node.key, node.value);
+    }
+    for (Iterator<? extends Node<?, ?>> iterator = other.iterator(); iterator.hasNext();) {
+      Node<?, ?> node = iterator.next();
+      if (!entries.containsKey(node.key) || !Objects.equals(entries.get(node.key), node.value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Node<K, V> search(K key, boolean lower, boolean inclusive) {
+    Node<K, V> result = null;
+    Node<K, V> current = root;
+    while (current != null) {
+      int compare = compare(comparator, key, current.key);
+      if (compare == 0 && inclusive) {
+        return current;
+      }
+      if (lower ? compare > 0 : compare < 0) {
+        result = current;
+        current = lower ? current.right : current.left;
+      } else {
+        current = lower ? current.left : current.right;
+      }
+    }
+    return result;
+  }
+
+  private PersistentTree<K, V> with(Node<K, V> newRoot) {
+    return newRoot == null && comparator == null ? empty() : new PersistentTree<>(comparator, newRoot);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K, V> Node<K, V> build(Object[] keys, Object[] values, int from, int to) {
+    if (from >= to) {
+      return null;
+    }
+    int middle = (from + to) >>> 1;
+    return new Node<>(null, (K) keys[middle], (V) values[middle],
+        build(keys, values, from, middle), build(keys, values, middle + 1, to));
+  }
+
+  // nodes owned by the given edit token are modified in place
+  private static <K, V> Node<K, V> put(Comparator<? super K> comparator, Object edit,
+                                       Node<K, V> node, K key, V value) {
+    if (node == null) {
+      return new Node<>(edit, key, value, null, null);
+    }
+    int compare = compare(comparator, key, node.key);
+    if (compare == 0) {
+      return node.value == value ? node : update(edit, node, key, value, node.left, node.right);
+    }
+    if (compare < 0) {
+      Node<K, V> left = put(comparator, edit, node.left, key, value);
+      return left == node.left && edit == null ? node : balance(edit, node, node.key, node.value, left, node.right);
+    }
+    Node<K, V> right = put(comparator, edit, node.right, key, value);
+    return right == node.right && edit == null ? node : balance(edit, node, node.key, node.value, node.left, right);
+  }
+
+  private static <K, V> Node<K, V> remove(Comparator<? super K> comparator, Object edit, Node<K, V> node, K key) {
+    int compare = compare(comparator, key, node.key);
+    if (compare < 0) {
+      return balance(edit, node, node.key, node.value, remove(comparator, edit, node.left, key), node.right);
+    }
+    if (compare > 0) {
+      return balance(edit, node, node.key, node.value, node.left, remove(comparator, edit, node.right, key));
+    }
+    if (node.left == null) {
+      return node.right;
+    }
+    if (node.right == null) {
+      return node.left;
+    }
+    Node<K, V> min = node.right;
+    while (min.left != null) {
+      min = min.left;
+    }
+    return balance(edit, node, min.key, min.value, node.left, removeFirst(edit, node.right));
+  }
+
+  private static <K, V> Node<K, V> removeFirst(Object edit, Node<K, V> node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    return balance(edit, node, node.key, node.value, removeFirst(edit, node.left), node.right);
+  }
+
+  private static <K, V> Node<K, V> splitLeft(Comparator<? super K> comparator, Node<K, V> node, K key) {
+    if (node == null) {
+      return null;
+    }
+    int compare = compare(comparator, key, node.key);
+    if (compare == 0) {
+      return node.left;
+    }
+    if (compare < 0) {
+      return splitLeft(comparator, node.left, key);
+    }
+    return join(node.left, node.key, node.value, splitLeft(comparator, node.right, key));
+  }
+
+  private static <K, V> Node<K, V> splitRight(Comparator<? super K> comparator, Node<K, V> node, K key) {
+    if (node == null) {
+      return null;
+    }
+    int compare = compare(comparator, key, node.key);
+    if (compare == 0) {
+      return node.right;
+    }
+    if (compare > 0) {
+      return splitRight(comparator, node.right, key);
+    }
+    return join(splitRight(comparator, node.left, key), node.key, node.value, node.right);
+  }
+
+  // all the keys of left are lower than key, and all the keys of right are greater
+  private static <K, V> Node<K, V> join(Node<K, V> left, K key, V value, Node<K, V> right) {
+    int leftHeight = height(left);
+    int rightHeight = height(right);
+    if (leftHeight > rightHeight + 1) {
+      return balance(null, left, left.key, left.value, left.left, join(left.right, key, value, right));
+    }
+    if (rightHeight > leftHeight + 1) {
+      return balance(null, right, right.key, right.value, join(left, key, value, right.left), right.right);
+    }
+    return new Node<>(null, key, value, left, right);
+  }
+
+  // the given node is reused for the key and value when it is owned by the edit token
+  private static <K, V> Node<K, V> balance(Object edit, Node<K, V> node, K key, V value,
+                                           Node<K, V> left, Node<K, V> right) {
+    int leftHeight = height(left);
+    int rightHeight = height(right);
+    if (leftHeight > rightHeight + 1) {
+      if (height(left.left) >= height(left.right)) {
+        Node<K, V> newRight = update(edit, node, key, value, left.right, right);
+        return update(edit, left, left.key, left.value, left.left, newRight);
+      }
+      Node<K, V> pivot = left.right;
+      Node<K, V> pivotRight = pivot.right;
+      Node<K, V> newLeft = update(edit, left, left.key, left.value, left.left, pivot.left);
+      Node<K, V> newRight = update(edit, node, key, value, pivotRight, right);
+      return update(edit, pivot, pivot.key, pivot.value, newLeft, newRight);
+    }
+    if (rightHeight > leftHeight + 1) {
+      if (height(right.right) >= height(right.left)) {
+        Node<K, V> newLeft = update(edit, node, key, value, left, right.left);
+        return update(edit, right, right.key, right.value, newLeft, right.right);
+      }
+      Node<K, V> pivot = right.left;
+      Node<K, V> pivotLeft = pivot.left;
+      Node<K, V> newRight = update(edit, right, right.key, right.value, pivot.right, right.right);
+      Node<K, V> newLeft = update(edit, node, key, value, left, pivotLeft);
+      return update(edit, pivot, pivot.key, pivot.value, newLeft, newRight);
+    }
+    return update(edit, node, key, value, left, right);
+  }
+
+  private static <K, V> Node<K, V> update(Object edit, Node<K, V> node, K key, V value,
+                                          Node<K, V> left, Node<K, V> right) {
+    if (edit != null && node.edit == edit) {
+      node.key = key;
+      node.value = value;
+      node.setChildren(left, right);
+      return node;
+    }
+    return new Node<>(edit, key, value, left, right);
+  }
+
+  private static int height(Node<?, ?> node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static int size(Node<?, ?> node) {
+    return node == null ? 0 : node.size;
+  }
+
+  @SuppressWarnings("unchecked")
+  static int compare(Object a, Object b) {
+    return ((Comparable<Object>) a).compareTo(b);
+  }
+
+  private static <K> int compare(Comparator<? super K> comparator, K a, K b) {
+    return comparator == null ? compare(a, b) : comparator.compare(a, b);
+  }
+
+  static final class Node<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 7326471543233591460L;
+
+    private final transient Object edit;
+    K key;
+    V value;
+    private Node<K, V> left;
+    private Node<K, V> right;
+    private int height;
+    private int size;
+
+    private Node(Object edit, K key, V value, Node<K, V> left, Node<K, V> right) {
+      this.edit = edit;
+      this.key = key;
+      this.value = value;
+      setChildren(left, right);
+    }
+
+    private void setChildren(Node<K, V> left, Node<K, V> right) {
+      this.left = left;
+      this.right = right;
+      this.height = Math.max(height(left), height(right)) + 1;
+      this.size = size(left) + size(right) + 1;
+    }
+  }
+
+  /**
+   * Mutable version of the tree. It should be used by a single thread, and it cannot be used anymore after
+   * calling {@code persistent()}.
+   */
+  static final class Transient<K, V> {
+
+    private final Comparator<? super K> comparator;
+    private Object edit = new Object();
+    private Node<K, V> root;
+
+    private Transient(Comparator<? super K> comparator, Node<K, V> root) {
+      this.comparator = comparator;
+      this.root = root;
+    }
+
+    int size() {
+      return PersistentTree.size(root);
+    }
+
+    Node<K, V> find(K key) {
+      ensureEditable();
+      return PersistentTree.find(comparator, root, key);
+    }
+
+    void put(K key, V value) {
+      checkNonNull(key);
+      Node<K, V> current = find(key);
+      if (current == null || current.value != value) {
+        root = PersistentTree.put(comparator, edit, root, key, value);
+      }
+    }
+
+    void remove(K key) {
+      if (find(key) != null) {
+        root = PersistentTree.remove(comparator, edit, root, key);
+      }
+    }
+
+    PersistentTree<K, V> persistent() {
+      ensureEditable();
+      edit = null;
+      return PersistentTree.<K, V>empty(comparator).with(root);
+    }
+
+    private void ensureEditable() {
+      if (edit == null) {
+        throw new IllegalStateException("transient used after persistent");
+      }
+    }
+  }
+
+  private static final class NodeIterator<K, V> implements Iterator<Node<K, V>> {
+
+    private final Object[] stack;
+    private int depth;
+
+    private NodeIterator(Node<K, V> root) {
+      this.stack = new Object[height(root)];
+      pushLeft(root);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return depth > 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Node<K, V> next() {
+      if (depth == 0) {
+        throw new NoSuchElementException();
+      }
+      Node<K, V> next = (Node<K, V>) stack[--depth];
+      stack[depth] = null;
+      pushLeft(next.right);
+      return next;
+    }
+
+    private void pushLeft(Node<K, V> node) {
+      for (Node<K, V> current = node; current != null; current = current.left) {
+        stack[depth++] = current;
+      }
+    }
+  }
+
+  /**
+   * Splits the tree by its subtrees. The left subtree goes to the new spliterator, or the root and the left
+   * subtree of the right child when there is no left subtree, so only one or two nodes are copied per split.
+   * Once the traversal starts it can not be split anymore.
+   */
+  private static final class KeySpliterator<K, V> implements Spliterator<K> {
+
+    private static final int MIN_SPLIT = 64;
+
+    private final Comparator<? super K> comparator;
+    private Node<K, V> root;
+    private Iterator<Node<K, V>> iterator;
+    private int consumed;
+
+    private KeySpliterator(Comparator<? super K> comparator, Node<K, V> root) {
+      this.comparator = comparator;
+      this.root = root;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super K> action) {
+      if (iterator == null) {
+        iterator = new NodeIterator<>(root);
+      }
+      if (iterator.hasNext()) {
+        consumed++;
+        action.accept(iterator.next().key);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super K> action) {
+      if (iterator == null) {
+        iterator = new NodeIterator<>(root);
+      }
+      while (iterator.hasNext()) {
+        consumed++;
+        action.accept(iterator.next().key);
+      }
+    }
+
+    @Override
+    public Spliterator<K> trySplit() {
+      if (iterator != null || size(root) < MIN_SPLIT) {
+        return null;
+      }
+      Node<K, V> prefix;
+      if (root.left != null) {
+        prefix = root.left;
+        root = new Node<>(null, root.key, root.value, null, root.right);
+      } else {
+        Node<K, V> right = root.right;
+        prefix = new Node<>(null, root.key, root.value, null, right.left);
+        root = new Node<>(null, right.key, right.value, null, right.right);
+      }
+      return new KeySpliterator<>(comparator, prefix);
+    }
+
+    @Override
+    public long estimateSize() {
+      return size(root) - consumed;
+    }
+
+    @Override
+    public int characteristics() {
+      return DISTINCT | ORDERED | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    @Override
+    public Comparator<? super K> getComparator() {
+      return comparator;
+    }
+  }
+}
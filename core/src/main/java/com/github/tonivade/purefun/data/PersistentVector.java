@@ -0,0 +1,684 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Persistent vector implemented as a relaxed radix balanced tree. The elements are stored in leaves of up to 32
+ * elements, and every branch has up to 32 children and keeps the accumulated size of its children, so nodes
+ * don't need to be full and the vector can be split and concatenated without copying all the elements.
+ * All the leaves are at the same depth, so get, set, insert, remove and drop only copy the path from the root
+ * to the affected leaf.
+ */
+final class PersistentVector<E> implements Iterable<E>, Serializable {
+
+  private static final long serialVersionUID = -3260938436553935376L;
+
+  private static final int WIDTH = 32;
+
+  private static final PersistentVector<?> EMPTY = new PersistentVector<>(new Leaf(new Object[0]));
+
+  private final Node root;
+
+  private PersistentVector(Node root) {
+    this.root = root;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <E> PersistentVector<E> empty() {
+    return (PersistentVector<E>) EMPTY;
+  }
+
+  static <E> PersistentVector<E> from(Object[] elements) {
+    if (elements.length == 0) {
+      return empty();
+    }
+    Node[] nodes = new Node[(elements.length + WIDTH - 1) / WIDTH];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = new Leaf(
+          Arrays.copyOfRange(elements, i * WIDTH, Math.min((i + 1) * WIDTH, elements.length), Object[].class));
+    }
+    while (nodes.length > 1) {
+      Node[] parents = new Node[(nodes.length + WIDTH - 1) / WIDTH];
+      for (int i = 0; i < parents.length; i++) {
+        parents[i] = Branch.of(Arrays.copyOfRange(nodes, i * WIDTH, Math.min((i + 1) * WIDTH, nodes.length)));
+      }
+      nodes = parents;
+    }
+    return new PersistentVector<>(nodes[0]);
+  }
+
+  Transient<E> toTransient() {
+    return new Transient<>(this);
+  }
+
+  int size() {
+    return root.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  E get(int index) {
+    checkIndex(index, size());
+    return (E) root.get(index);
+  }
+
+  PersistentVector<E> set(int index, E element) {
+    checkIndex(index, size());
+    return new PersistentVector<>(root.set(index, element));
+  }
+
+  PersistentVector<E> append(E element) {
+    return insert(size(), element);
+  }
+
+  PersistentVector<E> insert(int index, E element) {
+    checkIndex(index, size() + 1);
+    return of(root.insert(index, element));
+  }
+
+  PersistentVector<E> remove(int index) {
+    checkIndex(index, size());
+    return of(root.remove(index));
+  }
+
+  PersistentVector<E> drop(int n) {
+    if (n <= 0) {
+      return this;
+    }
+    if (n >= size()) {
+      return empty();
+    }
+    return of(root.drop(n));
+  }
+
+  PersistentVector<E> take(int n) {
+    if (n <= 0) {
+      return empty();
+    }
+    if (n >= size()) {
+      return this;
+    }
+    return of(root.take(n));
+  }
+
+  PersistentVector<E> concat(PersistentVector<E> other) {
+    if (other.size() == 0) {
+      return this;
+    }
+    if (size() == 0) {
+      return other;
+    }
+    return of(join(root, other.root));
+  }
+
+  int indexOf(Object element) {
+    int i = 0;
+    for (E current : this) {
+      if (Objects.equals(current, element)) {
+        return i;
+      }
+      i++;
+    }
+    return -1;
+  }
+
+  Object[] toArray() {
+    Object[] array = new Object[size()];
+    int i = 0;
+    for (E element : this) {
+      array[i++] = element;
+    }
+    return array;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new VectorIterator<>(root);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new VectorSpliterator<>(this);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (E element : this) {
+      hashCode = 31 * hashCode + Objects.hashCode(element);
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof PersistentVector) || ((PersistentVector<?>) obj).size() != size()) {
+      return false;
+    }
+    Iterator<?> other = ((PersistentVector<?>) obj).iterator();
+    for (E element : this) {
+      if (!Objects.equals(element, other.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static Object[] toArray(Iterable<?> iterable) {
+    if (iterable instanceof Collection) {
+      return ((Collection<?>) iterable).toArray();
+    }
+    if (iterable instanceof Sequence) {
+      return new SequenceCollection<>((Sequence<?>) iterable).toArray();
+    }
+    List<Object> list = new ArrayList<>();
+    iterable.forEach(list::add);
+    return list.toArray();
+  }
+
+  private static <E> PersistentVector<E> of(Node... nodes) {
+    if (nodes.length == 0) {
+      return empty();
+    }
+    Node node = nodes.length == 1 ? nodes[0] : Branch.of(nodes);
+    while (node instanceof Branch && ((Branch) node).children.length == 1) {
+      node = ((Branch) node).children[0];
+    }
+    return new PersistentVector<>(node);
+  }
+
+  private static void checkIndex(int index, int size) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+
+  // returns one node, or two nodes of the same height
+  private static Node[] join(Node left, Node right) {
+    if (left.height() == right.height()) {
+      if (left.width() + right.width() <= WIDTH) {
+        return new Node[] { left.merge(right) };
+      }
+      return new Node[] { left, right };
+    }
+    if (left.height() > right.height()) {
+      Branch branch = (Branch) left;
+      int last = branch.children.length - 1;
+      return branch.replace(last, join(branch.children[last], right), true);
+    }
+    Branch branch = (Branch) right;
+    return branch.replace(0, join(left, branch.children[0]), false);
+  }
+
+  abstract static class Node implements Serializable {
+
+    private static final long serialVersionUID = 2196373958512829040L;
+
+    abstract int size();
+
+    abstract int height();
+
+    abstract int width();
+
+    abstract Object get(int index);
+
+    abstract Node set(int index, Object value);
+
+    // returns one node, or two nodes of the same height if it overflows
+    abstract Node[] insert(int index, Object value);
+
+    // returns no nodes when the node becomes empty, one node, or two nodes of the same height if it overflows
+    abstract Node[] remove(int index);
+
+    // 0 < n < size
+    abstract Node drop(int n);
+
+    // 0 < n < size
+    abstract Node take(int n);
+
+    // both nodes have the same height and fit in one node
+    abstract Node merge(Node other);
+  }
+
+  static final class Leaf extends Node {
+
+    private static final long serialVersionUID = -4575963436357713451L;
+
+    private final Object[] elements;
+
+    private Leaf(Object[] elements) {
+      this.elements = elements;
+    }
+
+    @Override
+    int size() {
+      return elements.length;
+    }
+
+    @Override
+    int height() {
+      return 0;
+    }
+
+    @Override
+    int width() {
+      return elements.length;
+    }
+
+    @Override
+    Object get(int index) {
+      return elements[index];
+    }
+
+    @Override
+    Node set(int index, Object value) {
+      Object[] newElements = elements.clone();
+      newElements[index] = value;
+      return new Leaf(newElements);
+    }
+
+    @Override
+    Node[] insert(int index, Object value) {
+      Object[] newElements = new Object[elements.length + 1];
+      System.arraycopy(elements, 0, newElements, 0, index);
+      newElements[index] = value;
+      System.arraycopy(elements, index, newElements, index + 1, elements.length - index);
+      if (newElements.length <= WIDTH) {
+        return new Node[] { new Leaf(newElements) };
+      }
+      int split = splitPoint(newElements.length, index);
+      return new Node[] {
+          new Leaf(Arrays.copyOfRange(newElements, 0, split)),
+          new Leaf(Arrays.copyOfRange(newElements, split, newElements.length)) };
+    }
+
+    @Override
+    Node[] remove(int index) {
+      if (elements.length == 1) {
+        return new Node[0];
+      }
+      Object[] newElements = new Object[elements.length - 1];
+      System.arraycopy(elements, 0, newElements, 0, index);
+      System.arraycopy(elements, index + 1, newElements, index, elements.length - index - 1);
+      return new Node[] { new Leaf(newElements) };
+    }
+
+    @Override
+    Node drop(int n) {
+      return new Leaf(Arrays.copyOfRange(elements, n, elements.length));
+    }
+
+    @Override
+    Node take(int n) {
+      return new Leaf(Arrays.copyOf(elements, n));
+    }
+
+    @Override
+    Node merge(Node other) {
+      Object[] otherElements = ((Leaf) other).elements;
+      Object[] newElements = Arrays.copyOf(elements, elements.length + otherElements.length);
+      System.arraycopy(otherElements, 0, newElements, elements.length, otherElements.length);
+      return new Leaf(newElements);
+    }
+  }
+
+  static final class Branch extends Node {
+
+    private static final long serialVersionUID = 5213524436815016788L;
+
+    private final int height;
+    private final Node[] children;
+    // accumulated size of the children
+    private final int[] sizes;
+
+    private Branch(int height, Node[] children, int[] sizes) {
+      this.height = height;
+      this.children = children;
+      this.sizes = sizes;
+    }
+
+    static Branch of(Node... children) {
+      int[] sizes = new int[children.length];
+      int size = 0;
+      for (int i = 0; i < children.length; i++) {
+        size += children[i].size();
+        sizes[i] = size;
+      }
+      return new Branch(children[0].height() + 1, children, sizes);
+    }
+
+    @Override
+    int size() {
+      return sizes[sizes.length - 1];
+    }
+
+    @Override
+    int height() {
+      return height;
+    }
+
+    @Override
+    int width() {
+      return children.length;
+    }
+
+    @Override
+    Object get(int index) {
+      int i = locate(index);
+      return children[i].get(index - offset(i));
+    }
+
+    @Override
+    Node set(int index, Object value) {
+      int i = locate(index);
+      Node[] newChildren = children.clone();
+      newChildren[i] = children[i].set(index - offset(i), value);
+      return new Branch(height, newChildren, sizes);
+    }
+
+    @Override
+    Node[] insert(int index, Object value) {
+      int i = index == size() ? children.length - 1 : locate(index);
+      return replace(i, children[i].insert(index - offset(i), value), index == size());
+    }
+
+    @Override
+    Node[] remove(int index) {
+      int i = locate(index);
+      Node[] child = children[i].remove(index - offset(i));
+      if (child.length > 0) {
+        return replace(i, child, false);
+      }
+      if (children.length == 1) {
+        return child;
+      }
+      Node[] newChildren = new Node[children.length - 1];
+      System.arraycopy(children, 0, newChildren, 0, i);
+      System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+      return new Node[] { of(newChildren) };
+    }
+
+    @Override
+    Node drop(int n) {
+      int i = locate(n);
+      int remaining = n - offset(i);
+      Node[] newChildren = Arrays.copyOfRange(children, i, children.length);
+      if (remaining > 0) {
+        newChildren[0] = children[i].drop(remaining);
+      }
+      return of(newChildren);
+    }
+
+    @Override
+    Node take(int n) {
+      int i = locate(n - 1);
+      int remaining = n - offset(i);
+      Node[] newChildren = Arrays.copyOf(children, i + 1);
+      if (remaining < children[i].size()) {
+        newChildren[i] = children[i].take(remaining);
+      }
+      return of(newChildren);
+    }
+
+    @Override
+    Node merge(Node other) {
+      Node[] otherChildren = ((Branch) other).children;
+      Node[] newChildren = Arrays.copyOf(children, children.length + otherChildren.length);
+      System.arraycopy(otherChildren, 0, newChildren, children.length, otherChildren.length);
+      return of(newChildren);
+    }
+
+    // replaces the child in the given position with one or two nodes, splitting this branch if it overflows
+    Node[] replace(int i, Node[] replacement, boolean append) {
+      Node[] newChildren = new Node[children.length - 1 + replacement.length];
+      System.arraycopy(children, 0, newChildren, 0, i);
+      System.arraycopy(replacement, 0, newChildren, i, replacement.length);
+      System.arraycopy(children, i + 1, newChildren, i + replacement.length, children.length - i - 1);
+      if (newChildren.length <= WIDTH) {
+        return new Node[] { of(newChildren) };
+      }
+      int split = splitPoint(newChildren.length, append ? newChildren.length - 1 : i);
+      return new Node[] {
+          of(Arrays.copyOfRange(newChildren, 0, split)),
+          of(Arrays.copyOfRange(newChildren, split, newChildren.length)) };
+    }
+
+    private int locate(int index) {
+      int low = 0;
+      int high = sizes.length - 1;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (sizes[middle] > index) {
+          high = middle;
+        } else {
+          low = middle + 1;
+        }
+      }
+      return low;
+    }
+
+    private int offset(int i) {
+      return i == 0 ? 0 : sizes[i - 1];
+    }
+  }
+
+  // appending at the end keeps the left node full, otherwise the node is split in halves
+  private static int splitPoint(int length, int index) {
+    return index == length - 1 ? length - 1 : length / 2;
+  }
+
+  /**
+   * Mutable version of the vector that only allows to append elements at the end. The elements are written
+   * directly into the arrays of the leaves, and every time a level is full, its nodes are moved to a new branch
+   * in the level above, so the final tree is already built when the transient becomes persistent again.
+   * It should be used by a single thread, and it cannot be used anymore after calling {@code persistent()}.
+   */
+  static final class Transient<E> {
+
+    private final PersistentVector<E> prefix;
+    // levels[0] contains leaves, levels[1] branches of leaves, and so on
+    private final Node[][] levels = new Node[8][];
+    private final int[] counts = new int[8];
+    private Object[] tail = new Object[WIDTH];
+    private int tailSize;
+    private int size;
+    private boolean persistent;
+
+    private Transient(PersistentVector<E> prefix) {
+      this.prefix = prefix;
+      this.size = prefix.size();
+    }
+
+    int size() {
+      return size;
+    }
+
+    void append(E element) {
+      ensureEditable();
+      if (tailSize == WIDTH) {
+        push(0, new Leaf(tail));
+        tail = new Object[WIDTH];
+        tailSize = 0;
+      }
+      tail[tailSize++] = element;
+      size++;
+    }
+
+    PersistentVector<E> persistent() {
+      ensureEditable();
+      persistent = true;
+      // nodes of the level below that are not in a branch yet, a full level plus the carry needs two branches
+      Node[] carry = tailSize == 0 ? new Node[0]
+          : new Node[] { new Leaf(tailSize == WIDTH ? tail : Arrays.copyOf(tail, tailSize)) };
+      tail = null;
+      int top = levels.length - 1;
+      while (top >= 0 && counts[top] == 0) {
+        top--;
+      }
+      for (int level = 0; level <= top; level++) {
+        Node[] nodes = Arrays.copyOf(levels[level], counts[level] + carry.length);
+        System.arraycopy(carry, 0, nodes, counts[level], carry.length);
+        carry = level == top && nodes.length <= 1 ? nodes : branches(nodes);
+      }
+      return carry.length == 0 ? prefix : prefix.concat(of(carry));
+    }
+
+    private static Node[] branches(Node[] nodes) {
+      Node[] parents = new Node[(nodes.length + WIDTH - 1) / WIDTH];
+      for (int i = 0; i < parents.length; i++) {
+        parents[i] = Branch.of(Arrays.copyOfRange(nodes, i * WIDTH, Math.min((i + 1) * WIDTH, nodes.length)));
+      }
+      return parents;
+    }
+
+    private void push(int level, Node node) {
+      if (levels[level] == null) {
+        levels[level] = new Node[WIDTH];
+      }
+      if (counts[level] == WIDTH) {
+        push(level + 1, Branch.of(levels[level]));
+        levels[level] = new Node[WIDTH];
+        counts[level] = 0;
+      }
+      levels[level][counts[level]++] = node;
+    }
+
+    private void ensureEditable() {
+      if (persistent) {
+        throw new IllegalStateException("transient used after persistent");
+      }
+    }
+  }
+
+  /**
+   * Splits the vector in halves using take and drop, so only the path to the split point is copied.
+   * Once the traversal starts it can not be split anymore.
+   */
+  private static final class VectorSpliterator<E> implements Spliterator<E> {
+
+    private PersistentVector<E> vector;
+    private Iterator<E> iterator;
+    private int consumed;
+
+    private VectorSpliterator(PersistentVector<E> vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      if (iterator == null) {
+        iterator = vector.iterator();
+      }
+      if (iterator.hasNext()) {
+        consumed++;
+        action.accept(iterator.next());
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      if (iterator == null) {
+        iterator = vector.iterator();
+      }
+      while (iterator.hasNext()) {
+        consumed++;
+        action.accept(iterator.next());
+      }
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      int size = vector.size();
+      if (iterator != null || size < WIDTH * 2) {
+        return null;
+      }
+      int half = size / 2;
+      PersistentVector<E> prefix = vector.take(half);
+      vector = vector.drop(half);
+      return new VectorSpliterator<>(prefix);
+    }
+
+    @Override
+    public long estimateSize() {
+      return vector.size() - consumed;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+  }
+
+  private static final class VectorIterator<E> implements Iterator<E> {
+
+    private final Branch[] branches;
+    private final int[] positions;
+    private Leaf leaf;
+    private int index;
+
+    private VectorIterator(Node root) {
+      this.branches = new Branch[root.height()];
+      this.positions = new int[root.height()];
+      descend(root, root.height());
+    }
+
+    @Override
+    public boolean hasNext() {
+      return leaf != null && index < leaf.elements.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      E next = (E) leaf.elements[index++];
+      if (index == leaf.elements.length) {
+        advance();
+      }
+      return next;
+    }
+
+    private void advance() {
+      for (int level = 0; level < branches.length; level++) {
+        if (positions[level] + 1 < branches[level].children.length) {
+          positions[level]++;
+          descend(branches[level].children[positions[level]], level);
+          return;
+        }
+      }
+      leaf = null;
+    }
+
+    // levels are numbered from the leaves, level 0 is the parent of the leaves
+    private void descend(Node node, int level) {
+      Node current = node;
+      for (int i = level - 1; i >= 0; i--) {
+        Branch branch = (Branch) current;
+        branches[i] = branch;
+        positions[i] = 0;
+        current = branch.children[0];
+      }
+      leaf = (Leaf) current;
+      index = 0;
+    }
+  }
+}
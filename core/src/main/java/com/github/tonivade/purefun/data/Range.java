@@ -6,21 +6,29 @@ package com.github.tonivade.purefun.data;
 
 import com.github.tonivade.purefun.Equal;
 import com.github.tonivade.purefun.Function1;
+import com.github.tonivade.purefun.Matcher1;
 import com.github.tonivade.purefun.Tuple;
 
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-import static com.github.tonivade.purefun.Function1.identity;
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.type.Validation.map2;
 import static com.github.tonivade.purefun.type.Validation.requireGreaterThanOrEqual;
 import static com.github.tonivade.purefun.type.Validation.requireLowerThan;
 import static com.github.tonivade.purefun.type.Validation.requireLowerThanOrEqual;
 
-public final class Range implements Iterable<Integer>, Serializable {
+/**
+ * Range of integers from {@code begin} (inclusive) to {@code end} (exclusive). It's a lazy sequence,
+ * the elements are never stored, and all the operations return a {@link LazySequence}.
+ * A {@code LazySequence} is only equal to another view with the same elements, use
+ * {@code asArray()} to compare the result with an {@link ImmutableArray}.
+ */
+public final class Range implements Sequence<Integer>, Serializable {
 
   private static final long serialVersionUID = 7923835507243835436L;
 
@@ -48,22 +56,78 @@ public final class Range implements Iterable<Integer>, Serializable {
         requireLowerThan(value, end), Tuple::of).isValid();
   }
 
+  @Override
   public int size() {
     return end - begin;
   }
 
+  @Override
+  public boolean contains(Integer element) {
+    return contains(checkNonNull(element).intValue());
+  }
+
+  @Override
+  public LazySequence<Integer> append(Integer element) {
+    return view().append(element);
+  }
+
+  @Override
+  public LazySequence<Integer> remove(Integer element) {
+    return view().remove(element);
+  }
+
+  @Override
+  public LazySequence<Integer> appendAll(Sequence<Integer> other) {
+    return view().appendAll(other);
+  }
+
+  @Override
+  public LazySequence<Integer> removeAll(Sequence<Integer> other) {
+    return view().removeAll(other);
+  }
+
+  @Override
+  public LazySequence<Integer> reverse() {
+    return view().reverse();
+  }
+
   public Sequence<Integer> collect() {
-    return map(identity());
+    ImmutableArray.Transient<Integer> result = ImmutableArray.<Integer>empty().toTransient();
+    for (int i = begin; i < end; i++) {
+      result.append(i);
+    }
+    return result.persistent();
+  }
+
+  @Override
+  public <T> LazySequence<T> map(Function1<Integer, T> map) {
+    return view().map(map);
+  }
+
+  @Override
+  public <T> LazySequence<T> flatMap(Function1<Integer, Sequence<T>> mapper) {
+    return view().flatMap(mapper);
+  }
+
+  @Override
+  public LazySequence<Integer> filter(Matcher1<Integer> matcher) {
+    return view().filter(matcher);
+  }
+
+  @Override
+  public LazySequence<Integer> filterNot(Matcher1<Integer> matcher) {
+    return view().filterNot(matcher);
   }
 
-  public <T> Sequence<T> map(Function1<Integer, T> map) {
-    return ImmutableArray.from(intStream().boxed()).map(map);
+  public IntSequence toIntSequence() {
+    return IntSequence.from(intStream());
   }
 
   public IntStream intStream() {
     return IntStream.range(begin, end);
   }
 
+  @Override
   public Stream<Integer> stream() {
     return intStream().boxed();
   }
@@ -73,6 +137,11 @@ public final class Range implements Iterable<Integer>, Serializable {
     return intStream().iterator();
   }
 
+  @Override
+  public Spliterator<Integer> spliterator() {
+    return stream().spliterator();
+  }
+
   @Override
   public boolean equals(Object obj) {
     return EQUAL.applyTo(this, obj);
@@ -9,10 +9,13 @@ import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import com.github.tonivade.purefun.Function1;
@@ -89,7 +92,85 @@ public interface Sequence<E> extends SequenceOf<E>, Iterable<E> {
   }
 
   default <G> ImmutableMap<G, ImmutableList<E>> groupBy(Function1<E, G> selector) {
-    return ImmutableMap.from(stream().collect(groupingBy(selector::apply))).mapValues(ImmutableList::from);
+    Map<G, ImmutableList.Transient<E>> groups = new HashMap<>();
+    for (E element : this) {
+      groups.computeIfAbsent(selector.apply(element), key -> ImmutableList.<E>empty().toTransient()).append(element);
+    }
+    ImmutableMap.Builder<G, ImmutableList<E>> builder = ImmutableMap.builder();
+    groups.forEach((key, group) -> builder.put(key, group.persistent()));
+    return builder.build();
+  }
+
+  /**
+   * Same as {@link #map(Function1)} but the elements are transformed in parallel using the common pool.
+   */
+  default <R> Sequence<R> parMap(Function1<E, R> mapper) {
+    return parMap(ForkJoinPool.commonPool(), mapper);
+  }
+
+  default <R> Sequence<R> parMap(ForkJoinPool pool, Function1<E, R> mapper) {
+    checkNonNull(mapper);
+    return Parallel.run(this, pool, stream -> stream.map(mapper::apply).collect(ImmutableArray.toImmutableArray()));
+  }
+
+  /**
+   * Same as {@link #filter(Matcher1)} but the elements are tested in parallel using the common pool.
+   */
+  default Sequence<E> parFilter(Matcher1<E> matcher) {
+    return parFilter(ForkJoinPool.commonPool(), matcher);
+  }
+
+  default Sequence<E> parFilter(ForkJoinPool pool, Matcher1<E> matcher) {
+    checkNonNull(matcher);
+    return Parallel.run(this, pool, stream -> stream.filter(matcher::match).collect(ImmutableArray.toImmutableArray()));
+  }
+
+  /**
+   * Transforms every element and combines the results in parallel using the common pool.
+   * The combinator should be associative and {@code zero} its identity, as a monoid.
+   */
+  default <R> R parFoldMap(R zero, Operator2<R> combinator, Function1<E, R> mapper) {
+    return parFoldMap(ForkJoinPool.commonPool(), zero, combinator, mapper);
+  }
+
+  default <R> R parFoldMap(ForkJoinPool pool, R zero, Operator2<R> combinator, Function1<E, R> mapper) {
+    checkNonNull(combinator);
+    checkNonNull(mapper);
+    return Parallel.run(this, pool, stream -> stream.map(mapper::apply).reduce(zero, combinator::apply));
+  }
+
+  /**
+   * Same as {@link #groupBy(Function1)} but using the common pool, the elements in each group keep the order.
+   */
+  default <G> ImmutableMap<G, ImmutableList<E>> parGroupBy(Function1<E, G> selector) {
+    return parGroupBy(ForkJoinPool.commonPool(), selector);
+  }
+
+  default <G> ImmutableMap<G, ImmutableList<E>> parGroupBy(ForkJoinPool pool, Function1<E, G> selector) {
+    checkNonNull(selector);
+    Map<G, ImmutableList<E>> groups =
+        Parallel.run(this, pool, stream -> stream.collect(groupingBy(selector::apply, ImmutableList.toImmutableList())));
+    return ImmutableMap.from(groups);
+  }
+
+  /**
+   * Same as {@link #reduce(Operator2)} but using the common pool, the operator should be associative.
+   */
+  default Option<E> parReduce(Operator2<E> operator) {
+    return parReduce(ForkJoinPool.commonPool(), operator);
+  }
+
+  default Option<E> parReduce(ForkJoinPool pool, Operator2<E> operator) {
+    checkNonNull(operator);
+    return Option.from(Parallel.run(this, pool, stream -> stream.reduce(operator::apply)));
+  }
+
+  /**
+   * Returns a lazy view of this sequence, the operations applied to the view are evaluated
+   * in a single pass when the view is forced.
+   */
+  default LazySequence<E> view() {
+    return LazySequence.from(this);
   }
 
   default ImmutableList<E> asList() {
@@ -117,7 +198,7 @@ public interface Sequence<E> extends SequenceOf<E>, Iterable<E> {
   }
 
   default Stream<Tuple2<Integer, E>> zipWithIndex() {
-    return zip(Range.of(0, size()).stream(), stream());
+    return asStream(new IndexedIterator<>(iterator()));
   }
 
   default E[] toArray(Function1<Integer, E[]> supplier) {
@@ -208,6 +289,26 @@ final class PairIterator<A, B> implements Iterator<Tuple2<A, B>> {
   }
 }
 
+final class IndexedIterator<E> implements Iterator<Tuple2<Integer, E>> {
+
+  private final Iterator<E> iterator;
+  private int index;
+
+  IndexedIterator(Iterator<E> iterator) {
+    this.iterator = checkNonNull(iterator);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public Tuple2<Integer, E> next() {
+    return Tuple.of(index++, iterator.next());
+  }
+}
+
 final class SequenceCollection<E> implements Collection<E> {
 
   private final Sequence<E> sequence;
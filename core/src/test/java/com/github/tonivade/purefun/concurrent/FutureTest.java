@@ -7,6 +7,8 @@ package com.github.tonivade.purefun.concurrent;
 import com.github.tonivade.purefun.Consumer1;
 import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Either;
 import com.github.tonivade.purefun.type.Try;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +29,7 @@ import java.util.concurrent.TimeoutException;
 
 import static com.github.tonivade.purefun.Producer.cons;
 import static com.github.tonivade.purefun.Producer.failure;
+import static com.github.tonivade.purefun.data.Sequence.listOf;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -261,6 +264,75 @@ public class FutureTest {
     assertTrue(1000 - elapsedTime < 100, () -> "it should wait for almost 1 sec, but it was " + elapsedTime);
   }
 
+  @Test
+  public void timeoutExpired() {
+    Future<Unit> sleep = Future.sleep(Duration.ofSeconds(10));
+
+    Future<Unit> future = sleep.timeout(Duration.ofMillis(100));
+
+    assertAll(
+        () -> assertTrue(future.await().getCause() instanceof TimeoutException),
+        () -> assertTrue(sleep.isCancelled()));
+  }
+
+  @Test
+  public void timeoutNotReached() {
+    Future<String> future = Future.delay(Duration.ofMillis(50), cons("Hello world!")).timeout(Duration.ofSeconds(1));
+
+    assertEquals(Try.success("Hello world!"), future.await());
+  }
+
+  @Test
+  public void firstCompletedOf() {
+    Future<String> slow = Future.delay(Duration.ofSeconds(10), cons("slow"));
+    Future<String> fast = Future.delay(Duration.ofMillis(50), cons("fast"));
+
+    Future<String> future = Future.firstCompletedOf(listOf(slow, fast));
+
+    assertAll(
+        () -> assertEquals(Try.success("fast"), future.await()),
+        () -> assertTrue(slow.isCancelled()));
+  }
+
+  @Test
+  public void race() {
+    Future<Integer> slow = Future.delay(Duration.ofSeconds(10), cons(1));
+    Future<String> fast = Future.delay(Duration.ofMillis(50), cons("fast"));
+
+    Future<Either<Integer, String>> future = Future.race(slow, fast);
+
+    assertAll(
+        () -> assertEquals(Try.success(Either.right("fast")), future.await()),
+        () -> assertTrue(slow.isCancelled()));
+  }
+
+  @Test
+  public void sequence() {
+    Future<Sequence<String>> future = Future.sequence(
+        listOf(Future.delay(Duration.ofMillis(100), cons("a")), Future.success("b"), Future.async(cons("c"))));
+
+    assertEquals(Try.success(listOf("a", "b", "c")), future.await());
+  }
+
+  @Test
+  public void sequenceFailFast() {
+    UnsupportedOperationException error = new UnsupportedOperationException();
+    Future<String> slow = Future.delay(Duration.ofSeconds(10), cons("slow"));
+
+    Future<Sequence<String>> future = Future.sequence(listOf(slow, Future.failure(error)));
+
+    assertAll(
+        () -> assertEquals(Try.failure(error), future.await(Duration.ofSeconds(1))),
+        () -> assertTrue(slow.isCancelled()));
+  }
+
+  @Test
+  public void traverse() {
+    Future<Sequence<Integer>> future = Future.traverse(listOf("a", "bb", "ccc"), string -> Future.async(string::length));
+
+    assertEquals(Try.success(listOf(1, 2, 3)), future.await());
+  }
+
   @Test
   public void notCancelled() {
     Future<String> future = Future.success("Hello world!");
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.concurrent;
+
+import static com.github.tonivade.purefun.Unit.unit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.type.Try;
+
+public class HashedWheelTimerTest {
+
+  private final HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 8);
+
+  @Test
+  public void sleep() {
+    long start = System.nanoTime();
+
+    Try<Unit> result = timer.sleep(Duration.ofMillis(50)).get();
+
+    assertEquals(Try.success(unit()), result);
+    assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos());
+  }
+
+  @Test
+  public void sleepZero() {
+    Promise<Unit> promise = timer.sleep(Duration.ZERO);
+
+    assertTrue(promise.isCompleted());
+  }
+
+  @Test
+  public void sleepMoreThanOneRound() {
+    Promise<Unit> promise = timer.sleep(Duration.ofMillis(30));
+
+    assertFalse(promise.isCompleted());
+    assertEquals(Try.success(unit()), promise.get());
+  }
+
+  @Test
+  public void sleepMany() {
+    List<Promise<Unit>> promises = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      promises.add(timer.sleep(Duration.ofMillis(i % 100)));
+    }
+
+    promises.forEach(promise -> assertEquals(Try.success(unit()), promise.get()));
+  }
+
+  @Test
+  public void cancelled() {
+    Promise<Unit> promise = timer.sleep(Duration.ofMillis(10));
+    promise.tryComplete(Try.failure(new CancellationException()));
+
+    Try<Unit> result = timer.sleep(Duration.ofMillis(20)).get().flatMap(x -> promise.get());
+
+    assertTrue(result.getCause() instanceof CancellationException);
+  }
+
+  @Test
+  public void keepsRunningAfterError() {
+    Promise<Unit> failing = timer.sleep(task -> { throw new AssertionError(); }, Duration.ofMillis(10));
+    failing.onComplete(x -> { });
+
+    Try<Unit> result = timer.sleep(Duration.ofMillis(50)).get(Duration.ofSeconds(1));
+
+    assertEquals(Try.success(unit()), result);
+    assertTrue(failing.isCompleted());
+  }
+
+  @Test
+  public void futureSleep() {
+    Try<Unit> result = Future.sleep(Future.DEFAULT_EXECUTOR, timer, Duration.ofMillis(10)).await(Duration.ofSeconds(1));
+
+    assertEquals(Try.success(unit()), result);
+  }
+
+  @Test
+  public void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer(Duration.ZERO, 8));
+    assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer(Duration.ofMillis(1), 0));
+  }
+}
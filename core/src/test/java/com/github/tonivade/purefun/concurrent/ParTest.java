@@ -7,6 +7,7 @@ package com.github.tonivade.purefun.concurrent;
 import com.github.tonivade.purefun.Consumer1;
 import com.github.tonivade.purefun.Tuple2;
 import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.data.ImmutableList;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.type.Try;
 import org.junit.jupiter.api.Test;
@@ -15,7 +16,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static com.github.tonivade.purefun.data.Sequence.listOf;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -127,6 +134,72 @@ public class ParTest {
     assertNotEquals(result.get1(), result.get2());
   }
 
+  @Test
+  public void map2InParallel() {
+    CountDownLatch latch = new CountDownLatch(2);
+    Par<Boolean> run = Par.task(() -> { latch.countDown(); return latch.await(1, TimeUnit.SECONDS); });
+
+    Par<Boolean> result = Par.map2(run, run, (a, b) -> a && b);
+
+    assertEquals(Try.success(true), result.apply(Future.DEFAULT_EXECUTOR).await());
+  }
+
+  @Test
+  public void map2Failure() {
+    RuntimeException error = new RuntimeException();
+    Future<Unit> slow = Future.sleep(Duration.ofSeconds(5));
+
+    Par<Unit> result = Par.map2(executor -> slow, Par.failure(error), (a, b) -> a);
+
+    assertEquals(Try.failure(error), result.apply(Future.DEFAULT_EXECUTOR).await(Duration.ofSeconds(1)));
+    assertTrue(slow.isCancelled());
+  }
+
+  @Test
+  public void traverseFailure() {
+    RuntimeException error = new RuntimeException();
+    Par<String> run = Par.task(this::currentThread);
+
+    Par<Sequence<String>> sequence = Par.traverse(listOf(run, Par.failure(error), run));
+
+    assertEquals(Try.failure(error), sequence.apply(Future.DEFAULT_EXECUTOR).await());
+  }
+
+  @Test
+  public void traverseN() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger max = new AtomicInteger();
+    Par<Integer> run = Par.task(() -> {
+      max.accumulateAndGet(running.incrementAndGet(), Math::max);
+      Thread.sleep(10);
+      running.decrementAndGet();
+      return 1;
+    });
+
+    Par<Sequence<Integer>> sequence = Par.traverseN(2, listOf(run, run, run, run, run, run));
+
+    assertEquals(Try.success(listOf(1, 1, 1, 1, 1, 1)), sequence.apply(Future.DEFAULT_EXECUTOR).await());
+    assertTrue(max.get() <= 2);
+  }
+
+  @Test
+  public void traverseStackSafety() {
+    Sequence<Par<Integer>> pars = ImmutableList.from(Collections.nCopies(10000, Par.success(1)));
+
+    Par<Sequence<Integer>> sequence = Par.traverseN(1, pars);
+
+    assertEquals(Try.success(10000), sequence.map(Sequence::size).apply(Future.DEFAULT_EXECUTOR).await());
+  }
+
+  @Test
+  public void parFoldMap() {
+    Sequence<Integer> sequence = ImmutableList.from(IntStream.rangeClosed(1, 10000).boxed());
+
+    Par<Long> result = Par.parFoldMap(100, sequence, 0L, Integer::longValue, Long::sum);
+
+    assertEquals(Try.success(50005000L), result.apply(Future.DEFAULT_EXECUTOR).await());
+  }
+
   private String currentThread() throws InterruptedException {
     String name = Thread.currentThread().getName();
     Thread.sleep(100);
@@ -12,12 +12,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
+import static java.util.stream.Collectors.toList;
+
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -149,4 +157,62 @@ public class PromiseTest {
 
     assertEquals(Try.success("hola mundo!"), result);
   }
+
+  @Test
+  public void onCompleteInOrder() {
+    Promise<String> promise = Promise.make(executor);
+    List<Integer> result = new CopyOnWriteArrayList<>();
+    Promise<Unit> done = Promise.make();
+
+    for (int i = 0; i < 100; i++) {
+      int index = i;
+      promise.onComplete(value -> result.add(index));
+    }
+    promise.onComplete(value -> done.succeeded(unit()));
+    promise.succeeded("hola mundo!");
+
+    assertEquals(Try.success(unit()), done.get());
+    assertEquals(IntStream.range(0, 100).boxed().collect(toList()), result);
+  }
+
+  @Test
+  public void onCompleteAfterTimeout() {
+    Promise<String> promise = Promise.make(executor);
+    List<Integer> result = new CopyOnWriteArrayList<>();
+    Promise<Unit> done = Promise.make();
+
+    for (int i = 0; i < 10; i++) {
+      int index = i;
+      promise.onComplete(value -> result.add(index));
+      assertTrue(promise.get(Duration.ofMillis(10)).getCause() instanceof TimeoutException);
+    }
+    promise.onComplete(value -> done.succeeded(unit()));
+    promise.succeeded("hola mundo!");
+
+    assertEquals(Try.success(unit()), done.get());
+    assertEquals(IntStream.range(0, 10).boxed().collect(toList()), result);
+  }
+
+  @Test
+  public void tryCompleteConcurrently() throws InterruptedException {
+    Promise<Integer> promise = Promise.make();
+    AtomicInteger completed = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool(4);
+    CountDownLatch latch = new CountDownLatch(100);
+
+    for (int i = 0; i < 100; i++) {
+      int value = i;
+      pool.execute(() -> {
+        if (promise.tryComplete(Try.success(value))) {
+          completed.incrementAndGet();
+        }
+        latch.countDown();
+      });
+    }
+
+    latch.await();
+    pool.shutdown();
+    assertEquals(1, completed.get());
+    assertTrue(promise.get().isSuccess());
+  }
 }
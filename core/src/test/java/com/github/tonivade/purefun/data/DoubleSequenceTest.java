@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.data.Sequence.arrayOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class DoubleSequenceTest {
+
+  @Test
+  public void notEmptySequence() {
+    DoubleSequence sequence = DoubleSequence.of(3.0, 1.5, 2.0);
+
+    assertAll(() -> assertEquals(3, sequence.size()),
+              () -> assertEquals(1.5, sequence.get(1)),
+              () -> assertTrue(sequence.contains(2.0)),
+              () -> assertFalse(sequence.contains(4.0)),
+              () -> assertEquals(DoubleSequence.of(6.0, 3.0, 4.0), sequence.map(x -> x * 2)),
+              () -> assertEquals(DoubleSequence.of(3.0), sequence.filter(x -> x > 2)),
+              () -> assertEquals(9.0, sequence.fold(1.0, (a, b) -> a * b)),
+              () -> assertEquals(6.5, sequence.sum()),
+              () -> assertEquals(DoubleSequence.of(1.5, 2.0, 3.0), sequence.sort()),
+              () -> assertEquals(2, sequence.sort().binarySearch(3.0)),
+              () -> assertEquals(arrayOf(3.0, 1.5, 2.0), sequence.toSequence()),
+              () -> assertEquals(sequence, DoubleSequence.from(sequence.toSequence())),
+              () -> assertEquals(DoubleSequence.empty(), DoubleSequence.of()));
+  }
+
+  @Test
+  public void compensatedSum() {
+    DoubleSequence sequence = Range.of(0, 10).toIntSequence().mapToObj(x -> 0.1)
+        .foldLeft(DoubleSequence.empty(), DoubleSequence::append);
+
+    assertEquals(1.0, sequence.sum());
+  }
+}
@@ -13,8 +13,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -97,4 +100,70 @@ public class ImmutableArrayTest {
               () -> assertEquals(ImmutableArray.empty(), array.filter(e -> e.length() > 1))
               );
   }
+
+  @Test
+  public void manyElements() {
+    ImmutableArray<Integer> array = ImmutableArray.empty();
+    for (int i = 0; i < 10000; i++) {
+      array = array.append(i);
+    }
+
+    ImmutableArray<Integer> result = array;
+    ImmutableArray<Integer> inserted = result.insert(5000, -1);
+    assertAll(() -> assertEquals(10000, result.size()),
+              () -> assertEquals(Integer.valueOf(1234), result.get(1234)),
+              () -> assertEquals(Integer.valueOf(-1), result.replace(1234, -1).get(1234)),
+              () -> assertEquals(Integer.valueOf(-1), inserted.get(5000)),
+              () -> assertEquals(Integer.valueOf(5000), inserted.get(5001)),
+              () -> assertEquals(result, inserted.remove(5000)),
+              () -> assertEquals(Integer.valueOf(9000), result.drop(9000).get(0)),
+              () -> assertEquals(result, result.drop(5000).insertAll(0, result.filter(i -> i < 5000))),
+              () -> assertEquals(result, result.filter(i -> i < 5000).appendAll(result.drop(5000))),
+              () -> assertEquals(result.toList().hashCode() + 31, result.hashCode()));
+  }
+
+  @Test
+  public void toTransient() {
+    ImmutableArray<Integer> array = arrayOf(1, 2, 3);
+
+    ImmutableArray.Transient<Integer> builder = array.toTransient();
+    for (int i = 4; i <= 10000; i++) {
+      builder.append(i);
+    }
+    ImmutableArray<Integer> result = builder.persistent();
+
+    assertAll(() -> assertEquals(arrayOf(1, 2, 3), array),
+              () -> assertEquals(10000, result.size()),
+              () -> assertEquals(Integer.valueOf(10000), result.get(9999)),
+              () -> assertEquals(ImmutableArray.from(result.stream()), result),
+              () -> assertEquals(arrayOf(1, 2, 3, 4), result.filter(i -> i <= 4)),
+              () -> assertThrows(IllegalStateException.class, () -> builder.append(10001)));
+  }
+
+  @Test
+  public void transientWithFullLevels() {
+    for (int size : new int[] { 1025, 32 * 32 * 32 + 1, 32 * 32 * 32 + 33 }) {
+      ImmutableArray.Transient<Integer> builder = ImmutableArray.<Integer>empty().toTransient();
+      List<Integer> expected = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        builder.append(i);
+        expected.add(i);
+      }
+      ImmutableArray<Integer> result = builder.persistent();
+
+      List<Integer> removed = new ArrayList<>(expected);
+      removed.remove(5);
+      List<Integer> inserted = new ArrayList<>(expected);
+      inserted.add(5, -1);
+      List<Integer> replaced = new ArrayList<>(expected);
+      replaced.set(size - 1, -1);
+
+      assertAll(() -> assertEquals(expected, result.stream().collect(Collectors.toList())),
+                () -> assertEquals(removed, result.remove(5).stream().collect(Collectors.toList())),
+                () -> assertEquals(inserted, result.insert(5, -1).stream().collect(Collectors.toList())),
+                () -> assertEquals(replaced, result.replace(size - 1, -1).stream().collect(Collectors.toList())),
+                () -> assertEquals(Integer.valueOf(1000), result.remove(5).get(999)),
+                () -> assertEquals(size - 1, ImmutableList.from(result).remove(5).size()));
+    }
+  }
 }
@@ -99,4 +99,41 @@ public class ImmutableListTest {
       () -> assertEquals(ImmutableList.empty(), list.filterNot(e -> e.length() > 1))
     );
   }
+
+  @Test
+  public void manyElements() {
+    ImmutableList<Integer> list = ImmutableList.empty();
+    for (int i = 0; i < 10000; i++) {
+      list = list.append(i);
+    }
+
+    ImmutableList<Integer> result = list;
+    assertAll(() -> assertEquals(10000, result.size()),
+              () -> assertEquals(Option.some(0), result.head()),
+              () -> assertEquals(Option.some(1), result.tail().head()),
+              () -> assertEquals(Option.some(9999), result.drop(9999).head()),
+              () -> assertEquals(ImmutableList.empty(), result.drop(10000)),
+              () -> assertEquals(result, result.filter(i -> i < 5000).appendAll(result.drop(5000))),
+              () -> assertEquals(result, result.reverse().reverse()),
+              () -> assertEquals(result.toList().hashCode() + 31, result.hashCode()));
+  }
+
+  @Test
+  public void toTransient() {
+    ImmutableList<Integer> list = listOf(1, 2, 3);
+
+    ImmutableList.Transient<Integer> builder = list.toTransient();
+    for (int i = 4; i <= 10000; i++) {
+      builder.append(i);
+    }
+    ImmutableList<Integer> result = builder.persistent();
+
+    assertAll(() -> assertEquals(listOf(1, 2, 3), list),
+              () -> assertEquals(10000, result.size()),
+              () -> assertEquals(Option.some(1), result.head()),
+              () -> assertEquals(ImmutableList.from(result.stream()), result),
+              () -> assertEquals(listOf(1, 2, 3, 4), result.filter(i -> i <= 4)),
+              () -> assertThrows(IllegalStateException.class, () -> builder.append(10001)),
+              () -> assertThrows(IllegalStateException.class, builder::persistent));
+  }
 }
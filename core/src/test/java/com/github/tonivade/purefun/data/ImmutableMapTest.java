@@ -69,4 +69,63 @@ public class ImmutableMapTest {
                                  map.put("a", "aaa").mapValues(String::toUpperCase))
               );
   }
+
+  @Test
+  public void manyEntries() {
+    ImmutableMap<Integer, String> map = ImmutableMap.empty();
+    for (int i = 0; i < 10000; i++) {
+      map = map.put(i, String.valueOf(i));
+    }
+    ImmutableMap<Integer, String> removed = map;
+    for (int i = 0; i < 10000; i += 2) {
+      removed = removed.remove(i);
+    }
+
+    ImmutableMap<Integer, String> result = map;
+    ImmutableMap<Integer, String> odds = removed;
+    assertAll(() -> assertEquals(10000, result.size()),
+              () -> assertEquals(Option.some("1234"), result.get(1234)),
+              () -> assertEquals(5000, odds.size()),
+              () -> assertEquals(Option.none(), odds.get(1234)),
+              () -> assertEquals(Option.some("1235"), odds.get(1235)),
+              () -> assertEquals(result.filterKeys(i -> i % 2 != 0), odds),
+              () -> assertEquals(ImmutableMap.from(result.toMap()), result),
+              () -> assertEquals(result.toMap().hashCode() + 31, result.hashCode()));
+  }
+
+  @Test
+  public void collisions() {
+    Collision a = new Collision("a");
+    Collision b = new Collision("b");
+    Collision c = new Collision("c");
+
+    ImmutableMap<Collision, String> map = ImmutableMap.<Collision, String>empty().put(a, "a").put(b, "b").put(c, "c");
+
+    assertAll(() -> assertEquals(3, map.size()),
+              () -> assertEquals(Option.some("b"), map.get(b)),
+              () -> assertEquals(Option.some("bb"), map.put(b, "bb").get(b)),
+              () -> assertEquals(Option.none(), map.remove(b).get(b)),
+              () -> assertEquals(Option.some("c"), map.remove(b).get(c)),
+              () -> assertEquals(ImmutableMap.of(entry(a, "a")), map.remove(b).remove(c)),
+              () -> assertEquals(ImmutableSet.of(a, b, c), map.keys()));
+  }
+
+  private static final class Collision {
+
+    private final String value;
+
+    private Collision(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+      return 42;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Collision && ((Collision) obj).value.equals(value);
+    }
+  }
 }
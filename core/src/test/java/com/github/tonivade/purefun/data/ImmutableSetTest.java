@@ -83,4 +83,41 @@ public class ImmutableSetTest {
               () -> assertEquals(ImmutableSet.empty(), set.flatMap(toUpperCase.sequence())),
               () -> assertEquals(ImmutableSet.empty(), set.filter(e -> e.length() > 1)));
   }
+
+  @Test
+  public void manyElements() {
+    ImmutableSet<Integer> set = ImmutableSet.empty();
+    for (int i = 0; i < 10000; i++) {
+      set = set.append(i);
+    }
+
+    ImmutableSet<Integer> result = set;
+    ImmutableSet<Integer> evens = result.filter(i -> i % 2 == 0);
+    assertAll(() -> assertEquals(10000, result.size()),
+              () -> assertTrue(result.contains(1234)),
+              () -> assertEquals(5000, evens.size()),
+              () -> assertEquals(result, evens.union(result.difference(evens))),
+              () -> assertEquals(evens, result.intersection(evens)),
+              () -> assertEquals(result.toSet(), new HashSet<>(result.toSet())),
+              () -> assertEquals(result.toSet().hashCode() + 31, result.hashCode()));
+  }
+
+  @Test
+  public void toTransient() {
+    ImmutableSet<Integer> set = setOf(1, 2, 3);
+
+    ImmutableSet.Transient<Integer> builder = set.toTransient();
+    for (int i = 0; i < 10000; i++) {
+      builder.append(i % 5000);
+    }
+    builder.remove(0);
+    ImmutableSet<Integer> result = builder.persistent();
+
+    assertAll(() -> assertEquals(setOf(1, 2, 3), set),
+              () -> assertEquals(4999, result.size()),
+              () -> assertFalse(result.contains(0)),
+              () -> assertTrue(result.contains(4999)),
+              () -> assertEquals(ImmutableSet.from(result.stream()), result),
+              () -> assertThrows(IllegalStateException.class, () -> builder.append(1)));
+  }
 }
@@ -9,10 +9,17 @@ import static com.github.tonivade.purefun.data.Sequence.setOf;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Comparator;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
 import org.junit.jupiter.api.Test;
 
+import com.github.tonivade.purefun.Tuple;
+import com.github.tonivade.purefun.Tuple2;
 import com.github.tonivade.purefun.type.Option;
 
 public class ImmutableTreeMapTest {
@@ -96,4 +103,64 @@ public class ImmutableTreeMapTest {
               () -> assertEquals(Option.none(), treeMap.ceilingKey("c"))
               );
   }
+
+  @Test
+  public void manyEntries() {
+    ImmutableTreeMap<Integer, String> treeMap = ImmutableTreeMap.empty();
+    for (int i = 0; i < 10000; i++) {
+      int key = (i * 7919) % 10000;
+      treeMap = treeMap.put(key, String.valueOf(key));
+    }
+    ImmutableTreeMap<Integer, String> removed = treeMap;
+    for (int i = 0; i < 10000; i += 2) {
+      removed = removed.remove(i);
+    }
+
+    ImmutableTreeMap<Integer, String> result = treeMap;
+    ImmutableTreeMap<Integer, String> odds = removed;
+    assertAll(() -> assertEquals(10000, result.size()),
+              () -> assertEquals(Option.some("1234"), result.get(1234)),
+              () -> assertEquals(Option.some(0), result.headKey()),
+              () -> assertEquals(Option.some(9999), result.tailKey()),
+              () -> assertEquals(5000, odds.size()),
+              () -> assertEquals(Option.none(), odds.get(1234)),
+              () -> assertEquals(Option.some(Tuple.of(1235, "1235")), odds.ceilingEntry(1234)),
+              () -> assertEquals(Option.some(Tuple.of(1233, "1233")), odds.floorEntry(1234)),
+              () -> assertEquals(result.filterKeys(i -> i % 2 != 0), odds),
+              () -> assertEquals(1000, result.headMap(1000).size()),
+              () -> assertEquals(8999, result.tailMap(1000).size()),
+              () -> assertEquals(Option.some(1001), result.tailMap(1000).headKey()),
+              () -> assertEquals(ImmutableTreeMap.from(result.toNavigableMap()), result),
+              () -> assertEquals(result.toNavigableMap().hashCode() + 31, result.hashCode()));
+  }
+
+  @Test
+  public void conflict() {
+    assertThrows(IllegalArgumentException.class,
+        () -> ImmutableTreeMap.of(entry("a", "aaa"), entry("a", "bbb")));
+  }
+
+  @Test
+  public void fromMapWithComparator() {
+    NavigableMap<Integer, String> reversed = new TreeMap<>(Comparator.reverseOrder());
+    reversed.put(1, "a");
+    reversed.put(2, "b");
+    reversed.put(3, "c");
+    NavigableMap<Object, String> byString = new TreeMap<>(Comparator.comparing(Object::toString));
+    byString.put(new Object() { @Override public String toString() { return "b"; } }, "b");
+    byString.put(new Object() { @Override public String toString() { return "a"; } }, "a");
+
+    ImmutableTreeMap<Integer, String> treeMap = ImmutableTreeMap.from(reversed);
+    ImmutableTreeMap<Object, String> notComparable = ImmutableTreeMap.from(byString);
+
+    assertAll(() -> assertEquals(Option.some(3), treeMap.headKey()),
+              () -> assertEquals(Option.some(1), treeMap.tailKey()),
+              () -> assertEquals(Option.some(0), treeMap.put(0, "z").tailKey()),
+              () -> assertEquals(Option.some(Tuple.of(1, "a")), treeMap.higherEntry(2)),
+              () -> assertEquals(Option.some(2), treeMap.headMap(1).tailKey()),
+              () -> assertEquals(reversed, treeMap.toNavigableMap()),
+              () -> assertEquals(ImmutableTreeMap.of(entry(1, "a"), entry(2, "b"), entry(3, "c")), treeMap),
+              () -> assertEquals(Option.some("a"), notComparable.headEntry().map(Tuple2::get2)),
+              () -> assertEquals(Option.some("b"), notComparable.put(byString.firstKey(), "b").get(byString.lastKey())));
+  }
 }
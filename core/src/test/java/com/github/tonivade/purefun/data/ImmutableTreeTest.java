@@ -105,4 +105,54 @@ public class ImmutableTreeTest {
               () -> assertEquals(Option.none(), tree.ceiling("c"))
               );
   }
+
+  @Test
+  public void manyElements() {
+    ImmutableTree<Integer> tree = ImmutableTree.empty();
+    for (int i = 0; i < 10000; i++) {
+      tree = tree.append((i * 7919) % 10000);
+    }
+    ImmutableTree<Integer> removed = tree;
+    for (int i = 0; i < 10000; i += 2) {
+      removed = removed.remove(i);
+    }
+
+    ImmutableTree<Integer> result = tree;
+    ImmutableTree<Integer> odds = removed;
+    assertAll(() -> assertEquals(10000, result.size()),
+              () -> assertEquals(Option.some(0), result.head()),
+              () -> assertEquals(Option.some(9999), result.tail()),
+              () -> assertEquals(5000, odds.size()),
+              () -> assertFalse(odds.contains(1234)),
+              () -> assertEquals(Option.some(1235), odds.ceiling(1234)),
+              () -> assertEquals(Option.some(1233), odds.floor(1234)),
+              () -> assertEquals(Option.some(1237), odds.higher(1235)),
+              () -> assertEquals(Option.some(1233), odds.lower(1235)),
+              () -> assertEquals(result.filter(i -> i % 2 != 0), odds),
+              () -> assertEquals(1000, result.headTree(1000).size()),
+              () -> assertEquals(Option.some(999), result.headTree(1000).tail()),
+              () -> assertEquals(8999, result.tailTree(1000).size()),
+              () -> assertEquals(Option.some(1001), result.tailTree(1000).head()),
+              () -> assertEquals(ImmutableTree.from(result.toNavigableSet()), result),
+              () -> assertEquals(result.toNavigableSet().hashCode() + 31, result.hashCode()));
+  }
+
+  @Test
+  public void toTransient() {
+    ImmutableTree<Integer> tree = ImmutableTree.of(1, 2, 3);
+
+    ImmutableTree.Transient<Integer> builder = tree.toTransient();
+    for (int i = 0; i < 10000; i++) {
+      builder.append((i * 7919) % 5000);
+    }
+    builder.remove(0);
+    ImmutableTree<Integer> result = builder.persistent();
+
+    assertAll(() -> assertEquals(ImmutableTree.of(1, 2, 3), tree),
+              () -> assertEquals(4999, result.size()),
+              () -> assertEquals(Option.some(1), result.head()),
+              () -> assertEquals(Option.some(4999), result.tail()),
+              () -> assertEquals(ImmutableTree.from(result.stream()), result),
+              () -> assertThrows(IllegalStateException.class, () -> builder.append(1)));
+  }
 }
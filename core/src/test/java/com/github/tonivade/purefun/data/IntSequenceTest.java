@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.data.Sequence.arrayOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class IntSequenceTest {
+
+  @Test
+  public void notEmptySequence() {
+    IntSequence sequence = IntSequence.of(3, 1, 2);
+
+    assertAll(() -> assertEquals(3, sequence.size()),
+              () -> assertFalse(sequence.isEmpty()),
+              () -> assertEquals(1, sequence.get(1)),
+              () -> assertTrue(sequence.contains(2)),
+              () -> assertFalse(sequence.contains(4)),
+              () -> assertEquals(IntSequence.of(6, 2, 4), sequence.map(x -> x * 2)),
+              () -> assertEquals(IntSequence.of(3), sequence.filter(x -> x > 2)),
+              () -> assertEquals(IntSequence.of(1, 2), sequence.filterNot(x -> x > 2)),
+              () -> assertEquals(6, sequence.fold(1, (a, b) -> a * b)),
+              () -> assertEquals(6L, sequence.sum()),
+              () -> assertEquals(IntSequence.of(1, 2, 3), sequence.sort()),
+              () -> assertEquals(2, sequence.sort().binarySearch(3)),
+              () -> assertEquals(IntSequence.of(3, 1, 2, 4), sequence.append(4)),
+              () -> assertEquals(IntSequence.of(3, 1, 2, 3, 1, 2), sequence.appendAll(sequence)),
+              () -> assertEquals(arrayOf("3", "1", "2"), sequence.mapToObj(String::valueOf)),
+              () -> assertEquals(arrayOf(3, 1, 2), sequence.toSequence()),
+              () -> assertEquals(sequence, IntSequence.from(sequence.toSequence())),
+              () -> assertEquals(sequence, IntSequence.from(sequence.stream())),
+              () -> assertArrayEquals(new int[] { 3, 1, 2 }, sequence.toArray()),
+              () -> assertEquals("IntSequence([3, 1, 2])", sequence.toString()));
+  }
+
+  @Test
+  public void emptySequence() {
+    IntSequence sequence = IntSequence.empty();
+
+    assertAll(() -> assertEquals(0, sequence.size()),
+              () -> assertTrue(sequence.isEmpty()),
+              () -> assertEquals(IntSequence.of(), sequence),
+              () -> assertEquals(sequence, sequence.map(x -> x * 2)),
+              () -> assertEquals(0L, sequence.sum()),
+              () -> assertEquals(-1, sequence.binarySearch(1)),
+              () -> assertFalse(sequence.iterator().hasNext()),
+              () -> assertThrows(IllegalArgumentException.class, () -> IntSequence.from(arrayOf(1, null))));
+  }
+
+  @Test
+  public void sumWithoutOverflow() {
+    IntSequence sequence = Range.of(0, 100).toIntSequence().map(x -> Integer.MAX_VALUE);
+
+    assertEquals(100L * Integer.MAX_VALUE, sequence.sum());
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.data.Sequence.arrayOf;
+import static com.github.tonivade.purefun.data.Sequence.listOf;
+import static com.github.tonivade.purefun.data.Sequence.setOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purefun.type.Option;
+
+public class LazySequenceTest {
+
+  @Test
+  public void view() {
+    LazySequence<String> view = listOf("a", "b", "c").view();
+
+    assertAll(() -> assertEquals(3, view.size()),
+              () -> assertFalse(view.isEmpty()),
+              () -> assertTrue(view.contains("a")),
+              () -> assertFalse(view.contains("z")),
+              () -> assertSame(view, view.view()),
+              () -> assertEquals("abc", view.fold("", (a, b) -> a + b)),
+              () -> assertEquals("abc", view.foldRight("", (a, b) -> a + b)),
+              () -> assertEquals(Option.some("abc"), view.reduce((a, b) -> a + b)),
+              () -> assertEquals(listOf("a", "b", "c"), view.asList()),
+              () -> assertEquals(arrayOf("c", "b", "a"), view.reverse().asArray()),
+              () -> assertEquals(arrayOf("A", "B", "C"), view.map(String::toUpperCase).asArray()),
+              () -> assertEquals(arrayOf("a", "a", "b", "b", "c", "c"), view.flatMap(x -> listOf(x, x)).asArray()),
+              () -> assertEquals(arrayOf("a", "c"), view.filter(x -> !x.equals("b")).asArray()),
+              () -> assertEquals(arrayOf("b"), view.filterNot(x -> !x.equals("b")).asArray()),
+              () -> assertEquals(arrayOf("a", "b", "c", "z"), view.append("z").asArray()),
+              () -> assertEquals(arrayOf("a", "b", "c", "a"), view.appendAll(listOf("a")).asArray()),
+              () -> assertEquals(arrayOf("a", "c", "b"), view.append("b").remove("b").asArray()),
+              () -> assertEquals(arrayOf("a", "b", "c"), view.remove("z").asArray()),
+              () -> assertEquals(arrayOf("c"), view.removeAll(setOf("a", "b")).asArray()),
+              () -> assertEquals(2, view.filter(x -> !x.equals("b")).size()),
+              () -> assertEquals(4, view.append("z").size()));
+  }
+
+  @Test
+  public void equality() {
+    LazySequence<Integer> view = Range.of(1, 4).map(x -> x * 2);
+
+    assertAll(() -> assertEquals(arrayOf(2, 4, 6).view(), view),
+              () -> assertEquals(listOf(2, 4, 6).view().hashCode(), view.hashCode()),
+              () -> assertNotEquals(arrayOf(6, 4, 2).view(), view),
+              () -> assertNotEquals(arrayOf(2, 4, 6), view),
+              () -> assertEquals("LazySequence([2, 4, 6])", view.toString()));
+  }
+
+  @Test
+  public void fusion() {
+    AtomicInteger counter = new AtomicInteger();
+
+    LazySequence<Integer> view = Range.of(0, 10).view()
+        .map(x -> { counter.incrementAndGet(); return x + 1; })
+        .filter(x -> x % 2 == 0)
+        .map(x -> x * 10)
+        .filter(x -> x > 40);
+
+    assertEquals(0, counter.get());
+    assertEquals(arrayOf(60, 80, 100), view.asArray());
+    assertEquals(10, counter.get());
+    assertEquals(Integer.valueOf(240), view.fold(0, Integer::sum));
+    assertEquals(20, counter.get());
+  }
+
+  @Test
+  public void lazy() {
+    AtomicInteger counter = new AtomicInteger();
+
+    LazySequence<Integer> view = Range.of(0, Integer.MAX_VALUE)
+        .map(x -> { counter.incrementAndGet(); return x; });
+
+    assertEquals(Integer.MAX_VALUE, view.size());
+    assertEquals(Integer.valueOf(0), view.iterator().next());
+    assertEquals(1, counter.get());
+  }
+
+  @Test
+  public void largeView() {
+    long result = Range.of(0, 1_000_000).view()
+        .filter(x -> x % 3 == 0)
+        .map(Long::valueOf)
+        .foldLeft(0L, Long::sum);
+
+    assertEquals(166_666_833_333L, result);
+  }
+}
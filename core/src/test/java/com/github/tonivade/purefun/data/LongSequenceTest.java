@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.data.Sequence.arrayOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LongSequenceTest {
+
+  @Test
+  public void notEmptySequence() {
+    LongSequence sequence = LongSequence.of(3L, 1L, 2L);
+
+    assertAll(() -> assertEquals(3, sequence.size()),
+              () -> assertEquals(1L, sequence.get(1)),
+              () -> assertTrue(sequence.contains(2L)),
+              () -> assertFalse(sequence.contains(4L)),
+              () -> assertEquals(LongSequence.of(6L, 2L, 4L), sequence.map(x -> x * 2)),
+              () -> assertEquals(LongSequence.of(3L), sequence.filter(x -> x > 2)),
+              () -> assertEquals(6L, sequence.fold(1L, (a, b) -> a * b)),
+              () -> assertEquals(6L, sequence.sum()),
+              () -> assertEquals(LongSequence.of(1L, 2L, 3L), sequence.sort()),
+              () -> assertEquals(2, sequence.sort().binarySearch(3L)),
+              () -> assertEquals(arrayOf(3L, 1L, 2L), sequence.toSequence()),
+              () -> assertEquals(sequence, LongSequence.from(sequence.toSequence())),
+              () -> assertEquals(LongSequence.empty(), LongSequence.of()));
+  }
+}
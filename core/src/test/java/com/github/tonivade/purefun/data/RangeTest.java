@@ -28,7 +28,12 @@ public class RangeTest {
         () -> assertFalse(range.contains(0)),
         () -> assertFalse(range.contains(10)),
         () -> assertTrue(range.contains(1)),
-        () -> assertEquals(arrayOf(1, 2, 3, 4, 5, 6, 7, 8, 9), range.collect())
+        () -> assertEquals(arrayOf(1, 2, 3, 4, 5, 6, 7, 8, 9), range.collect()),
+        () -> assertEquals(IntSequence.of(1, 2, 3, 4, 5, 6, 7, 8, 9), range.toIntSequence()),
+        () -> assertEquals(arrayOf("1", "2"), Range.of(1, 3).map(String::valueOf).asArray()),
+        () -> assertEquals(arrayOf(3, 2, 1), Range.of(1, 4).reverse().asArray()),
+        () -> assertEquals(arrayOf(2, 4, 6, 8), range.filter(x -> x % 2 == 0).asArray()),
+        () -> assertEquals(Integer.MAX_VALUE, Range.of(0, Integer.MAX_VALUE).map(x -> x + 1).size())
     );
   }
 }
\ No newline at end of file
@@ -7,12 +7,19 @@ package com.github.tonivade.purefun.data;
 import static com.github.tonivade.purefun.data.ImmutableList.toImmutableList;
 import static com.github.tonivade.purefun.data.Sequence.listOf;
 import static com.github.tonivade.purefun.data.Sequence.zip;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.Test;
 
 import com.github.tonivade.purefun.Tuple;
 import com.github.tonivade.purefun.Tuple2;
+import com.github.tonivade.purefun.type.Option;
 
 public class SequenceTest {
 
@@ -47,4 +54,61 @@ public class SequenceTest {
 
     assertEquals(listOf(Tuple.of(0, "a"), Tuple.of(1, "b"), Tuple.of(2, "c")), zipped);
   }
+
+  @Test
+  public void parallel() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    ImmutableArray<Integer> array = Range.of(0, 100_000).collect().asArray();
+
+    try {
+      assertAll(
+          () -> assertEquals(array.map(x -> x * 2), array.parMap(pool, x -> x * 2)),
+          () -> assertEquals(array.filter(x -> x % 3 == 0), array.parFilter(pool, x -> x % 3 == 0)),
+          () -> assertEquals(array.asList().map(x -> x * 2), array.asList().parMap(x -> x * 2)),
+          () -> assertEquals(array.asSet().filter(x -> x % 3 == 0), array.asSet().parFilter(x -> x % 3 == 0)),
+          () -> assertEquals(array.asTree().map(x -> -x), array.asTree().parMap(pool, x -> -x)),
+          () -> assertEquals(array.groupBy(x -> x % 7), array.parGroupBy(pool, x -> x % 7)),
+          () -> assertEquals(array.asSet().groupBy(x -> x % 7).values().map(ImmutableList::size),
+                             array.asSet().parGroupBy(pool, x -> x % 7).values().map(ImmutableList::size)),
+          () -> assertEquals(Option.some(4_999_950_000L), array.map(Long::valueOf).parReduce(pool, Long::sum)),
+          () -> assertEquals(Long.valueOf(4_999_950_000L), array.parFoldMap(pool, 0L, Long::sum, Long::valueOf)),
+          () -> assertEquals(Option.none(), ImmutableArray.<Integer>empty().parReduce(Integer::sum)),
+          () -> assertEquals(listOf(2, 4, 6), listOf(1, 2, 3).parMap(x -> x * 2)));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void spliterator() {
+    ImmutableArray<Integer> array = Range.of(0, 1000).collect().asArray();
+    Spliterator<Integer> spliterator = array.spliterator();
+    Spliterator<Integer> prefix = spliterator.trySplit();
+
+    assertAll(
+        () -> assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)),
+        () -> assertEquals(500, prefix.estimateSize()),
+        () -> assertEquals(500, spliterator.estimateSize()),
+        () -> assertEquals(1000, array.asSet().spliterator().estimateSize()),
+        () -> assertEquals(1000, array.asTree().spliterator().estimateSize()));
+  }
+
+  @Test
+  public void spliteratorSplitsTrieAndTree() {
+    ImmutableArray<Integer> array = Range.of(0, 10_000).collect().asArray();
+    Spliterator<Integer> set = array.asSet().spliterator();
+    Spliterator<Integer> setPrefix = set.trySplit();
+    Spliterator<Integer> tree = array.asTree().spliterator();
+    Spliterator<Integer> treePrefix = tree.trySplit();
+    ImmutableList<Integer> treeFirst = StreamSupport.stream(treePrefix, false).collect(toImmutableList());
+    ImmutableList<Integer> treeSecond = StreamSupport.stream(tree, false).collect(toImmutableList());
+
+    assertAll(
+        () -> assertEquals(10_000, StreamSupport.stream(setPrefix, false).count() + StreamSupport.stream(set, false).count()),
+        () -> assertEquals(10_000, treeFirst.size() + treeSecond.size()),
+        () -> assertTrue(treeFirst.size() > 1000 && treeSecond.size() > 1000),
+        () -> assertTrue(treeFirst.reverse().head().get() < treeSecond.head().get()),
+        () -> assertEquals(array.asList(), StreamSupport.stream(array.asTree().spliterator(), true).collect(toImmutableList())),
+        () -> assertEquals(array.asSet(), StreamSupport.stream(array.asSet().spliterator(), true).collect(ImmutableSet.toImmutableSet())));
+  }
 }
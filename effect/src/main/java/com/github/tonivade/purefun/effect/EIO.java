@@ -19,6 +19,8 @@ import com.github.tonivade.purefun.Nothing;
 import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Unit;
 import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.type.Either;
 import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.typeclasses.MonadDefer;
@@ -101,6 +103,14 @@ public final class EIO<E, T> implements EIOOf<E, T> {
     return new EIO<>(value.orElse(() -> other.get().value));
   }
 
+  public EIO<E, ZFiber<E, T>> fork() {
+    return new EIO<>(value.fork());
+  }
+
+  public EIO<E, ZFiber<E, T>> fork(Executor executor) {
+    return new EIO<>(value.fork(executor));
+  }
+
   public EIO<E, T> repeat() {
     return repeat(1);
   }
@@ -157,6 +167,34 @@ public final class EIO<E, T> implements EIOOf<E, T> {
     return new EIO<>(ZIO.map2(za.value, zb.value, mapper));
   }
 
+  public static <E, A> EIO<E, A> join(ZFiber<E, A> fiber) {
+    return new EIO<>(fiber.join());
+  }
+
+  public static <E> EIO<E, Unit> interrupt(ZFiber<?, ?> fiber) {
+    return new EIO<>(fiber.interrupt());
+  }
+
+  public static <E, A, B, C> EIO<E, C> zipPar(EIO<E, A> za, EIO<E, B> zb, Function2<A, B, C> mapper) {
+    return new EIO<>(ZIO.zipPar(za.value, zb.value, mapper));
+  }
+
+  public static <E, A, B> EIO<E, ImmutableList<B>> foreachPar(Sequence<A> values, Function1<A, EIO<E, B>> mapper) {
+    return new EIO<>(ZIO.foreachPar(values, mapper.andThen(eio -> eio.value)));
+  }
+
+  public static <E, A, B, C> EIO<E, C> raceWith(EIO<E, A> left, EIO<E, B> right,
+      Function2<Either<E, A>, ZFiber<E, B>, EIO<E, C>> leftDone,
+      Function2<Either<E, B>, ZFiber<E, A>, EIO<E, C>> rightDone) {
+    return new EIO<>(ZIO.raceWith(left.value, right.value,
+        (resultA, fiberB) -> leftDone.apply(resultA, fiberB).value,
+        (resultB, fiberA) -> rightDone.apply(resultB, fiberA).value));
+  }
+
+  public static <E, A, B> EIO<E, Either<A, B>> race(EIO<E, A> left, EIO<E, B> right) {
+    return new EIO<>(ZIO.race(left.value, right.value));
+  }
+
   public static <E, A> EIO<E, A> absorb(EIO<E, Either<E, A>> value) {
     return new EIO<>(ZIO.absorb(value.value));
   }
@@ -181,6 +219,13 @@ public final class EIO<E, T> implements EIOOf<E, T> {
     return new EIO<>(ZIO.defer(() -> lazy.get().value));
   }
 
+  /**
+   * Suspends the program until the callback is called, same as {@link ZIO#async(Consumer1)}.
+   */
+  public static <E, A> EIO<E, A> fromCallback(Consumer1<Consumer1<Try<Either<E, A>>>> consumer) {
+    return new EIO<>(ZIO.async(consumer));
+  }
+
   public static <A> EIO<Throwable, A> task(Producer<A> task) {
     return new EIO<>(ZIO.task(task));
   }
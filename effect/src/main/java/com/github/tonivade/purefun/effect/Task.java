@@ -21,6 +21,9 @@ import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Recoverable;
 import com.github.tonivade.purefun.Unit;
 import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.concurrent.HashedWheelTimer;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.type.Either;
 import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.typeclasses.MonadDefer;
@@ -91,6 +94,14 @@ public final class Task<T> implements TaskOf<T>, Recoverable {
     return new Task<>(value.orElse(() -> other.get().value));
   }
 
+  public Task<ZFiber<Throwable, T>> fork() {
+    return new Task<>(value.fork());
+  }
+
+  public Task<ZFiber<Throwable, T>> fork(Executor executor) {
+    return new Task<>(value.fork(executor));
+  }
+
   public Task<T> repeat() {
     return repeat(1);
   }
@@ -159,8 +170,40 @@ public final class Task<T> implements TaskOf<T>, Recoverable {
     return new Task<>(ZIO.fromEither(task));
   }
 
+  public static <A> Task<A> join(ZFiber<Throwable, A> fiber) {
+    return new Task<>(fiber.join());
+  }
+
+  public static Task<Unit> interrupt(ZFiber<?, ?> fiber) {
+    return new Task<>(fiber.interrupt());
+  }
+
+  public static <A, B, C> Task<C> zipPar(Task<A> za, Task<B> zb, Function2<A, B, C> mapper) {
+    return new Task<>(ZIO.zipPar(za.value, zb.value, mapper));
+  }
+
+  public static <A, B> Task<ImmutableList<B>> foreachPar(Sequence<A> values, Function1<A, Task<B>> mapper) {
+    return new Task<>(ZIO.foreachPar(values, mapper.andThen(task -> task.value)));
+  }
+
+  public static <A, B, C> Task<C> raceWith(Task<A> left, Task<B> right,
+      Function2<Try<A>, ZFiber<Throwable, B>, Task<C>> leftDone,
+      Function2<Try<B>, ZFiber<Throwable, A>, Task<C>> rightDone) {
+    return new Task<>(ZIO.raceWith(left.value, right.value,
+        (resultA, fiberB) -> leftDone.apply(resultA.fold(Try::failure, Try::success), fiberB).value,
+        (resultB, fiberA) -> rightDone.apply(resultB.fold(Try::failure, Try::success), fiberA).value));
+  }
+
+  public static <A, B> Task<Either<A, B>> race(Task<A> left, Task<B> right) {
+    return new Task<>(ZIO.race(left.value, right.value));
+  }
+
   public static Task<Unit> sleep(Duration delay) {
-    return new Task<>(ZIO.sleep(delay));
+    return sleep(HashedWheelTimer.DEFAULT, delay);
+  }
+
+  public static Task<Unit> sleep(HashedWheelTimer timer, Duration delay) {
+    return new Task<>(ZIO.sleep(timer, delay));
   }
 
   public static Task<Unit> exec(CheckedRunnable task) {
@@ -175,6 +218,13 @@ public final class Task<T> implements TaskOf<T>, Recoverable {
     return new Task<>(ZIO.defer(() -> lazy.get().value));
   }
 
+  /**
+   * Suspends the program until the callback is called, same as {@link ZIO#async(Consumer1)}.
+   */
+  public static <A> Task<A> fromCallback(Consumer1<Consumer1<Try<A>>> consumer) {
+    return new Task<>(ZIO.async(callback -> consumer.accept(result -> callback.accept(Try.success(result.toEither())))));
+  }
+
   public static <A> Task<A> task(Producer<A> task) {
     return new Task<>(ZIO.task(task));
   }
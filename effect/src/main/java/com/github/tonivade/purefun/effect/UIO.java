@@ -21,6 +21,9 @@ import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Recoverable;
 import com.github.tonivade.purefun.Unit;
 import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.concurrent.HashedWheelTimer;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.type.Either;
 import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.typeclasses.MonadDefer;
@@ -102,6 +105,14 @@ public final class UIO<T> implements UIOOf<T>, Recoverable {
     return new UIO<>(ZIO.redeem(value).foldM(error -> mapError.apply(error).value, x -> map.apply(x).value));
   }
 
+  public UIO<ZFiber<Nothing, T>> fork() {
+    return new UIO<>(value.fork());
+  }
+
+  public UIO<ZFiber<Nothing, T>> fork(Executor executor) {
+    return new UIO<>(value.fork(executor));
+  }
+
   public UIO<T> repeat() {
     return repeat(1);
   }
@@ -158,8 +169,39 @@ public final class UIO<T> implements UIOOf<T>, Recoverable {
     return new UIO<>(ZIO.map2(za.value, zb.value, mapper));
   }
 
+  public static <A> UIO<A> join(ZFiber<Nothing, A> fiber) {
+    return new UIO<>(fiber.join());
+  }
+
+  public static UIO<Unit> interrupt(ZFiber<?, ?> fiber) {
+    return new UIO<>(fiber.interrupt());
+  }
+
+  public static <A, B, C> UIO<C> zipPar(UIO<A> za, UIO<B> zb, Function2<A, B, C> mapper) {
+    return new UIO<>(ZIO.zipPar(za.value, zb.value, mapper));
+  }
+
+  public static <A, B> UIO<ImmutableList<B>> foreachPar(Sequence<A> values, Function1<A, UIO<B>> mapper) {
+    return new UIO<>(ZIO.foreachPar(values, mapper.andThen(uio -> uio.value)));
+  }
+
+  public static <A, B, C> UIO<C> raceWith(UIO<A> left, UIO<B> right,
+      Function2<A, ZFiber<Nothing, B>, UIO<C>> leftDone, Function2<B, ZFiber<Nothing, A>, UIO<C>> rightDone) {
+    return new UIO<>(ZIO.raceWith(left.value, right.value,
+        (resultA, fiberB) -> leftDone.apply(resultA.get(), fiberB).value,
+        (resultB, fiberA) -> rightDone.apply(resultB.get(), fiberA).value));
+  }
+
+  public static <A, B> UIO<Either<A, B>> race(UIO<A> left, UIO<B> right) {
+    return new UIO<>(ZIO.race(left.value, right.value));
+  }
+
   public static UIO<Unit> sleep(Duration delay) {
-    return fold(ZIO.sleep(delay));
+    return sleep(HashedWheelTimer.DEFAULT, delay);
+  }
+
+  public static UIO<Unit> sleep(HashedWheelTimer timer, Duration delay) {
+    return fold(ZIO.sleep(timer, delay));
   }
 
   public static UIO<Unit> exec(CheckedRunnable task) {
@@ -178,6 +220,13 @@ public final class UIO<T> implements UIOOf<T>, Recoverable {
     return new UIO<>(ZIO.defer(() -> lazy.get().value));
   }
 
+  /**
+   * Suspends the program until the callback is called, same as {@link ZIO#async(Consumer1)}.
+   */
+  public static <A> UIO<A> fromCallback(Consumer1<Consumer1<Try<A>>> consumer) {
+    return fold(ZIO.async(callback -> consumer.accept(result -> callback.accept(Try.success(result.toEither())))));
+  }
+
   public static <A> UIO<A> task(Producer<A> task) {
     return fold(ZIO.task(task));
   }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.effect;
+
+import java.util.concurrent.CancellationException;
+
+import com.github.tonivade.purefun.Unit;
+
+/**
+ * <p>A lightweight thread of execution of a {@code ZIO} program.</p>
+ *
+ * <p>Fibers are multiplexed over the threads of an {@code Executor}. A fiber yields the thread every few
+ * steps, and it doesn't hold a thread while it's sleeping or waiting for an asynchronous result.</p>
+ *
+ * <p>The interruption is cooperative, an interrupted fiber stops at the next step of the program,
+ * and {@code join} fails with a {@link CancellationException}. A fiber that is sleeping, or waiting for
+ * an asynchronous result or another fiber, is woken up to stop and release its resources.</p>
+ *
+ * @param <E> type of the error
+ * @param <A> result of the computation
+ * @see ZIO#fork()
+ */
+public interface ZFiber<E, A> {
+
+  <R> ZIO<R, E, A> join();
+
+  <R, F> ZIO<R, F, Unit> interrupt();
+}
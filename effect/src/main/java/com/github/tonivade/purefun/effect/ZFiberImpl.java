@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.effect;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.github.tonivade.purefun.Consumer1;
+import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.concurrent.Promise;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Try;
+
+final class ZFiberImpl<R, E, A> implements ZFiber<E, A>, Runnable {
+
+  private static final int MAX_STEPS = 512;
+
+  private final Executor executor;
+  private final Promise<Either<E, A>> promise;
+  // continuations, environments to restore and resources to release
+  private final Deque<Object> stack = new ArrayDeque<>();
+
+  private Object env;
+  private ZIO<?, ?, ?> current;
+  private Either<?, ?> value;
+  private Throwable error;
+  // wakes up the fiber with a cancellation while it's sleeping or waiting for an async result
+  private volatile Runnable suspended;
+
+  private ZFiberImpl(Executor executor, R env, ZIO<R, E, A> start) {
+    this.executor = checkNonNull(executor);
+    this.env = env;
+    this.current = checkNonNull(start);
+    this.promise = Promise.make(executor);
+  }
+
+  @Override
+  public <X> ZIO<X, E, A> join() {
+    return ZIO.async(promise::onComplete);
+  }
+
+  @Override
+  public <X, F> ZIO<X, F, Unit> interrupt() {
+    return ZIO.fromEither(() -> {
+      cancel();
+      return Either.right(Unit.unit());
+    });
+  }
+
+  @Override
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public void run() {
+    for (int steps = 0; steps < MAX_STEPS; steps++) {
+      if (promise.isCompleted()) {
+        releaseAll();
+        return;
+      }
+
+      if (current == null) {
+        if (stack.isEmpty()) {
+          promise.tryComplete(error == null ? Try.success((Either<E, A>) value) : Try.failure(error));
+          return;
+        }
+        pop(stack.pop());
+        continue;
+      }
+
+      ZIO next = current;
+      current = null;
+      try {
+        if (next instanceof ZIO.FlatMapped) {
+          ZIO.FlatMapped flatMapped = (ZIO.FlatMapped) next;
+          stack.push(flatMapped);
+          current = flatMapped.start();
+        } else if (next instanceof ZIO.FoldM) {
+          ZIO.FoldM foldM = (ZIO.FoldM) next;
+          stack.push(foldM);
+          current = foldM.current();
+        } else if (next instanceof ZIO.Suspend) {
+          current = ((ZIO.Suspend) next).next();
+        } else if (next instanceof ZIO.AccessM) {
+          current = ((ZIO.AccessM) next).run(env);
+        } else if (next instanceof ZIO.Provide) {
+          ZIO.Provide provide = (ZIO.Provide) next;
+          stack.push(new Environment(env));
+          env = provide.env();
+          current = provide.current();
+        } else if (next instanceof ZIO.Bracket) {
+          ZIO.Bracket bracket = (ZIO.Bracket) next;
+          stack.push(new Acquired(bracket));
+          current = bracket.acquire();
+        } else if (next instanceof ZIO.Sleep) {
+          sleep((ZIO.Sleep) next);
+          return;
+        } else if (next instanceof ZIO.Async) {
+          async((ZIO.Async) next);
+          return;
+        } else {
+          value = next.provide(env);
+        }
+      } catch (Throwable t) {
+        error = t;
+      }
+    }
+    resume();
+  }
+
+  Promise<Either<E, A>> toPromise() {
+    return promise;
+  }
+
+  void cancel() {
+    if (promise.tryComplete(Try.failure(new CancellationException()))) {
+      wakeUp();
+    }
+  }
+
+  static <R, E, A> ZFiberImpl<R, E, A> start(Executor executor, R env, ZIO<R, E, A> program) {
+    ZFiberImpl<R, E, A> fiber = new ZFiberImpl<>(executor, env, program);
+    fiber.resume();
+    return fiber;
+  }
+
+  // after an error only the environments are restored and the resources released
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void pop(Object frame) {
+    try {
+      if (frame instanceof Environment) {
+        env = ((Environment) frame).env;
+      } else if (frame instanceof Release) {
+        ((Release) frame).run();
+      } else if (error != null) {
+        return;
+      } else if (frame instanceof Acquired) {
+        if (value.isRight()) {
+          ZIO.Bracket bracket = ((Acquired) frame).bracket;
+          Object resource = value.getRight();
+          stack.push(new Release(bracket, resource));
+          current = bracket.use(resource);
+        }
+      } else if (frame instanceof ZIO.FlatMapped) {
+        current = ((ZIO.FlatMapped) frame).run(value);
+      } else {
+        current = ((ZIO.FoldM) frame).run(value);
+      }
+    } catch (Throwable t) {
+      if (error == null) {
+        error = t;
+      } else {
+        error.addSuppressed(t);
+      }
+    }
+  }
+
+  private void releaseAll() {
+    while (!stack.isEmpty()) {
+      Object frame = stack.pop();
+      if (frame instanceof Release) {
+        try {
+          ((Release) frame).run();
+        } catch (Throwable t) {
+          // the fiber was interrupted, there is nobody to report the error to
+        }
+      }
+    }
+  }
+
+  // the pending timeout is discarded by the timer when its promise is completed
+  private void sleep(ZIO.Sleep<?> sleep) {
+    Promise<Unit> timeout = sleep.timer().sleep(executor, sleep.duration());
+    suspended = () -> timeout.tryComplete(Try.failure(new CancellationException()));
+    Consumer1<Try<Either<?, ?>>> resume = resumeOnce();
+    timeout.onComplete(result -> resume.accept(result.map(Either::right)));
+    if (promise.isCompleted()) {
+      wakeUp();
+    }
+  }
+
+  // a late result of the async computation is ignored after an interruption
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void async(ZIO.Async async) {
+    Consumer1<Try<Either<?, ?>>> callback = resumeOnce();
+    suspended = () -> callback.accept(Try.failure(new CancellationException()));
+    try {
+      async.register(callback);
+    } catch (Throwable t) {
+      callback.accept(Try.failure(t));
+      return;
+    }
+    if (promise.isCompleted()) {
+      wakeUp();
+    }
+  }
+
+  private void wakeUp() {
+    Runnable current = suspended;
+    if (current != null) {
+      current.run();
+    }
+  }
+
+  private void resume() {
+    executor.execute(this);
+  }
+
+  private Consumer1<Try<Either<?, ?>>> resumeOnce() {
+    AtomicBoolean resumed = new AtomicBoolean();
+    return result -> {
+      if (resumed.compareAndSet(false, true)) {
+        suspended = null;
+        value = result.getOrElseNull();
+        error = result.isFailure() ? result.getCause() : null;
+        resume();
+      }
+    };
+  }
+
+  private static final class Environment {
+
+    private final Object env;
+
+    private Environment(Object env) {
+      this.env = env;
+    }
+  }
+
+  private static final class Acquired {
+
+    private final ZIO.Bracket<?, ?, ?> bracket;
+
+    private Acquired(ZIO.Bracket<?, ?, ?> bracket) {
+      this.bracket = bracket;
+    }
+  }
+
+  private static final class Release {
+
+    private final ZIO.Bracket<?, ?, ?> bracket;
+    private final Object resource;
+
+    private Release(ZIO.Bracket<?, ?, ?> bracket, Object resource) {
+      this.bracket = bracket;
+      this.resource = resource;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void run() {
+      ((ZIO.Bracket) bracket).release(resource);
+    }
+  }
+}
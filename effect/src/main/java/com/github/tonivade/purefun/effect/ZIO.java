@@ -21,9 +21,14 @@ import com.github.tonivade.purefun.HigherKind;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.Nothing;
 import com.github.tonivade.purefun.Producer;
+import com.github.tonivade.purefun.Recoverable;
 import com.github.tonivade.purefun.Unit;
 import com.github.tonivade.purefun.Witness;
 import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.concurrent.HashedWheelTimer;
+import com.github.tonivade.purefun.concurrent.Promise;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.type.Either;
 import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.typeclasses.MonadDefer;
@@ -33,12 +38,21 @@ public interface ZIO<R, E, A> extends ZIOOf<R, E, A> {
 
   Either<E, A> provide(R env);
 
+  /**
+   * Builds the environment using the layer, the layer is built every time the program is evaluated
+   * and the resources acquired by the layer are released when the program finishes.
+   */
+  default <R0> ZIO<R0, E, A> provideLayer(ZLayer<R0, E, R> layer) {
+    checkNonNull(layer);
+    return layer.provide(this);
+  }
+
   default Future<Either<E, A>> toFuture(R env) {
     return toFuture(Future.DEFAULT_EXECUTOR, env);
   }
 
   default Future<Either<E, A>> toFuture(Executor executor, R env) {
-    return Future.async(executor, () -> provide(env));
+    return Future.from(executor, ZFiberImpl.start(executor, env, this).toPromise());
   }
 
   default void provideAsync(R env, Consumer1<Try<Either<E, A>>> callback) {
@@ -51,6 +65,18 @@ public interface ZIO<R, E, A> extends ZIOOf<R, E, A> {
 
   <F extends Witness> Kind<F, Either<E, A>> foldMap(R env, MonadDefer<F> monad);
 
+  /**
+   * Starts the program in a new fiber, the current fiber continues without waiting for the result.
+   */
+  default ZIO<R, E, ZFiber<E, A>> fork() {
+    return fork(Future.DEFAULT_EXECUTOR);
+  }
+
+  default ZIO<R, E, ZFiber<E, A>> fork(Executor executor) {
+    checkNonNull(executor);
+    return accessM(env -> fromEither(() -> Either.right(ZFiberImpl.start(executor, env, this))));
+  }
+
   default ZIO<R, A, E> swap() {
     return new Swap<>(this);
   }
@@ -149,6 +175,53 @@ public interface ZIO<R, E, A> extends ZIOOf<R, E, A> {
     return za.flatMap(a -> zb.map(b -> mapper.curried().apply(a).apply(b)));
   }
 
+  /**
+   * Evaluates both programs in parallel. If any of them fails, the other one is interrupted.
+   */
+  static <R, E, A, B, C> ZIO<R, E, C> zipPar(ZIO<R, E, A> za, ZIO<R, E, B> zb, Function2<A, B, C> mapper) {
+    checkNonNull(mapper);
+    return raceWith(za, zb,
+        (resultA, fiberB) -> resultA.fold(
+            error -> fiberB.<R, E>interrupt().andThen(raiseError(error)),
+            a -> fiberB.<R>join().map(b -> mapper.apply(a, b))),
+        (resultB, fiberA) -> resultB.fold(
+            error -> fiberA.<R, E>interrupt().andThen(raiseError(error)),
+            b -> fiberA.<R>join().map(a -> mapper.apply(a, b))));
+  }
+
+  /**
+   * Evaluates the program returned by the function for every value in parallel, the results are returned in
+   * the same order than the values. If any of them fails, the rest are interrupted.
+   */
+  static <R, E, A, B> ZIO<R, E, ImmutableList<B>> foreachPar(Sequence<A> values, Function1<A, ZIO<R, E, B>> mapper) {
+    checkNonNull(values);
+    checkNonNull(mapper);
+    ZIO<R, E, ImmutableList<ZFiber<E, B>>> fibers = values.foldLeft(
+        pure(ImmutableList.empty()), (acc, value) -> acc.flatMap(list -> mapper.apply(value).fork().map(list::append)));
+    return fibers.flatMap(list -> ZIOModule.joinAll(list, ImmutableList.empty()));
+  }
+
+  /**
+   * Evaluates both programs in parallel, when the first one finishes the corresponding function is called with
+   * the result and the fiber of the other program.
+   */
+  static <R, E, A, B, C> ZIO<R, E, C> raceWith(ZIO<R, E, A> left, ZIO<R, E, B> right,
+      Function2<Either<E, A>, ZFiber<E, B>, ZIO<R, E, C>> leftDone,
+      Function2<Either<E, B>, ZFiber<E, A>, ZIO<R, E, C>> rightDone) {
+    checkNonNull(leftDone);
+    checkNonNull(rightDone);
+    return accessM(env -> ZIOModule.raceWith(Future.DEFAULT_EXECUTOR, env, left, right, leftDone, rightDone));
+  }
+
+  /**
+   * Returns the result of the first program that finishes, the other one is interrupted.
+   */
+  static <R, E, A, B> ZIO<R, E, Either<A, B>> race(ZIO<R, E, A> left, ZIO<R, E, B> right) {
+    return raceWith(left, right,
+        (resultA, fiberB) -> fiberB.<R, E>interrupt().andThen(fromEither(() -> resultA.map(Either::<A, B>left))),
+        (resultB, fiberA) -> fiberA.<R, E>interrupt().andThen(fromEither(() -> resultB.map(Either::<A, B>right))));
+  }
+
   static <R, E, A> ZIO<R, E, A> absorb(ZIO<R, E, Either<E, A>> value) {
     return value.flatMap(either -> either.fold(ZIO::raiseError, ZIO::pure));
   }
@@ -165,6 +238,13 @@ public interface ZIO<R, E, A> extends ZIOOf<R, E, A> {
     return new Attempt<>(task.asProducer());
   }
 
+  /**
+   * Suspends the program until the callback is called.
+   */
+  static <R, E, A> ZIO<R, E, A> async(Consumer1<Consumer1<Try<Either<E, A>>>> consumer) {
+    return new Async<>(consumer);
+  }
+
   static <R, E, A> ZIO<R, E, A> pure(A value) {
     return new Pure<>(value);
   }
@@ -186,7 +266,11 @@ public interface ZIO<R, E, A> extends ZIOOf<R, E, A> {
   }
 
   static <R> ZIO<R, Throwable, Unit> sleep(Duration delay) {
-    return new Sleep<>(delay);
+    return sleep(HashedWheelTimer.DEFAULT, delay);
+  }
+
+  static <R> ZIO<R, Throwable, Unit> sleep(HashedWheelTimer timer, Duration delay) {
+    return new Sleep<>(timer, delay);
   }
 
   static <R, A extends AutoCloseable, B> ZIO<R, Throwable, B> bracket(ZIO<R, Throwable, A> acquire,
@@ -503,6 +587,49 @@ public interface ZIO<R, E, A> extends ZIOOf<R, E, A> {
     public String toString() {
       return "AccessM(?)";
     }
+
+    protected ZIO<R, E, A> run(R env) {
+      return function.apply(env);
+    }
+  }
+
+  final class Provide<R, X, E, A> implements SealedZIO<R, E, A> {
+
+    private final X env;
+    private final ZIO<X, E, A> current;
+
+    protected Provide(X env, ZIO<X, E, A> current) {
+      this.env = env;
+      this.current = checkNonNull(current);
+    }
+
+    @Override
+    public Either<E, A> provide(R ignore) {
+      return current.provide(env);
+    }
+
+    @Override
+    public <F extends Witness> Kind<F, Either<E, A>> foldMap(R ignore, MonadDefer<F> monad) {
+      return current.foldMap(env, monad);
+    }
+
+    @Override
+    public ZIOModule getModule() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String toString() {
+      return "Provide(" + env + ", " + current + ')';
+    }
+
+    protected X env() {
+      return env;
+    }
+
+    protected ZIO<X, E, A> current() {
+      return current;
+    }
   }
 
   final class FoldM<R, E, A, F, B> implements SealedZIO<R, F, B> {
@@ -538,13 +665,27 @@ public interface ZIO<R, E, A> extends ZIOOf<R, E, A> {
     public String toString() {
       return "FoldM(" + current + ", ?, ?)";
     }
+
+    protected ZIO<R, E, A> current() {
+      return current;
+    }
+
+    protected ZIO<R, F, B> run(Either<E, A> value) {
+      return value.fold(nextError, next);
+    }
   }
 
   final class Sleep<R> implements SealedZIO<R, Throwable, Unit> {
 
+    private final HashedWheelTimer timer;
     private final Duration duration;
 
     public Sleep(Duration duration) {
+      this(HashedWheelTimer.DEFAULT, duration);
+    }
+
+    public Sleep(HashedWheelTimer timer, Duration duration) {
+      this.timer = checkNonNull(timer);
       this.duration = checkNonNull(duration);
     }
 
@@ -573,6 +714,53 @@ public interface ZIO<R, E, A> extends ZIOOf<R, E, A> {
     public String toString() {
       return "Sleep(" + duration + ')';
     }
+
+    protected HashedWheelTimer timer() {
+      return timer;
+    }
+
+    protected Duration duration() {
+      return duration;
+    }
+  }
+
+  final class Async<R, E, A> implements SealedZIO<R, E, A>, Recoverable {
+
+    private final Consumer1<Consumer1<Try<Either<E, A>>>> callback;
+
+    protected Async(Consumer1<Consumer1<Try<Either<E, A>>>> callback) {
+      this.callback = checkNonNull(callback);
+    }
+
+    @Override
+    public Either<E, A> provide(R env) {
+      Promise<Either<E, A>> promise = Promise.make();
+      callback.accept(promise::tryComplete);
+      Try<Either<E, A>> result = promise.get();
+      if (result.isFailure()) {
+        return sneakyThrow(result.getCause());
+      }
+      return result.get();
+    }
+
+    @Override
+    public <F extends Witness> Kind<F, Either<E, A>> foldMap(R env, MonadDefer<F> monad) {
+      return monad.async(callback);
+    }
+
+    @Override
+    public ZIOModule getModule() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String toString() {
+      return "Async(?)";
+    }
+
+    protected void register(Consumer1<Try<Either<E, A>>> resume) {
+      callback.accept(resume);
+    }
   }
 
   final class Bracket<R, A, B> implements SealedZIO<R, Throwable, B> {
@@ -612,6 +800,18 @@ public interface ZIO<R, E, A> extends ZIOOf<R, E, A> {
     public String toString() {
       return "Bracket(" + acquire + ", ?, ?)";
     }
+
+    protected ZIO<R, Throwable, A> acquire() {
+      return acquire;
+    }
+
+    protected ZIO<R, Throwable, B> use(A resource) {
+      return use.apply(resource);
+    }
+
+    protected void release(A resource) {
+      release.accept(resource);
+    }
   }
 }
 
@@ -663,6 +863,30 @@ interface ZIOModule {
     return current.provide(env);
   }
 
+  static <R, E, A> ZIO<R, E, ImmutableList<A>> joinAll(ImmutableList<ZFiber<E, A>> fibers, ImmutableList<A> results) {
+    return fibers.head().fold(
+        () -> ZIO.<R, E, ImmutableList<A>>pure(results),
+        fiber -> fiber.<R>join().<E, ImmutableList<A>>foldM(
+            error -> ZIOModule.<R, E>interruptAll(fibers.tail()).andThen(ZIO.raiseError(error)),
+            value -> joinAll(fibers.tail(), results.append(value))));
+  }
+
+  static <R, E> ZIO<R, E, Unit> interruptAll(ImmutableList<? extends ZFiber<?, ?>> fibers) {
+    return fibers.foldLeft(ZIO.unit(), (acc, fiber) -> acc.andThen(fiber.interrupt()));
+  }
+
+  static <R, E, A, B, C> ZIO<R, E, C> raceWith(Executor executor, R env, ZIO<R, E, A> left, ZIO<R, E, B> right,
+      Function2<Either<E, A>, ZFiber<E, B>, ZIO<R, E, C>> leftDone,
+      Function2<Either<E, B>, ZFiber<E, A>, ZIO<R, E, C>> rightDone) {
+    ZFiberImpl<R, E, A> fiberA = ZFiberImpl.start(executor, env, left);
+    ZFiberImpl<R, E, B> fiberB = ZFiberImpl.start(executor, env, right);
+    ZIO<R, E, ZIO<R, E, C>> first = ZIO.async(callback -> {
+      fiberA.toPromise().onComplete(result -> callback.accept(result.map(a -> Either.right(leftDone.apply(a, fiberB)))));
+      fiberB.toPromise().onComplete(result -> callback.accept(result.map(b -> Either.right(rightDone.apply(b, fiberA)))));
+    });
+    return first.flatMap(identity());
+  }
+
   static <R, E, A> ZIO<R, E, A> repeat(ZIO<R, E, A> self, UIO<Unit> delay, int times) {
     return self.foldM(
         ZIO::<R, E, A>raiseError, value -> {
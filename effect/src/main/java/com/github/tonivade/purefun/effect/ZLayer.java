@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.effect;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import com.github.tonivade.purefun.Consumer1;
+import com.github.tonivade.purefun.Function1;
+import com.github.tonivade.purefun.Function2;
+import com.github.tonivade.purefun.Producer;
+import com.github.tonivade.purefun.Recoverable;
+import com.github.tonivade.purefun.Tuple;
+import com.github.tonivade.purefun.Tuple2;
+import com.github.tonivade.purefun.type.Either;
+
+/**
+ * <p>A recipe to build the environment {@code A} needed by a program from the environment {@code R}.
+ * Building the environment can fail with an error of type {@code E}.</p>
+ *
+ * <p>The layers are built when the program is evaluated using {@link ZIO#provideLayer(ZLayer)}. A layer
+ * is built only once per evaluation, even if it's used several times to build other layers, and the same
+ * instance is shared by the whole program. The resources acquired by the layers are released in reverse
+ * order when the program finishes, successfully or not.</p>
+ *
+ * @param <R> the environment needed to build the layer
+ * @param <E> type of the error
+ * @param <A> the environment built by the layer
+ */
+public final class ZLayer<R, E, A> {
+
+  private final Function1<ZLayerScope, ZIO<R, E, A>> builder;
+
+  private ZLayer(Function1<ZLayerScope, ZIO<R, E, A>> builder) {
+    this.builder = checkNonNull(builder);
+  }
+
+  public <B> ZLayer<R, E, B> map(Function1<A, B> mapper) {
+    checkNonNull(mapper);
+    return new ZLayer<>(scope -> build(scope).map(mapper));
+  }
+
+  public <F> ZLayer<R, F, A> mapError(Function1<E, F> mapper) {
+    checkNonNull(mapper);
+    return new ZLayer<>(scope -> build(scope).mapError(mapper));
+  }
+
+  /**
+   * Builds the other layer using the output of this layer, the equivalent of {@code >>>}.
+   */
+  public <B> ZLayer<R, E, B> andThen(ZLayer<A, E, B> next) {
+    checkNonNull(next);
+    return new ZLayer<>(scope -> build(scope).flatMap(env -> ZLayerScope.provide(next.build(scope), env)));
+  }
+
+  /**
+   * Builds both layers and combines the outputs, the equivalent of {@code ++}.
+   */
+  public <B, C> ZLayer<R, E, C> zipWith(ZLayer<R, E, B> other, Function2<A, B, C> combinator) {
+    checkNonNull(other);
+    checkNonNull(combinator);
+    return new ZLayer<>(scope -> build(scope).flatMap(a -> other.build(scope).map(b -> combinator.apply(a, b))));
+  }
+
+  public <B> ZLayer<R, E, Tuple2<A, B>> zip(ZLayer<R, E, B> other) {
+    return zipWith(other, Tuple::of);
+  }
+
+  ZIO<R, E, A> build(ZLayerScope scope) {
+    return scope.memoize(this, () -> builder.apply(scope));
+  }
+
+  /**
+   * Builds the layers in a new scope, provides the output to the program and releases the resources when
+   * the program finishes.
+   */
+  <B> ZIO<R, E, B> provide(ZIO<A, E, B> program) {
+    checkNonNull(program);
+    ZIO<R, Throwable, Either<E, B>> result = ZIO.bracket(ZIO.task(ZLayerScope::new),
+        scope -> build(scope).flatMap(env -> ZLayerScope.<R, E, A, B>provide(program, env)).foldM(
+            error -> ZIO.pure(Either.left(error)),
+            value -> ZIO.pure(Either.right(value))));
+    return result.foldM(error -> ZIO.fromEither(() -> { throw error; }), either -> ZIO.fromEither(() -> either));
+  }
+
+  public static <R, E> ZLayer<R, E, R> identity() {
+    return new ZLayer<R, E, R>(scope -> ZIO.<R, E, R>accessM(env -> ZIO.pure(env)));
+  }
+
+  public static <R, E, A> ZLayer<R, E, A> succeed(A value) {
+    return new ZLayer<>(scope -> ZIO.pure(value));
+  }
+
+  public static <R, E, A> ZLayer<R, E, A> fromFunction(Function1<R, A> function) {
+    checkNonNull(function);
+    return new ZLayer<>(scope -> ZIO.accessM(env -> ZIO.pure(function.apply(env))));
+  }
+
+  public static <R, E, A> ZLayer<R, E, A> fromEffect(ZIO<R, E, A> effect) {
+    checkNonNull(effect);
+    return new ZLayer<>(scope -> effect);
+  }
+
+  /**
+   * The resource is released when the program that uses the layer finishes.
+   */
+  public static <R, E, A> ZLayer<R, E, A> fromAcquireRelease(ZIO<R, E, A> acquire, Consumer1<A> release) {
+    checkNonNull(acquire);
+    checkNonNull(release);
+    return new ZLayer<>(scope -> acquire.map(resource -> scope.register(resource, release)));
+  }
+
+  public static <R, E, A extends AutoCloseable> ZLayer<R, E, A> fromAutoCloseable(ZIO<R, E, A> acquire) {
+    return fromAcquireRelease(acquire, AutoCloseable::close);
+  }
+}
+
+/**
+ * Keeps the layers already built and the resources acquired during an evaluation of a program.
+ */
+final class ZLayerScope implements AutoCloseable, Recoverable {
+
+  private final Map<ZLayer<?, ?, ?>, Object> memo = Collections.synchronizedMap(new IdentityHashMap<>());
+  private final Deque<Runnable> finalizers = new ConcurrentLinkedDeque<>();
+
+  @SuppressWarnings("unchecked")
+  <R, E, A> ZIO<R, E, A> memoize(ZLayer<R, E, A> layer, Producer<ZIO<R, E, A>> builder) {
+    return ZIO.defer(() -> {
+      if (memo.containsKey(layer)) {
+        return ZIO.pure((A) memo.get(layer));
+      }
+      return builder.get().map(value -> {
+        memo.put(layer, value);
+        return value;
+      });
+    });
+  }
+
+  <A> A register(A resource, Consumer1<A> release) {
+    finalizers.push(() -> release.accept(resource));
+    return resource;
+  }
+
+  @Override
+  public void close() {
+    Throwable error = null;
+    for (Runnable finalizer = finalizers.poll(); finalizer != null; finalizer = finalizers.poll()) {
+      try {
+        finalizer.run();
+      } catch (Throwable t) {
+        if (error == null) {
+          error = t;
+        } else {
+          error.addSuppressed(t);
+        }
+      }
+    }
+    if (error != null) {
+      sneakyThrow(error);
+    }
+  }
+
+  static <R, E, A, B> ZIO<R, E, B> provide(ZIO<A, E, B> program, A env) {
+    return new ZIO.Provide<>(env, program);
+  }
+}
@@ -14,7 +14,7 @@ import java.time.OffsetDateTime;
 
 public interface ZClock {
 
-  <R extends ZClock> ZClock.Service<R> clock();
+  <R extends ZClock> Service<R> clock();
 
   static <R extends ZClock> ZIO<R, Nothing, Long> currentTime() {
     return ZIO.accessM(env -> env.<R>clock().currentTime());
@@ -36,25 +36,28 @@ public interface ZClock {
 
   static ZClock live() {
     return new ZClock() {
+      private final Service<ZClock> service = new Service<ZClock>() {
+
+        @Override
+        public ZIO<ZClock, Nothing, Long> currentTime() {
+          return UIO.task(System::currentTimeMillis).toZIO();
+        }
+
+        @Override
+        public ZIO<ZClock, Nothing, OffsetDateTime> currentDateTime() {
+          return UIO.task(OffsetDateTime::now).toZIO();
+        }
+
+        @Override
+        public ZIO<ZClock, Nothing, Unit> sleep(Duration duration) {
+          return UIO.exec(() -> Thread.sleep(duration.toMillis())).toZIO();
+        }
+      };
+
       @Override
+      @SuppressWarnings("unchecked")
       public <R extends ZClock> Service<R> clock() {
-        return new Service<R>() {
-
-          @Override
-          public ZIO<R, Nothing, Long> currentTime() {
-            return UIO.task(System::currentTimeMillis).toZIO();
-          }
-
-          @Override
-          public ZIO<R, Nothing, OffsetDateTime> currentDateTime() {
-            return UIO.task(OffsetDateTime::now).toZIO();
-          }
-
-          @Override
-          public ZIO<R, Nothing, Unit> sleep(Duration duration) {
-            return UIO.exec(() -> Thread.sleep(duration.toMillis())).toZIO();
-          }
-        };
+        return (Service<R>) service;
       }
     };
   }
@@ -33,20 +33,23 @@ public interface ZConsole {
   static ZConsole test(final Queue<String> input, final Queue<String> output) {
     return new ZConsole() {
 
+      private final ZConsole.Service<ZConsole> service = new ZConsole.Service<ZConsole>() {
+
+        @Override
+        public ZIO<ZConsole, Throwable, String> readln() {
+          return ZIO.task(input::poll);
+        }
+
+        @Override
+        public ZIO<ZConsole, Throwable, Unit> println(String text) {
+          return ZIO.exec(() -> output.offer(text));
+        }
+      };
+
       @Override
-      public <R extends ZConsole> Service<R> console() {
-        return new ZConsole.Service<R>() {
-
-          @Override
-          public ZIO<R, Throwable, String> readln() {
-            return ZIO.task(input::poll);
-          }
-
-          @Override
-          public ZIO<R, Throwable, Unit> println(String text) {
-            return ZIO.exec(() -> output.offer(text));
-          }
-        };
+      @SuppressWarnings("unchecked")
+      public <R extends ZConsole> ZConsole.Service<R> console() {
+        return (ZConsole.Service<R>) service;
       }
     };
   }
@@ -54,28 +57,31 @@ public interface ZConsole {
   static ZConsole live() {
     return new ZConsole() {
 
+      private final ZConsole.Service<ZConsole> service = new ZConsole.Service<ZConsole>() {
+
+        @Override
+        public ZIO<ZConsole, Throwable, String> readln() {
+          return ZIO.task(() -> reader().readLine());
+        }
+
+        @Override
+        public ZIO<ZConsole, Throwable, Unit> println(String text) {
+          return ZIO.exec(() -> writer().println(text));
+        }
+
+        private BufferedReader reader() {
+          return new BufferedReader(new InputStreamReader(System.in));
+        }
+
+        private PrintWriter writer() {
+          return new PrintWriter(System.out, true);
+        }
+      };
+
       @Override
-      public <R extends ZConsole> Service<R> console() {
-        return new ZConsole.Service<R>() {
-
-          @Override
-          public ZIO<R, Throwable, String> readln() {
-            return ZIO.task(() -> reader().readLine());
-          }
-
-          @Override
-          public ZIO<R, Throwable, Unit> println(String text) {
-            return ZIO.exec(() -> writer().println(text));
-          }
-
-          private BufferedReader reader() {
-            return new BufferedReader(new InputStreamReader(System.in));
-          }
-
-          private PrintWriter writer() {
-            return new PrintWriter(System.out, true);
-          }
-        };
+      @SuppressWarnings("unchecked")
+      public <R extends ZConsole> ZConsole.Service<R> console() {
+        return (ZConsole.Service<R>) service;
       }
     };
   }
@@ -70,47 +70,50 @@ class ZRandomImpl implements ZRandom {
     this.random = checkNonNull(random);
   }
 
+  private final ZRandom.Service<ZRandom> service = new ZRandom.Service<ZRandom>() {
+
+    @Override
+    public ZIO<ZRandom, Nothing, Integer> nextInt() {
+      return UIO.task(random::nextInt).toZIO();
+    }
+
+    @Override
+    public ZIO<ZRandom, Nothing, Long> nextLong() {
+      return UIO.task(random::nextLong).toZIO();
+    }
+
+    @Override
+    public ZIO<ZRandom, Nothing, Float> nextFloat() {
+      return UIO.task(random::nextFloat).toZIO();
+    }
+
+    @Override
+    public ZIO<ZRandom, Nothing, Double> nextDouble() {
+      return UIO.task(random::nextDouble).toZIO();
+    }
+
+    @Override
+    public ZIO<ZRandom, Nothing, Character> nextChar() {
+      return UIO.task(this::randomChar).toZIO();
+    }
+
+    @Override
+    public ZIO<ZRandom, Nothing, String> nextString(int length) {
+      return UIO.task(() -> randomString(length)).toZIO();
+    }
+
+    private Character randomChar() {
+      return PRINTABLE_CHARS.charAt(random.nextInt(PRINTABLE_CHARS.length()));
+    }
+
+    private String randomString(int length) {
+      return IntStream.range(0, length).mapToObj(x -> randomChar()).map(Object::toString).collect(joining());
+    }
+  };
+
   @Override
+  @SuppressWarnings("unchecked")
   public <R extends ZRandom> ZRandom.Service<R> random() {
-    return new ZRandom.Service<R>() {
-
-      @Override
-      public ZIO<R, Nothing, Integer> nextInt() {
-        return UIO.task(random::nextInt).toZIO();
-      }
-
-      @Override
-      public ZIO<R, Nothing, Long> nextLong() {
-        return UIO.task(random::nextLong).toZIO();
-      }
-
-      @Override
-      public ZIO<R, Nothing, Float> nextFloat() {
-        return UIO.task(random::nextFloat).toZIO();
-      }
-
-      @Override
-      public ZIO<R, Nothing, Double> nextDouble() {
-        return UIO.task(random::nextDouble).toZIO();
-      }
-
-      @Override
-      public ZIO<R, Nothing, Character> nextChar() {
-        return UIO.task(this::randomChar).toZIO();
-      }
-
-      @Override
-      public ZIO<R, Nothing, String> nextString(int length) {
-        return UIO.task(() -> randomString(length)).toZIO();
-      }
-
-      private Character randomChar() {
-        return PRINTABLE_CHARS.charAt(random.nextInt(PRINTABLE_CHARS.length()));
-      }
-
-      private String randomString(int length) {
-        return IntStream.range(0, length).mapToObj(x -> randomChar()).map(Object::toString).collect(joining());
-      }
-    };
+    return (ZRandom.Service<R>) service;
   }
 }
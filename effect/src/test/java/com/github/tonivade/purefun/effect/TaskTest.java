@@ -17,6 +17,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -181,6 +182,17 @@ public class TaskTest {
     assertEquals(Either.right(env.getValue()), result.provide(env));
   }
 
+  @Test
+  public void raceWith() {
+    Task<Integer> slow = Task.sleep(Duration.ofSeconds(10)).map(x -> 1);
+
+    Task<String> result = Task.raceWith(slow, parseInt("lskjdf"),
+        (a, fiberB) -> Task.pure("left"),
+        (b, fiberA) -> Task.interrupt(fiberA).map(x -> b.fold(Throwable::getMessage, String::valueOf)));
+
+    assertEquals(Try.success("For input string: \"lskjdf\""), result.safeRunSync());
+  }
+
   private Task<Integer> parseInt(String string) {
     return task(() -> Integer.parseInt(string));
   }
@@ -30,6 +30,7 @@ import com.github.tonivade.purefun.Function1;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.Nothing;
 import com.github.tonivade.purefun.Producer;
+import com.github.tonivade.purefun.data.ImmutableList;
 import com.github.tonivade.purefun.instances.IOInstances;
 import com.github.tonivade.purefun.monad.IOOf;
 import com.github.tonivade.purefun.monad.IO_;
@@ -167,6 +168,20 @@ public class UIOTest {
     assertEquals(Either.right(env.getValue()), result.provide(env));
   }
 
+  @Test
+  public void forkJoin() {
+    UIO<Integer> result = parseInt("1").fork().flatMap(fiber -> UIO.map2(UIO.join(fiber), parseInt("2"), Integer::sum));
+
+    assertEquals(3, result.unsafeRunSync());
+  }
+
+  @Test
+  public void foreachPar() {
+    UIO<ImmutableList<Integer>> result = UIO.foreachPar(ImmutableList.of("1", "2", "3"), this::parseInt);
+
+    assertEquals(ImmutableList.of(1, 2, 3), result.unsafeRunSync());
+  }
+
   private UIO<Integer> parseInt(String string) {
     return task(() -> Integer.parseInt(string));
   }
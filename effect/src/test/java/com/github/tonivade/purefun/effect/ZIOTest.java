@@ -14,6 +14,13 @@ import static org.mockito.Mockito.when;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -22,6 +29,7 @@ import com.github.tonivade.purefun.Function1;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.Nothing;
 import com.github.tonivade.purefun.Producer;
+import com.github.tonivade.purefun.Unit;
 import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.concurrent.FutureOf;
 import com.github.tonivade.purefun.data.ImmutableList;
@@ -261,6 +269,146 @@ public class ZIOTest {
     assertEquals(Try.success(705082704), futureSum.await());
   }
 
+  @Test
+  public void forkJoin() {
+    ZIO<Nothing, Throwable, Integer> program =
+        parseInt("1").fork().flatMap(fiber -> parseInt("2").flatMap(b -> fiber.<Nothing>join().map(a -> a + b)));
+
+    assertEquals(Either.right(3), program.provide(nothing()));
+  }
+
+  @Test
+  public void interrupt() {
+    ZIO<Nothing, Throwable, Integer> program = ZIO.<Nothing>sleep(Duration.ofSeconds(10))
+        .andThen(parseInt("1")).fork().flatMap(fiber -> fiber.<Nothing, Throwable>interrupt().andThen(fiber.join()));
+
+    Try<Either<Throwable, Integer>> result = Try.of(() -> program.provide(nothing()));
+
+    assertEquals(CancellationException.class, result.getCause().getClass());
+  }
+
+  @Test
+  public void zipPar() {
+    ZIO<Nothing, Throwable, Integer> sleep = ZIO.<Nothing>sleep(Duration.ofMillis(500)).map(x -> 1);
+
+    long start = System.nanoTime();
+    Either<Throwable, Integer> result = ZIO.zipPar(sleep, sleep, Integer::sum).provide(nothing());
+
+    assertEquals(Either.right(2), result);
+    assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000);
+  }
+
+  @Test
+  public void zipParError() {
+    ZIO<Nothing, Throwable, Integer> sleep = ZIO.<Nothing>sleep(Duration.ofSeconds(10)).map(x -> 1);
+
+    Either<Throwable, Integer> result = ZIO.zipPar(sleep, parseInt("lskjdf"), Integer::sum).provide(nothing());
+
+    assertEquals(NumberFormatException.class, result.getLeft().getClass());
+  }
+
+  @Test
+  public void foreachPar() {
+    Either<Throwable, ImmutableList<Integer>> result =
+        ZIO.foreachPar(ImmutableList.of("1", "2", "3"), this::parseInt).provide(nothing());
+
+    assertEquals(Either.right(ImmutableList.of(1, 2, 3)), result);
+  }
+
+  @Test
+  public void race() {
+    ZIO<Nothing, Throwable, Integer> slow = ZIO.<Nothing>sleep(Duration.ofSeconds(10)).map(x -> 1);
+
+    Either<Throwable, Either<Integer, String>> result =
+        ZIO.race(slow, ZIO.<Nothing, Throwable, String>pure("fast")).provide(nothing());
+
+    assertEquals(Either.right(Either.right("fast")), result);
+  }
+
+  @Test
+  public void fiberStackSafety() {
+    Future<Either<Throwable, Integer>> future = sumZIO(100000, 0).toFuture(nothing());
+
+    assertEquals(Try.success(Either.right(705082704)), future.await());
+  }
+
+  @Test
+  public void provideLayer() {
+    List<String> events = new ArrayList<>();
+    ZLayer<Nothing, Throwable, Environment> base = ZLayer.fromAcquireRelease(
+        ZIO.task(() -> { events.add("acquire"); return new Environment(10); }), env -> events.add("release"));
+    ZLayer<Environment, Throwable, Integer> plusOne = ZLayer.fromFunction(env -> env.getValue() + 1);
+    ZLayer<Environment, Throwable, Integer> plusTwo = ZLayer.fromFunction(env -> env.getValue() + 2);
+    ZLayer<Nothing, Throwable, Environment> layer =
+        base.andThen(plusOne).zipWith(base.andThen(plusTwo), Integer::sum).map(Environment::new);
+
+    ZIO<Nothing, Throwable, Integer> program = ZIO.<Environment, Throwable, Integer>accessM(
+        env -> ZIO.task(() -> { events.add("use"); return env.getValue(); })).provideLayer(layer);
+
+    assertEquals(Either.right(23), program.provide(nothing()));
+    assertEquals(Arrays.asList("acquire", "use", "release"), events);
+    assertEquals(Either.right(23), program.provide(nothing()));
+    assertEquals(Arrays.asList("acquire", "use", "release", "acquire", "use", "release"), events);
+  }
+
+  @Test
+  public void provideLayerError() {
+    List<String> events = new ArrayList<>();
+    ZLayer<Nothing, Throwable, Environment> first = ZLayer.fromAcquireRelease(
+        ZIO.pure(new Environment(1)), env -> events.add("release first"));
+    ZLayer<Environment, Throwable, Environment> second = ZLayer.fromAcquireRelease(
+        ZIO.accessM(env -> ZIO.pure(new Environment(env.getValue() + 1))), env -> events.add("release second"));
+
+    Either<Throwable, Integer> result = ZIO.<Environment, Throwable, Integer>accessM(
+        env -> ZIO.raiseError(new UnsupportedOperationException())).provideLayer(first.andThen(second)).provide(nothing());
+
+    assertEquals(UnsupportedOperationException.class, result.getLeft().getClass());
+    assertEquals(Arrays.asList("release second", "release first"), events);
+  }
+
+  @Test
+  public void provideLayerBuildError() {
+    ZLayer<Nothing, Throwable, Environment> layer = ZLayer.fromEffect(ZIO.raiseError(new IllegalStateException()));
+
+    Either<Throwable, Integer> result =
+        ZIO.<Environment, Throwable, Integer>accessM(env -> ZIO.pure(env.getValue())).provideLayer(layer).provide(nothing());
+
+    assertEquals(IllegalStateException.class, result.getLeft().getClass());
+  }
+
+  @Test
+  public void interruptProvideLayer() throws InterruptedException {
+    List<String> events = Collections.synchronizedList(new ArrayList<>());
+    ZLayer<Nothing, Throwable, Environment> layer =
+        ZLayer.fromAcquireRelease(ZIO.pure(new Environment(1)), env -> events.add("release"));
+    ZIO<Nothing, Throwable, Unit> program = ZIO.<Environment>sleep(Duration.ofSeconds(10))
+        .andThen(ZIO.<Environment>exec(() -> events.add("effect"))).provideLayer(layer);
+
+    program.fork().flatMap(fiber -> ZIO.<Nothing>sleep(Duration.ofMillis(100)).andThen(fiber.interrupt()))
+        .provide(nothing());
+    Thread.sleep(600);
+
+    assertEquals(Arrays.asList("release"), events);
+  }
+
+  @Test
+  public void interruptSuspendedBracket() throws InterruptedException {
+    CountDownLatch released = new CountDownLatch(2);
+    ZIO<Nothing, Throwable, Integer> never = ZIO.async(callback -> { });
+    ZIO<Nothing, Throwable, Integer> inAsync =
+        ZIO.bracket(ZIO.pure("resource"), resource -> never, resource -> released.countDown());
+    ZIO<Nothing, Throwable, Integer> inJoin = ZIO.bracket(ZIO.pure("resource"),
+        resource -> never.fork().flatMap(fiber -> fiber.<Nothing>join()), resource -> released.countDown());
+
+    inAsync.fork().flatMap(fiber -> ZIO.<Nothing>sleep(Duration.ofMillis(50)).andThen(fiber.interrupt()))
+        .provide(nothing());
+    Either<Throwable, Integer> result = ZIO.zipPar(inJoin,
+        ZIO.<Nothing>sleep(Duration.ofMillis(50)).andThen(parseInt("lskjdf")), Integer::sum).provide(nothing());
+
+    assertEquals(NumberFormatException.class, result.getLeft().getClass());
+    assertTrue(released.await(1, TimeUnit.SECONDS));
+  }
+
   private ZIO<Nothing, Throwable, Integer> parseInt(String string) {
     return ZIO.task(() -> Integer.parseInt(string));
   }
@@ -273,6 +421,13 @@ public class ZIOTest {
     return resultSet -> ZIO.task(() -> resultSet.getString(column));
   }
 
+  private ZIO<Nothing, Throwable, Integer> sumZIO(Integer n, Integer sum) {
+    if (n == 0) {
+      return ZIO.pure(sum);
+    }
+    return ZIO.<Nothing, Throwable, Integer>pure(n).flatMap(x -> sumZIO(x - 1, sum + x));
+  }
+
   private UIO<Integer> sum(Integer n, Integer sum) {
     if (n == 0) {
       return UIO.pure(sum);
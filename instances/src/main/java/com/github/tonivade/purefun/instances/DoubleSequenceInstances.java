@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.instances;
+
+import com.github.tonivade.purefun.Eq;
+import com.github.tonivade.purefun.data.DoubleSequence;
+import com.github.tonivade.purefun.typeclasses.Monoid;
+import com.github.tonivade.purefun.typeclasses.Semigroup;
+
+public interface DoubleSequenceInstances {
+
+  static Eq<DoubleSequence> eq() {
+    return DoubleSequence::equals;
+  }
+
+  static Semigroup<DoubleSequence> semigroup() {
+    return DoubleSequenceSemigroup.INSTANCE;
+  }
+
+  static Monoid<DoubleSequence> monoid() {
+    return DoubleSequenceMonoid.INSTANCE;
+  }
+}
+
+interface DoubleSequenceSemigroup extends Semigroup<DoubleSequence> {
+
+  DoubleSequenceSemigroup INSTANCE = new DoubleSequenceSemigroup() {};
+
+  @Override
+  default DoubleSequence combine(DoubleSequence t1, DoubleSequence t2) {
+    return t1.appendAll(t2);
+  }
+}
+
+interface DoubleSequenceMonoid extends DoubleSequenceSemigroup, Monoid<DoubleSequence> {
+
+  DoubleSequenceMonoid INSTANCE = new DoubleSequenceMonoid() {};
+
+  @Override
+  default DoubleSequence zero() {
+    return DoubleSequence.empty();
+  }
+}
@@ -10,12 +10,15 @@ import com.github.tonivade.purefun.Function1;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.effect.EIO;
 import com.github.tonivade.purefun.effect.EIOOf;
 import com.github.tonivade.purefun.effect.EIO_;
 import com.github.tonivade.purefun.effect.UIO;
+import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.typeclasses.Applicative;
 import com.github.tonivade.purefun.typeclasses.Bracket;
+import com.github.tonivade.purefun.typeclasses.Concurrent;
 import com.github.tonivade.purefun.typeclasses.Defer;
 import com.github.tonivade.purefun.typeclasses.Functor;
 import com.github.tonivade.purefun.typeclasses.Monad;
@@ -51,6 +54,10 @@ public interface EIOInstances {
     return EIOMonadDefer.INSTANCE;
   }
 
+  static Concurrent<Kind<EIO_, Throwable>> concurrent() {
+    return EIOMonadDefer.INSTANCE;
+  }
+
   static <A> Reference<Kind<EIO_, Throwable>, A> ref(A value) {
     return Reference.of(monadDefer(), value);
   }
@@ -152,7 +159,7 @@ interface EIOBracket extends Bracket<Kind<EIO_, Throwable>> {
 }
 
 interface EIOMonadDefer
-    extends MonadDefer<Kind<EIO_, Throwable>>, EIOMonadThrow, EIODefer, EIOBracket {
+    extends Concurrent<Kind<EIO_, Throwable>>, EIOMonadThrow, EIODefer, EIOBracket {
 
   EIOMonadDefer INSTANCE = new EIOMonadDefer() {};
 
@@ -160,4 +167,14 @@ interface EIOMonadDefer
   default EIO<Throwable, Unit> sleep(Duration duration) {
     return UIO.sleep(duration).<Throwable>toEIO();
   }
+
+  @Override
+  default <A> EIO<Throwable, A> async(Consumer1<Consumer1<Try<A>>> consumer) {
+    return EIO.fromCallback(callback -> consumer.accept(result -> callback.accept(Try.success(result.toEither()))));
+  }
+
+  @Override
+  default <A> EIO<Throwable, Future<A>> start(Kind<Kind<EIO_, Throwable>, A> value) {
+    return EIO.task(() -> EIOOf.narrowK(value).toFuture().flatMap(result -> result.fold(Future::<A>failure, Future::success)));
+  }
 }
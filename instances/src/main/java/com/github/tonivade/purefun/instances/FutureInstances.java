@@ -16,8 +16,11 @@ import com.github.tonivade.purefun.Unit;
 import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.concurrent.FutureOf;
 import com.github.tonivade.purefun.concurrent.Future_;
+import com.github.tonivade.purefun.concurrent.Promise;
+import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.typeclasses.Applicative;
 import com.github.tonivade.purefun.typeclasses.Bracket;
+import com.github.tonivade.purefun.typeclasses.Concurrent;
 import com.github.tonivade.purefun.typeclasses.Defer;
 import com.github.tonivade.purefun.typeclasses.Functor;
 import com.github.tonivade.purefun.typeclasses.Monad;
@@ -62,6 +65,14 @@ public interface FutureInstances {
   static MonadDefer<Future_> monadDefer(Executor executor) {
     return FutureMonadDefer.instance(checkNonNull(executor));
   }
+
+  static Concurrent<Future_> concurrent() {
+    return concurrent(Future.DEFAULT_EXECUTOR);
+  }
+
+  static Concurrent<Future_> concurrent(Executor executor) {
+    return FutureMonadDefer.instance(checkNonNull(executor));
+  }
 }
 
 interface FutureFunctor extends Functor<Future_> {
@@ -146,7 +157,7 @@ interface FutureBracket extends Bracket<Future_>, ExecutorHolder {
   }
 }
 
-interface FutureMonadDefer extends MonadDefer<Future_>, FutureMonadThrow, FutureDefer, FutureBracket {
+interface FutureMonadDefer extends Concurrent<Future_>, FutureMonadThrow, FutureDefer, FutureBracket {
 
   static FutureMonadDefer instance(Executor executor) {
     return () -> executor;
@@ -156,4 +167,21 @@ interface FutureMonadDefer extends MonadDefer<Future_>, FutureMonadThrow, Future
   default Kind<Future_, Unit> sleep(Duration duration) {
     return Future.sleep(executor(), duration);
   }
+
+  @Override
+  default <A> Kind<Future_, A> async(Consumer1<Consumer1<Try<A>>> consumer) {
+    return Future.defer(executor(), () -> {
+      Promise<A> promise = Promise.make(executor());
+      consumer.accept(promise::tryComplete);
+      return Future.from(executor(), promise);
+    });
+  }
+
+  /**
+   * Futures are always running, so it only needs to wrap the given future.
+   */
+  @Override
+  default <A> Kind<Future_, Future<A>> start(Kind<Future_, A> value) {
+    return Future.success(executor(), FutureOf.narrowK(value));
+  }
 }
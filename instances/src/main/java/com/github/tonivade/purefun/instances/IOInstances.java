@@ -15,10 +15,13 @@ import com.github.tonivade.purefun.Function1;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.monad.IO;
 import com.github.tonivade.purefun.monad.IOOf;
 import com.github.tonivade.purefun.monad.IO_;
+import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.typeclasses.Bracket;
+import com.github.tonivade.purefun.typeclasses.Concurrent;
 import com.github.tonivade.purefun.typeclasses.Console;
 import com.github.tonivade.purefun.typeclasses.Defer;
 import com.github.tonivade.purefun.typeclasses.Functor;
@@ -50,6 +53,10 @@ public interface IOInstances {
     return IOMonadDefer.INSTANCE;
   }
 
+  static Concurrent<IO_> concurrent() {
+    return IOMonadDefer.INSTANCE;
+  }
+
   static <A> Reference<IO_, A> ref(A value) {
     return Reference.of(monadDefer(), value);
   }
@@ -120,7 +127,7 @@ interface IOBracket extends Bracket<IO_> {
   }
 }
 
-interface IOMonadDefer extends MonadDefer<IO_>, IOMonadError, IODefer, IOBracket {
+interface IOMonadDefer extends Concurrent<IO_>, IOMonadError, IODefer, IOBracket {
 
   IOMonadDefer INSTANCE = new IOMonadDefer() {};
 
@@ -128,6 +135,16 @@ interface IOMonadDefer extends MonadDefer<IO_>, IOMonadError, IODefer, IOBracket
   default Kind<IO_, Unit> sleep(Duration duration) {
     return IO.sleep(duration);
   }
+
+  @Override
+  default <A> Kind<IO_, A> async(Consumer1<Consumer1<Try<A>>> consumer) {
+    return IO.async(consumer);
+  }
+
+  @Override
+  default <A> Kind<IO_, Future<A>> start(Kind<IO_, A> value) {
+    return IO.task(() -> IOOf.narrowK(value).toFuture());
+  }
 }
 
 final class ConsoleIO implements Console<IO_> {
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.instances;
+
+import com.github.tonivade.purefun.Eq;
+import com.github.tonivade.purefun.data.IntSequence;
+import com.github.tonivade.purefun.typeclasses.Monoid;
+import com.github.tonivade.purefun.typeclasses.Semigroup;
+
+public interface IntSequenceInstances {
+
+  static Eq<IntSequence> eq() {
+    return IntSequence::equals;
+  }
+
+  static Semigroup<IntSequence> semigroup() {
+    return IntSequenceSemigroup.INSTANCE;
+  }
+
+  static Monoid<IntSequence> monoid() {
+    return IntSequenceMonoid.INSTANCE;
+  }
+}
+
+interface IntSequenceSemigroup extends Semigroup<IntSequence> {
+
+  IntSequenceSemigroup INSTANCE = new IntSequenceSemigroup() {};
+
+  @Override
+  default IntSequence combine(IntSequence t1, IntSequence t2) {
+    return t1.appendAll(t2);
+  }
+}
+
+interface IntSequenceMonoid extends IntSequenceSemigroup, Monoid<IntSequence> {
+
+  IntSequenceMonoid INSTANCE = new IntSequenceMonoid() {};
+
+  @Override
+  default IntSequence zero() {
+    return IntSequence.empty();
+  }
+}
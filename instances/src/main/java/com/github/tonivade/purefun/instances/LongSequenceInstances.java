@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.instances;
+
+import com.github.tonivade.purefun.Eq;
+import com.github.tonivade.purefun.data.LongSequence;
+import com.github.tonivade.purefun.typeclasses.Monoid;
+import com.github.tonivade.purefun.typeclasses.Semigroup;
+
+public interface LongSequenceInstances {
+
+  static Eq<LongSequence> eq() {
+    return LongSequence::equals;
+  }
+
+  static Semigroup<LongSequence> semigroup() {
+    return LongSequenceSemigroup.INSTANCE;
+  }
+
+  static Monoid<LongSequence> monoid() {
+    return LongSequenceMonoid.INSTANCE;
+  }
+}
+
+interface LongSequenceSemigroup extends Semigroup<LongSequence> {
+
+  LongSequenceSemigroup INSTANCE = new LongSequenceSemigroup() {};
+
+  @Override
+  default LongSequence combine(LongSequence t1, LongSequence t2) {
+    return t1.appendAll(t2);
+  }
+}
+
+interface LongSequenceMonoid extends LongSequenceSemigroup, Monoid<LongSequence> {
+
+  LongSequenceMonoid INSTANCE = new LongSequenceMonoid() {};
+
+  @Override
+  default LongSequence zero() {
+    return LongSequence.empty();
+  }
+}
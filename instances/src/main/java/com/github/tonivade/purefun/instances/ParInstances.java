@@ -11,11 +11,15 @@ import com.github.tonivade.purefun.Function1;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.concurrent.Par;
 import com.github.tonivade.purefun.concurrent.ParOf;
 import com.github.tonivade.purefun.concurrent.Par_;
+import com.github.tonivade.purefun.concurrent.Promise;
+import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.typeclasses.Applicative;
 import com.github.tonivade.purefun.typeclasses.Bracket;
+import com.github.tonivade.purefun.typeclasses.Concurrent;
 import com.github.tonivade.purefun.typeclasses.Defer;
 import com.github.tonivade.purefun.typeclasses.Functor;
 import com.github.tonivade.purefun.typeclasses.Monad;
@@ -39,6 +43,10 @@ public interface ParInstances {
   static MonadDefer<Par_> monadDefer() {
     return ParMonadDefer.INSTANCE;
   }
+
+  static Concurrent<Par_> concurrent() {
+    return ParMonadDefer.INSTANCE;
+  }
 }
 
 interface ParFunctor extends Functor<Par_> {
@@ -111,7 +119,7 @@ interface ParBracket extends Bracket<Par_> {
   }
 }
 
-interface ParMonadDefer extends ParMonadThrow, ParDefer, ParBracket, MonadDefer<Par_> {
+interface ParMonadDefer extends ParMonadThrow, ParDefer, ParBracket, Concurrent<Par_> {
 
   ParMonadDefer INSTANCE = new ParMonadDefer() {};
 
@@ -119,4 +127,20 @@ interface ParMonadDefer extends ParMonadThrow, ParDefer, ParBracket, MonadDefer<
   default Kind<Par_, Unit> sleep(Duration duration) {
     return Par.sleep(duration);
   }
+
+  @Override
+  default <A> Kind<Par_, A> async(Consumer1<Consumer1<Try<A>>> consumer) {
+    Par<A> async = executor -> {
+      Promise<A> promise = Promise.make(executor);
+      consumer.accept(promise::tryComplete);
+      return Future.from(executor, promise);
+    };
+    return async;
+  }
+
+  @Override
+  default <A> Kind<Par_, Future<A>> start(Kind<Par_, A> value) {
+    Par<Future<A>> start = executor -> Future.success(executor, ParOf.narrowK(value).apply(executor));
+    return start;
+  }
 }
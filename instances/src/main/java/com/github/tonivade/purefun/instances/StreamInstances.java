@@ -22,24 +22,24 @@ import com.github.tonivade.purefun.typeclasses.Monad;
 
 public interface StreamInstances {
 
-  static Stream.StreamOf<IO_> ofIO() {
-    return Stream.of(IOInstances.monadDefer());
+  static Stream.ConcurrentStreamOf<IO_> ofIO() {
+    return Stream.of(IOInstances.concurrent());
   }
 
-  static <R> Stream.StreamOf<Kind<Kind<ZIO_, R>, Throwable>> ofZIO() {
-    return Stream.of(ZIOInstances.monadDefer());
+  static <R> Stream.ConcurrentStreamOf<Kind<Kind<ZIO_, R>, Throwable>> ofZIO() {
+    return Stream.of(ZIOInstances.concurrent());
   }
 
-  static Stream.StreamOf<UIO_> ofUIO() {
-    return Stream.of(UIOInstances.monadDefer());
+  static Stream.ConcurrentStreamOf<UIO_> ofUIO() {
+    return Stream.of(UIOInstances.concurrent());
   }
 
-  static Stream.StreamOf<Kind<EIO_, Throwable>> ofEIO() {
-    return Stream.of(EIOInstances.monadDefer());
+  static Stream.ConcurrentStreamOf<Kind<EIO_, Throwable>> ofEIO() {
+    return Stream.of(EIOInstances.concurrent());
   }
 
-  static Stream.StreamOf<Task_> ofTask() {
-    return Stream.of(TaskInstances.monadDefer());
+  static Stream.ConcurrentStreamOf<Task_> ofTask() {
+    return Stream.of(TaskInstances.concurrent());
   }
 
   @SuppressWarnings("unchecked")
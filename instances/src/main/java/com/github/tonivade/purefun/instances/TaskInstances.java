@@ -10,11 +10,14 @@ import com.github.tonivade.purefun.Function1;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.effect.Task;
 import com.github.tonivade.purefun.effect.TaskOf;
 import com.github.tonivade.purefun.effect.Task_;
+import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.typeclasses.Applicative;
 import com.github.tonivade.purefun.typeclasses.Bracket;
+import com.github.tonivade.purefun.typeclasses.Concurrent;
 import com.github.tonivade.purefun.typeclasses.Defer;
 import com.github.tonivade.purefun.typeclasses.Functor;
 import com.github.tonivade.purefun.typeclasses.Monad;
@@ -49,6 +52,10 @@ public interface TaskInstances {
     return TaskMonadDefer.INSTANCE;
   }
 
+  static Concurrent<Task_> concurrent() {
+    return TaskMonadDefer.INSTANCE;
+  }
+
   static <A> Reference<Task_, A> ref(A value) {
     return Reference.of(monadDefer(), value);
   }
@@ -144,7 +151,7 @@ interface TaskBracket extends Bracket<Task_> {
 }
 
 interface TaskMonadDefer
-    extends MonadDefer<Task_>, TaskMonadThrow, TaskDefer, TaskBracket {
+    extends Concurrent<Task_>, TaskMonadThrow, TaskDefer, TaskBracket {
 
   TaskMonadDefer INSTANCE = new TaskMonadDefer() {};
 
@@ -152,4 +159,14 @@ interface TaskMonadDefer
   default Kind<Task_, Unit> sleep(Duration duration) {
     return Task.sleep(duration);
   }
+
+  @Override
+  default <A> Kind<Task_, A> async(Consumer1<Consumer1<Try<A>>> consumer) {
+    return Task.fromCallback(consumer);
+  }
+
+  @Override
+  default <A> Kind<Task_, Future<A>> start(Kind<Task_, A> value) {
+    return Task.task(() -> TaskOf.narrowK(value).toFuture().flatMap(result -> result.fold(Future::<A>failure, Future::success)));
+  }
 }
@@ -10,11 +10,14 @@ import com.github.tonivade.purefun.Function1;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.effect.UIO;
 import com.github.tonivade.purefun.effect.UIOOf;
 import com.github.tonivade.purefun.effect.UIO_;
+import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.typeclasses.Applicative;
 import com.github.tonivade.purefun.typeclasses.Bracket;
+import com.github.tonivade.purefun.typeclasses.Concurrent;
 import com.github.tonivade.purefun.typeclasses.Defer;
 import com.github.tonivade.purefun.typeclasses.Functor;
 import com.github.tonivade.purefun.typeclasses.Monad;
@@ -49,6 +52,10 @@ public interface UIOInstances {
     return UIOMonadDefer.INSTANCE;
   }
 
+  static Concurrent<UIO_> concurrent() {
+    return UIOMonadDefer.INSTANCE;
+  }
+
   static <A> Reference<UIO_, A> ref(A value) {
     return Reference.of(monadDefer(), value);
   }
@@ -138,7 +145,7 @@ interface UIOBracket extends Bracket<UIO_> {
 }
 
 interface UIOMonadDefer
-    extends MonadDefer<UIO_>, UIOMonadThrow, UIODefer, UIOBracket {
+    extends Concurrent<UIO_>, UIOMonadThrow, UIODefer, UIOBracket {
 
   UIOMonadDefer INSTANCE = new UIOMonadDefer() {};
 
@@ -146,4 +153,14 @@ interface UIOMonadDefer
   default Kind<UIO_, Unit> sleep(Duration duration) {
     return UIO.sleep(duration);
   }
+
+  @Override
+  default <A> Kind<UIO_, A> async(Consumer1<Consumer1<Try<A>>> consumer) {
+    return UIO.fromCallback(consumer);
+  }
+
+  @Override
+  default <A> Kind<UIO_, Future<A>> start(Kind<UIO_, A> value) {
+    return UIO.task(() -> UIOOf.narrowK(value).toFuture());
+  }
 }
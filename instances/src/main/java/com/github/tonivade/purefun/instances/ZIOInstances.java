@@ -10,12 +10,15 @@ import com.github.tonivade.purefun.Function1;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.effect.UIO;
 import com.github.tonivade.purefun.effect.ZIO;
 import com.github.tonivade.purefun.effect.ZIOOf;
 import com.github.tonivade.purefun.effect.ZIO_;
+import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.typeclasses.Applicative;
 import com.github.tonivade.purefun.typeclasses.Bracket;
+import com.github.tonivade.purefun.typeclasses.Concurrent;
 import com.github.tonivade.purefun.typeclasses.Console;
 import com.github.tonivade.purefun.typeclasses.Defer;
 import com.github.tonivade.purefun.typeclasses.Functor;
@@ -52,6 +55,10 @@ public interface ZIOInstances {
     return ZIOMonadDefer.INSTANCE;
   }
 
+  static <R> Concurrent<Kind<Kind<ZIO_, R>, Throwable>> concurrent() {
+    return ZIOMonadDefer.INSTANCE;
+  }
+
   static <R, A> Reference<Kind<Kind<ZIO_, R>, Throwable>, A> ref(A value) {
     return Reference.of(monadDefer(), value);
   }
@@ -157,7 +164,7 @@ interface ZIOBracket<R> extends Bracket<Kind<Kind<ZIO_, R>, Throwable>> {
 }
 
 interface ZIOMonadDefer<R>
-    extends MonadDefer<Kind<Kind<ZIO_, R>, Throwable>>, ZIOMonadThrow<R>, ZIODefer<R>, ZIOBracket<R> {
+    extends Concurrent<Kind<Kind<ZIO_, R>, Throwable>>, ZIOMonadThrow<R>, ZIODefer<R>, ZIOBracket<R> {
 
   @SuppressWarnings("rawtypes")
   ZIOMonadDefer INSTANCE = new ZIOMonadDefer() {};
@@ -166,6 +173,17 @@ interface ZIOMonadDefer<R>
   default ZIO<R, Throwable, Unit> sleep(Duration duration) {
     return UIO.sleep(duration).<R, Throwable>toZIO();
   }
+
+  @Override
+  default <A> ZIO<R, Throwable, A> async(Consumer1<Consumer1<Try<A>>> consumer) {
+    return ZIO.async(callback -> consumer.accept(result -> callback.accept(Try.success(result.toEither()))));
+  }
+
+  @Override
+  default <A> ZIO<R, Throwable, Future<A>> start(Kind<Kind<Kind<ZIO_, R>, Throwable>, A> value) {
+    return ZIO.accessM(env -> ZIO.task(
+        () -> ZIOOf.narrowK(value).toFuture(env).flatMap(result -> result.fold(Future::<A>failure, Future::success))));
+  }
 }
 
 final class ConsoleZIO<R> implements Console<Kind<Kind<ZIO_, R>, Throwable>> {
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.typeclasses;
+
+import static com.github.tonivade.purefun.Nothing.nothing;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.Nothing;
+import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.concurrent.FutureOf;
+import com.github.tonivade.purefun.concurrent.Future_;
+import com.github.tonivade.purefun.concurrent.Par;
+import com.github.tonivade.purefun.concurrent.Promise;
+import com.github.tonivade.purefun.concurrent.ParOf;
+import com.github.tonivade.purefun.concurrent.Par_;
+import com.github.tonivade.purefun.effect.Task;
+import com.github.tonivade.purefun.effect.TaskOf;
+import com.github.tonivade.purefun.effect.Task_;
+import com.github.tonivade.purefun.effect.ZIO;
+import com.github.tonivade.purefun.effect.ZIOOf;
+import com.github.tonivade.purefun.effect.ZIO_;
+import com.github.tonivade.purefun.instances.FutureInstances;
+import com.github.tonivade.purefun.instances.IOInstances;
+import com.github.tonivade.purefun.instances.ParInstances;
+import com.github.tonivade.purefun.instances.TaskInstances;
+import com.github.tonivade.purefun.instances.ZIOInstances;
+import com.github.tonivade.purefun.monad.IO;
+import com.github.tonivade.purefun.monad.IOOf;
+import com.github.tonivade.purefun.monad.IO_;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Try;
+
+public class ConcurrentTest {
+
+  private final Concurrent<IO_> ioConcurrent = IOInstances.concurrent();
+  private final Concurrent<Task_> taskConcurrent = TaskInstances.concurrent();
+  private final Concurrent<Future_> futureConcurrent = FutureInstances.concurrent();
+  private final Concurrent<Par_> parConcurrent = ParInstances.concurrent();
+  private final Concurrent<Kind<Kind<ZIO_, Nothing>, Throwable>> zioConcurrent = ZIOInstances.concurrent();
+
+  @Test
+  public void ioStart() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+
+    Future<String> future = ioConcurrent.start(IO.exec(latch::await).andThen(IO.pure("done")))
+        .fix(IOOf::narrowK).unsafeRunSync();
+
+    assertFalse(future.isCompleted());
+    latch.countDown();
+    assertEquals("done", ioConcurrent.join(future).fix(IOOf::narrowK).unsafeRunSync());
+  }
+
+  @Test
+  public void ioStartError() {
+    Future<String> future = ioConcurrent.start(IO.<String>raiseError(new UnsupportedOperationException()))
+        .fix(IOOf::narrowK).unsafeRunSync();
+
+    Try<String> result = ioConcurrent.join(future).fix(IOOf::narrowK).safeRunSync();
+
+    assertTrue(result.getCause() instanceof UnsupportedOperationException);
+  }
+
+  @Test
+  public void taskStart() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+
+    Future<String> future = taskConcurrent.start(Task.exec(latch::await).andThen(Task.pure("done")))
+        .fix(TaskOf::narrowK).safeRunSync().get();
+
+    assertFalse(future.isCompleted());
+    latch.countDown();
+    assertEquals(Try.success("done"), taskConcurrent.join(future).fix(TaskOf::narrowK).safeRunSync());
+  }
+
+  @Test
+  public void zioStart() {
+    CountDownLatch latch = new CountDownLatch(1);
+
+    Future<String> future = zioConcurrent.start(ZIO.<Nothing>exec(latch::await).andThen(ZIO.pure("done")))
+        .fix(ZIOOf::narrowK).provide(nothing()).get();
+
+    assertFalse(future.isCompleted());
+    latch.countDown();
+    assertEquals("done", zioConcurrent.join(future).fix(ZIOOf::narrowK).provide(nothing()).get());
+  }
+
+  @Test
+  public void zioAsyncDoesNotBlockThreads() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Promise<String> promise = Promise.make();
+      ZIO<Nothing, Throwable, String> waiting = zioConcurrent.async(promise::onComplete).fix(ZIOOf::narrowK);
+      ZIO<Nothing, Throwable, Unit> complete = ZIO.exec(() -> promise.tryComplete(Try.success("done")));
+
+      Future<Either<Throwable, String>> result = waiting.fork(executor)
+          .flatMap(fiber -> complete.fork(executor).andThen(fiber.<Nothing>join())).toFuture(nothing());
+
+      assertEquals(Try.success(Either.right("done")), result.await(Duration.ofSeconds(1)));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void taskAsyncDoesNotBlockThreads() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Promise<String> promise = Promise.make();
+      Task<String> waiting = taskConcurrent.async(promise::onComplete).fix(TaskOf::narrowK);
+      Task<Unit> complete = Task.exec(() -> promise.tryComplete(Try.success("done")));
+
+      Future<Try<String>> result = waiting.fork(executor)
+          .flatMap(fiber -> complete.fork(executor).andThen(Task.join(fiber))).toFuture();
+
+      assertEquals(Try.success(Try.success("done")), result.await(Duration.ofSeconds(1)));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void futureStart() {
+    Future<String> value = Future.delay(Duration.ofMillis(50), () -> "done");
+
+    Future<String> future = futureConcurrent.start(value).fix(FutureOf::narrowK).get();
+
+    assertEquals("done", futureConcurrent.join(future).fix(FutureOf::narrowK).get());
+  }
+
+  @Test
+  public void parStart() {
+    Par<String> value = Par.sleep(Duration.ofMillis(50)).map(ignore -> "done");
+
+    Par<String> result = parConcurrent.start(value).fix(ParOf::narrowK).flatMap(
+        future -> parConcurrent.join(future).fix(ParOf::narrowK));
+
+    assertEquals(Try.success("done"), result.run(Future.DEFAULT_EXECUTOR).get());
+  }
+}
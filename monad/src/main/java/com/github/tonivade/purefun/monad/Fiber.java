@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.monad;
+
+import com.github.tonivade.purefun.Unit;
+
+/**
+ * <p>A lightweight thread of execution of an {@code IO} program.</p>
+ *
+ * <p>Fibers are multiplexed over the threads of an {@code Executor}. A fiber doesn't hold a thread
+ * while it's sleeping or waiting for an asynchronous result, it is suspended and resumed later
+ * in the same executor.</p>
+ *
+ * <p>The cancellation is cooperative, a cancelled fiber stops before the next step of the program and
+ * releases the resources acquired with {@code bracket}. A fiber that is sleeping, or waiting for an
+ * asynchronous result or another fiber, is woken up to stop.</p>
+ *
+ * @param <T> result of the computation
+ * @see IO#fork()
+ */
+public interface Fiber<T> {
+
+  IO<T> join();
+
+  IO<Unit> cancel();
+}
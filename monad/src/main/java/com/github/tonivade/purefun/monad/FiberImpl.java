@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.monad;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.github.tonivade.purefun.Consumer1;
+import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.concurrent.Promise;
+import com.github.tonivade.purefun.type.Try;
+
+final class FiberImpl<T> implements Fiber<T>, Runnable {
+
+  private static final int MAX_STEPS = 512;
+
+  private final Executor executor;
+  private final Promise<T> promise;
+  // continuations, attempts and resources to release
+  private final IOStack stack = new IOStack();
+
+  private IO<?> current;
+  private Object value;
+  private Throwable error;
+  // wakes up the fiber with a cancellation while it's sleeping or waiting for an async result
+  private volatile Runnable suspended;
+
+  private FiberImpl(Executor executor, IO<T> start) {
+    this.executor = checkNonNull(executor);
+    this.current = checkNonNull(start);
+    this.promise = Promise.make(executor);
+  }
+
+  @Override
+  public IO<T> join() {
+    return IO.async(promise::onComplete);
+  }
+
+  @Override
+  public IO<Unit> cancel() {
+    return IO.exec(this::interrupt);
+  }
+
+  @Override
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public void run() {
+    for (int steps = 0; steps < MAX_STEPS; steps++) {
+      if (promise.isCompleted()) {
+        releaseAll();
+        return;
+      }
+
+      if (current == null) {
+        if (stack.isEmpty()) {
+          promise.tryComplete(error == null ? Try.success((T) value) : Try.failure(error));
+          return;
+        }
+        pop(stack.pop());
+        continue;
+      }
+
+      IO next = current;
+      current = null;
+      try {
+        if (next instanceof IO.FlatMapped) {
+          IO.FlatMapped flatMapped = (IO.FlatMapped) next;
+          stack.push(flatMapped);
+          current = flatMapped.start();
+        } else if (next instanceof IO.Suspend) {
+          current = ((IO.Suspend) next).next();
+        } else if (next instanceof IO.Attempt) {
+          IO.Attempt attempt = (IO.Attempt) next;
+          stack.push(attempt);
+          current = attempt.current();
+        } else if (next instanceof IO.Bracket) {
+          IO.Bracket bracket = (IO.Bracket) next;
+          stack.push(new Acquired(bracket));
+          current = bracket.acquire();
+        } else if (next instanceof IO.Failure) {
+          error = ((IO.Failure) next).error();
+        } else if (next instanceof IO.Sleep) {
+          sleep((IO.Sleep) next);
+          return;
+        } else if (next instanceof IO.Async) {
+          async((IO.Async) next);
+          return;
+        } else {
+          value = next.unsafeRunSync();
+        }
+      } catch (Throwable t) {
+        error = t;
+      }
+    }
+    resume();
+  }
+
+  Promise<T> toPromise() {
+    return promise;
+  }
+
+  void interrupt() {
+    if (promise.tryComplete(Try.failure(new CancellationException()))) {
+      wakeUp();
+    }
+  }
+
+  static <T> FiberImpl<T> start(Executor executor, IO<T> program) {
+    FiberImpl<T> fiber = new FiberImpl<>(executor, program);
+    fiber.resume();
+    return fiber;
+  }
+
+  // after an error only the attempts and the resources to release are evaluated
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void pop(Object frame) {
+    try {
+      if (frame instanceof IO.Attempt) {
+        value = error == null ? Try.success(value) : Try.failure(error);
+        error = null;
+      } else if (frame instanceof Release) {
+        ((Release) frame).run();
+      } else if (error != null) {
+        return;
+      } else if (frame instanceof Acquired) {
+        IO.Bracket bracket = ((Acquired) frame).bracket;
+        stack.push(new Release(bracket, value));
+        current = bracket.use(value);
+      } else {
+        current = ((IO.FlatMapped) frame).run(value);
+      }
+    } catch (Throwable t) {
+      if (error == null) {
+        error = t;
+      } else {
+        error.addSuppressed(t);
+      }
+    }
+  }
+
+  private void releaseAll() {
+    while (!stack.isEmpty()) {
+      Object frame = stack.pop();
+      if (frame instanceof Release) {
+        try {
+          ((Release) frame).run();
+        } catch (Throwable t) {
+          // the fiber was cancelled, there is nobody to report the error to
+        }
+      }
+    }
+  }
+
+  // the pending timeout is discarded by the timer when its promise is completed
+  private void sleep(IO.Sleep sleep) {
+    Promise<Unit> timeout = sleep.timer().sleep(executor, sleep.duration());
+    suspended = () -> timeout.tryComplete(Try.failure(new CancellationException()));
+    timeout.onComplete(resumeOnce());
+    if (promise.isCompleted()) {
+      wakeUp();
+    }
+  }
+
+  // a late result of the async computation is ignored after a cancellation
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void async(IO.Async async) {
+    Consumer1<Try<Object>> callback = resumeOnce();
+    suspended = () -> callback.accept(Try.failure(new CancellationException()));
+    try {
+      async.register(callback);
+    } catch (Throwable t) {
+      callback.accept(Try.failure(t));
+      return;
+    }
+    if (promise.isCompleted()) {
+      wakeUp();
+    }
+  }
+
+  private void wakeUp() {
+    Runnable current = suspended;
+    if (current != null) {
+      current.run();
+    }
+  }
+
+  private void resume() {
+    executor.execute(this);
+  }
+
+  private <R> Consumer1<Try<R>> resumeOnce() {
+    AtomicBoolean resumed = new AtomicBoolean();
+    return result -> {
+      if (resumed.compareAndSet(false, true)) {
+        suspended = null;
+        value = result.getOrElseNull();
+        error = result.isFailure() ? result.getCause() : null;
+        resume();
+      }
+    };
+  }
+
+  private static final class Acquired {
+
+    private final IO.Bracket<?, ?> bracket;
+
+    private Acquired(IO.Bracket<?, ?> bracket) {
+      this.bracket = bracket;
+    }
+  }
+
+  private static final class Release {
+
+    private final IO.Bracket<?, ?> bracket;
+    private final Object resource;
+
+    private Release(IO.Bracket<?, ?> bracket, Object resource) {
+      this.bracket = bracket;
+      this.resource = resource;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void run() {
+      ((IO.Bracket) bracket).release(resource);
+    }
+  }
+}
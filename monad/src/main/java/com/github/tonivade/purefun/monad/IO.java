@@ -8,13 +8,15 @@ import static com.github.tonivade.purefun.Function1.identity;
 import static com.github.tonivade.purefun.Precondition.checkNonNull;
 
 import java.time.Duration;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.Iterator;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 
 import com.github.tonivade.purefun.CheckedRunnable;
 import com.github.tonivade.purefun.Consumer1;
 import com.github.tonivade.purefun.Function1;
+import com.github.tonivade.purefun.Function2;
 import com.github.tonivade.purefun.HigherKind;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.Producer;
@@ -24,6 +26,10 @@ import com.github.tonivade.purefun.Tuple2;
 import com.github.tonivade.purefun.Unit;
 import com.github.tonivade.purefun.Witness;
 import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.concurrent.HashedWheelTimer;
+import com.github.tonivade.purefun.concurrent.Promise;
+import com.github.tonivade.purefun.concurrent.internal.ParallelTraverse;
+import com.github.tonivade.purefun.data.ImmutableList;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.type.Either;
 import com.github.tonivade.purefun.type.Try;
@@ -43,7 +49,7 @@ public interface IO<T> extends IOOf<T>, Recoverable {
   }
 
   default Future<T> toFuture(Executor executor) {
-    return Future.async(executor, this::unsafeRunSync);
+    return Future.from(executor, FiberImpl.start(executor, this).toPromise());
   }
 
   default void safeRunAsync(Consumer1<Try<T>> callback) {
@@ -51,7 +57,23 @@ public interface IO<T> extends IOOf<T>, Recoverable {
   }
 
   default void safeRunAsync(Executor executor, Consumer1<Try<T>> callback) {
-    toFuture(executor).onComplete(callback);
+    unsafeRunAsync(executor, callback);
+  }
+
+  default void unsafeRunAsync(Consumer1<Try<T>> callback) {
+    unsafeRunAsync(Future.DEFAULT_EXECUTOR, callback);
+  }
+
+  default void unsafeRunAsync(Executor executor, Consumer1<Try<T>> callback) {
+    FiberImpl.start(executor, this).toPromise().onComplete(callback);
+  }
+
+  default IO<Fiber<T>> fork() {
+    return fork(Future.DEFAULT_EXECUTOR);
+  }
+
+  default IO<Fiber<T>> fork(Executor executor) {
+    return task(() -> FiberImpl.start(executor, this));
   }
 
   <F extends Witness> Kind<F, T> foldMap(MonadDefer<F> monad);
@@ -61,7 +83,7 @@ public interface IO<T> extends IOOf<T>, Recoverable {
   }
 
   default <R> IO<R> flatMap(Function1<T, IO<R>> map) {
-    return new FlatMapped<>(Producer.cons(this), map);
+    return new FlatMapped<>(this, map);
   }
 
   default <R> IO<R> andThen(IO<R> after) {
@@ -162,8 +184,32 @@ public interface IO<T> extends IOOf<T>, Recoverable {
     return task.andThen(IO::pure);
   }
 
+  static <T> IO<T> async(Consumer1<Consumer1<Try<T>>> callback) {
+    return new Async<>(callback);
+  }
+
+  static <T> IO<T> fromFuture(Future<T> future) {
+    return async(future::onComplete);
+  }
+
+  static <T> IO<T> fromCompletionStage(CompletionStage<T> stage) {
+    return async(callback -> stage.whenComplete((value, error) -> {
+      if (error instanceof CompletionException && error.getCause() != null) {
+        callback.accept(Try.failure(error.getCause()));
+      } else if (error != null) {
+        callback.accept(Try.failure(error));
+      } else {
+        callback.accept(Try.success(value));
+      }
+    }));
+  }
+
   static IO<Unit> sleep(Duration duration) {
-    return new Sleep(duration);
+    return sleep(HashedWheelTimer.DEFAULT, duration);
+  }
+
+  static IO<Unit> sleep(HashedWheelTimer timer, Duration duration) {
+    return new Sleep(timer, duration);
   }
 
   static IO<Unit> exec(CheckedRunnable task) {
@@ -190,6 +236,68 @@ public interface IO<T> extends IOOf<T>, Recoverable {
     return sequence.fold(unit(), IO::andThen).andThen(unit());
   }
 
+  static <A, B, C> IO<C> parMap2(IO<A> fa, IO<B> fb, Function2<A, B, C> mapper) {
+    return parMap2(Future.DEFAULT_EXECUTOR, fa, fb, mapper);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <A, B, C> IO<C> parMap2(Executor executor, IO<A> fa, IO<B> fb, Function2<A, B, C> mapper) {
+    Sequence<IO<Object>> both = ImmutableList.of((IO<Object>) fa, (IO<Object>) fb);
+    return IOModule.parTraverse(executor, both, 2).map(results -> {
+      Iterator<Object> iterator = results.iterator();
+      return mapper.apply((A) iterator.next(), (B) iterator.next());
+    });
+  }
+
+  static <A, B> IO<Tuple2<A, B>> parTuple(IO<A> fa, IO<B> fb) {
+    return parTuple(Future.DEFAULT_EXECUTOR, fa, fb);
+  }
+
+  static <A, B> IO<Tuple2<A, B>> parTuple(Executor executor, IO<A> fa, IO<B> fb) {
+    return parMap2(executor, fa, fb, Tuple::of);
+  }
+
+  static <A> IO<Sequence<A>> parSequence(Sequence<IO<A>> sequence) {
+    return parSequence(Future.DEFAULT_EXECUTOR, sequence);
+  }
+
+  static <A> IO<Sequence<A>> parSequence(Executor executor, Sequence<IO<A>> sequence) {
+    return IOModule.parTraverse(executor, sequence, Integer.MAX_VALUE);
+  }
+
+  static <A, B> IO<Sequence<B>> parTraverse(Sequence<A> sequence, Function1<A, IO<B>> mapper) {
+    return parTraverse(Future.DEFAULT_EXECUTOR, sequence, mapper);
+  }
+
+  static <A, B> IO<Sequence<B>> parTraverse(Executor executor, Sequence<A> sequence, Function1<A, IO<B>> mapper) {
+    return parTraverseN(executor, Integer.MAX_VALUE, sequence, mapper);
+  }
+
+  static <A, B> IO<Sequence<B>> parTraverseN(int parallelism, Sequence<A> sequence, Function1<A, IO<B>> mapper) {
+    return parTraverseN(Future.DEFAULT_EXECUTOR, parallelism, sequence, mapper);
+  }
+
+  static <A, B> IO<Sequence<B>> parTraverseN(
+      Executor executor, int parallelism, Sequence<A> sequence, Function1<A, IO<B>> mapper) {
+    return IOModule.parTraverse(executor, sequence.map(mapper), parallelism);
+  }
+
+  static <A, B> IO<Either<A, B>> race(IO<A> fa, IO<B> fb) {
+    return race(Future.DEFAULT_EXECUTOR, fa, fb);
+  }
+
+  static <A, B> IO<Either<A, B>> race(Executor executor, IO<A> fa, IO<B> fb) {
+    return raceAll(executor, ImmutableList.of(fa.map(Either::<A, B>left), fb.map(Either::<A, B>right)));
+  }
+
+  static <A> IO<A> raceAll(Sequence<IO<A>> sequence) {
+    return raceAll(Future.DEFAULT_EXECUTOR, sequence);
+  }
+
+  static <A> IO<A> raceAll(Executor executor, Sequence<IO<A>> sequence) {
+    return IOModule.race(executor, sequence);
+  }
+
   final class Pure<T> implements SealedIO<T> {
 
     private final T value;
@@ -216,10 +324,10 @@ public interface IO<T> extends IOOf<T>, Recoverable {
 
   final class FlatMapped<T, R> implements SealedIO<R> {
 
-    private final Producer<IO<T>> current;
+    private final IO<T> current;
     private final Function1<T, IO<R>> next;
 
-    protected FlatMapped(Producer<IO<T>> current, Function1<T, IO<R>> next) {
+    protected FlatMapped(IO<T> current, Function1<T, IO<R>> next) {
       this.current = checkNonNull(current);
       this.next = checkNonNull(next);
     }
@@ -231,13 +339,7 @@ public interface IO<T> extends IOOf<T>, Recoverable {
 
     @Override
     public <F extends Witness> Kind<F, R> foldMap(MonadDefer<F> monad) {
-      return monad.flatMap(current.get().foldMap(monad), next.andThen(io -> io.foldMap(monad)));
-    }
-
-    @Override
-    @SuppressWarnings("unchecked")
-    public <R1> IO<R1> flatMap(Function1<R, IO<R1>> map) {
-      return new FlatMapped<>(() -> (IO<R>) start(), r -> new FlatMapped<>(() -> run((T) r), map::apply));
+      return monad.flatMap(current.foldMap(monad), next.andThen(io -> io.foldMap(monad)));
     }
 
     @Override
@@ -246,7 +348,7 @@ public interface IO<T> extends IOOf<T>, Recoverable {
     }
 
     protected IO<T> start() {
-      return current.get();
+      return current;
     }
 
     protected IO<R> run(T value) {
@@ -288,6 +390,10 @@ public interface IO<T> extends IOOf<T>, Recoverable {
     public String toString() {
       return "Failure(" + error + ")";
     }
+
+    protected Throwable error() {
+      return error;
+    }
   }
 
   final class Task<T> implements SealedIO<T> {
@@ -324,12 +430,7 @@ public interface IO<T> extends IOOf<T>, Recoverable {
 
     @Override
     public T unsafeRunSync() {
-      return IOModule.collapse(this).unsafeRunSync();
-    }
-
-    @Override
-    public <R> IO<R> flatMap(Function1<T, IO<R>> map) {
-      return new FlatMapped<>(lazy::get, map::apply);
+      return IOModule.evaluate(this);
     }
 
     @Override
@@ -349,9 +450,15 @@ public interface IO<T> extends IOOf<T>, Recoverable {
 
   final class Sleep implements SealedIO<Unit>, Recoverable {
 
+    private final HashedWheelTimer timer;
     private final Duration duration;
 
     public Sleep(Duration duration) {
+      this(HashedWheelTimer.DEFAULT, duration);
+    }
+
+    public Sleep(HashedWheelTimer timer, Duration duration) {
+      this.timer = checkNonNull(timer);
       this.duration = checkNonNull(duration);
     }
 
@@ -375,6 +482,48 @@ public interface IO<T> extends IOOf<T>, Recoverable {
     public String toString() {
       return "Sleep(" + duration + ')';
     }
+
+    protected HashedWheelTimer timer() {
+      return timer;
+    }
+
+    protected Duration duration() {
+      return duration;
+    }
+  }
+
+  final class Async<T> implements SealedIO<T> {
+
+    private final Consumer1<Consumer1<Try<T>>> callback;
+
+    protected Async(Consumer1<Consumer1<Try<T>>> callback) {
+      this.callback = checkNonNull(callback);
+    }
+
+    @Override
+    public T unsafeRunSync() {
+      Promise<T> promise = Promise.make();
+      callback.accept(promise::tryComplete);
+      Try<T> result = promise.get();
+      if (result.isFailure()) {
+        return sneakyThrow(result.getCause());
+      }
+      return result.get();
+    }
+
+    @Override
+    public <F extends Witness> Kind<F, T> foldMap(MonadDefer<F> monad) {
+      return monad.async(callback);
+    }
+
+    @Override
+    public String toString() {
+      return "Async(?)";
+    }
+
+    protected void register(Consumer1<Try<T>> resume) {
+      callback.accept(resume);
+    }
   }
 
   final class Bracket<T, R> implements SealedIO<R> {
@@ -405,6 +554,18 @@ public interface IO<T> extends IOOf<T>, Recoverable {
     public String toString() {
       return "Bracket(" + acquire + ", ?, ?)";
     }
+
+    protected IO<T> acquire() {
+      return acquire;
+    }
+
+    protected IO<R> use(T resource) {
+      return use.apply(resource);
+    }
+
+    protected void release(T resource) {
+      release.accept(resource);
+    }
   }
 
   final class Attempt<T> implements SealedIO<Try<T>> {
@@ -417,7 +578,7 @@ public interface IO<T> extends IOOf<T>, Recoverable {
 
     @Override
     public Try<T> unsafeRunSync() {
-      return Try.of(current::unsafeRunSync);
+      return IOModule.evaluate(this);
     }
 
     @Override
@@ -429,6 +590,10 @@ public interface IO<T> extends IOOf<T>, Recoverable {
     public String toString() {
       return "Attempt(" + current + ")";
     }
+
+    protected IO<T> current() {
+      return current;
+    }
   }
 }
 
@@ -436,46 +601,80 @@ interface IOModule {
 
   IO<Unit> UNIT = IO.pure(Unit.unit());
 
-  @SuppressWarnings("unchecked")
-  static <A, X> IO<A> collapse(IO<A> self) {
-    IO<A> current = self;
-    while (true) {
-      if (current instanceof IO.Suspend) {
-        IO.Suspend<A> suspend = (IO.Suspend<A>) current;
-        current = suspend.next();
-      } else if (current instanceof IO.FlatMapped) {
-        IO.FlatMapped<X, A> flatMapped = (IO.FlatMapped<X, A>) current;
-        return new IO.FlatMapped<>(flatMapped::start, a -> collapse(flatMapped.run(a)));
-      } else {
-        break;
-      }
-    }
-    return current;
-  }
-
   @SuppressWarnings({"rawtypes", "unchecked"})
   static <A> A evaluate(IO<A> self) {
-    Deque<Function1<Object, IO>> stack = new LinkedList<>();
-    IO<A> current = self;
+    IOStack stack = new IOStack();
+    IO current = self;
+    Object value = null;
+    Throwable error = null;
     while (true) {
-      if (current instanceof IO.FlatMapped) {
-        IO.FlatMapped currentFlatMapped = (IO.FlatMapped) current;
-        IO<A> next = currentFlatMapped.start();
-        if (next instanceof IO.FlatMapped) {
-          IO.FlatMapped nextFlatMapped = (IO.FlatMapped) next;
-          current = nextFlatMapped.start();
-          stack.push(currentFlatMapped::run);
-          stack.push(nextFlatMapped::run);
+      try {
+        if (current instanceof IO.FlatMapped) {
+          IO.FlatMapped flatMapped = (IO.FlatMapped) current;
+          stack.push(flatMapped);
+          current = flatMapped.start();
+          continue;
+        }
+        if (current instanceof IO.Suspend) {
+          current = ((IO.Suspend) current).next();
+          continue;
+        }
+        if (current instanceof IO.Attempt) {
+          IO.Attempt attempt = (IO.Attempt) current;
+          stack.push(attempt);
+          current = attempt.current();
+          continue;
+        }
+        if (current instanceof IO.Failure) {
+          error = ((IO.Failure) current).error();
         } else {
-          current = currentFlatMapped.run(next.unsafeRunSync());
+          value = current.unsafeRunSync();
         }
-      } else if (!stack.isEmpty()) {
-        current = stack.pop().apply(current.unsafeRunSync());
-      } else {
-        break;
+      } catch (Throwable t) {
+        error = t;
       }
+
+      current = null;
+      while (current == null) {
+        if (stack.isEmpty()) {
+          return error == null ? (A) value : self.sneakyThrow(error);
+        }
+        Object frame = stack.pop();
+        if (frame instanceof IO.Attempt) {
+          value = error == null ? Try.success(value) : Try.failure(error);
+          error = null;
+        } else if (error == null) {
+          try {
+            current = ((IO.FlatMapped) frame).run(value);
+          } catch (Throwable t) {
+            error = t;
+          }
+        }
+      }
+    }
+  }
+
+  static <A> IO<Sequence<A>> parTraverse(Executor executor, Sequence<IO<A>> sequence, int parallelism) {
+    checkNonNull(executor);
+    checkNonNull(sequence);
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism should be greater than zero: " + parallelism);
     }
-    return current.unsafeRunSync();
+    return IO.async(callback -> ParallelTraverse.traverse(sequence, parallelism, io -> fiber(executor, io), callback));
+  }
+
+  static <A> IO<A> race(Executor executor, Sequence<IO<A>> sequence) {
+    checkNonNull(executor);
+    checkNonNull(sequence);
+    if (sequence.isEmpty()) {
+      throw new IllegalArgumentException("nothing to race");
+    }
+    return IO.async(callback -> ParallelTraverse.race(sequence, io -> fiber(executor, io), callback));
+  }
+
+  static <A> ParallelTraverse.Running<A> fiber(Executor executor, IO<A> program) {
+    FiberImpl<A> fiber = FiberImpl.start(executor, program);
+    return ParallelTraverse.Running.of(fiber.toPromise()::onComplete, fiber::interrupt);
   }
 
   static <T> IO<T> repeat(IO<T> self, IO<Unit> pause, int times) {
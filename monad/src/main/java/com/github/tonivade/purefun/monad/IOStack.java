@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.monad;
+
+import java.util.Arrays;
+
+final class IOStack {
+
+  private Object[] elements = new Object[16];
+  private int size = 0;
+
+  void push(Object element) {
+    if (size == elements.length) {
+      elements = Arrays.copyOf(elements, size << 1);
+    }
+    elements[size++] = element;
+  }
+
+  Object pop() {
+    Object element = elements[--size];
+    elements[size] = null;
+    return element;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+}
@@ -4,6 +4,7 @@
  */
 package com.github.tonivade.purefun.monad;
 
+import static com.github.tonivade.purefun.data.Sequence.listOf;
 import static com.github.tonivade.purefun.monad.IO.unit;
 import static com.github.tonivade.purefun.monad.IOOf.narrowK;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -20,6 +21,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -27,6 +35,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.github.tonivade.purefun.Consumer1;
 import com.github.tonivade.purefun.Function1;
 import com.github.tonivade.purefun.Producer;
+import com.github.tonivade.purefun.Tuple;
 import com.github.tonivade.purefun.Tuple2;
 import com.github.tonivade.purefun.Unit;
 import com.github.tonivade.purefun.concurrent.Future;
@@ -34,10 +43,12 @@ import com.github.tonivade.purefun.concurrent.FutureOf;
 import com.github.tonivade.purefun.concurrent.Par;
 import com.github.tonivade.purefun.concurrent.ParOf;
 import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.instances.FutureInstances;
 import com.github.tonivade.purefun.instances.IOInstances;
 import com.github.tonivade.purefun.instances.ParInstances;
 import com.github.tonivade.purefun.runtimes.ConsoleExecutor;
+import com.github.tonivade.purefun.type.Either;
 import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.typeclasses.Console;
 import com.github.tonivade.purefun.typeclasses.Reference;
@@ -242,6 +253,254 @@ public class IOTest {
     assertEquals(Try.success(705082704), futureSum.await());
   }
 
+  @Test
+  public void stackSafetyFlatMap() {
+    IO<Integer> program = IO.pure(0);
+    for (int i = 0; i < 100000; i++) {
+      program = program.flatMap(x -> IO.pure(x + 1));
+    }
+
+    assertEquals(100000, program.unsafeRunSync());
+  }
+
+  @Test
+  public void stackSafetyAttempt() {
+    RuntimeException error = new RuntimeException();
+    IO<Integer> program = IO.pure(0);
+    for (int i = 0; i < 100000; i++) {
+      program = program.flatMap(x -> IO.<Integer>raiseError(error)).redeemWith(e -> IO.pure(1), IO::pure);
+    }
+
+    assertEquals(1, program.unsafeRunSync());
+  }
+
+  @Test
+  public void errorInsideFlatMap() {
+    RuntimeException error = new RuntimeException();
+    IO<Try<Integer>> program = IO.pure(1)
+        .<Integer>map(x -> { throw error; })
+        .map(x -> x + 1)
+        .attempt();
+
+    assertEquals(Try.failure(error), program.unsafeRunSync());
+  }
+
+  @Test
+  public void unsafeRunAsync(@Mock Consumer1<Try<Integer>> callback) {
+    IO<Integer> program = IO.sleep(Duration.ofMillis(100)).andThen(sum(100000, 0));
+
+    program.unsafeRunAsync(callback);
+
+    verify(callback, timeout(1000)).accept(Try.success(705082704));
+  }
+
+  @Test
+  public void forkJoin() {
+    IO<Integer> program = IO.pure(10).flatMap(x ->
+        IO.sleep(Duration.ofMillis(100)).andThen(IO.task(() -> x * 2)).fork()
+          .flatMap(fiber -> IO.pure(x).flatMap(y -> fiber.join().map(z -> y + z))));
+
+    assertEquals(30, program.unsafeRunSync());
+    assertEquals(Try.success(30), program.toFuture().await());
+  }
+
+  @Test
+  public void forkJoinFailure() {
+    RuntimeException error = new RuntimeException();
+    IO<Try<Integer>> program = IO.<Integer>raiseError(error).fork().flatMap(Fiber::join).attempt();
+
+    assertEquals(Try.success(Try.failure(error)), program.toFuture().await());
+  }
+
+  @Test
+  public void sleepDoesNotBlockThreads() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      IO<Integer> fiber = IO.sleep(Duration.ofMillis(500)).andThen(IO.pure(1));
+      IO<Integer> program = IO.pure(0);
+      for (int i = 0; i < 100; i++) {
+        IO<Integer> previous = program;
+        program = fiber.fork(executor).flatMap(f -> previous.flatMap(x -> f.join().map(y -> x + y)));
+      }
+
+      Tuple2<Duration, Integer> result = program.timed().toFuture(executor).await().get();
+
+      assertEquals(100, result.get2());
+      assertTrue(result.get1().toMillis() < 5000);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void cancel() {
+    IO<Try<Integer>> program = IO.sleep(Duration.ofSeconds(10)).andThen(IO.pure(1)).fork()
+        .flatMap(fiber -> fiber.cancel().andThen(fiber.join()))
+        .attempt();
+
+    Try<Try<Integer>> result = program.toFuture().await(Duration.ofSeconds(1));
+
+    assertTrue(result.get().getCause() instanceof CancellationException);
+  }
+
+  @Test
+  public void cancelBracket() throws InterruptedException {
+    AtomicInteger released = new AtomicInteger();
+    AtomicInteger executed = new AtomicInteger();
+    IO<Integer> bracket = IO.bracket(IO.pure("resource"),
+        resource -> IO.sleep(Duration.ofSeconds(1)).andThen(IO.exec(executed::incrementAndGet)).andThen(IO.pure(1)),
+        resource -> released.incrementAndGet());
+
+    IO<Try<Integer>> program = bracket.fork()
+        .flatMap(fiber -> IO.sleep(Duration.ofMillis(100)).andThen(fiber.cancel()).andThen(fiber.join()))
+        .attempt();
+
+    Try<Try<Integer>> result = program.toFuture().await(Duration.ofSeconds(5));
+
+    Thread.sleep(1500);
+
+    assertAll(
+        () -> assertTrue(result.get().getCause() instanceof CancellationException),
+        () -> assertEquals(1, released.get()),
+        () -> assertEquals(0, executed.get()));
+  }
+
+  @Test
+  public void cancelSuspendedBracket() throws InterruptedException {
+    CountDownLatch released = new CountDownLatch(2);
+    IO<Integer> never = IO.async(callback -> { });
+    IO<Integer> inAsync = IO.bracket(IO.pure("resource"), resource -> never, resource -> released.countDown());
+    IO<Integer> inJoin = IO.bracket(IO.pure("resource"),
+        resource -> never.fork().flatMap(Fiber::join), resource -> released.countDown());
+
+    IO<Unit> program = inAsync.fork().flatMap(first -> inJoin.fork().flatMap(
+        second -> IO.sleep(Duration.ofMillis(50)).andThen(first.cancel()).andThen(second.cancel())));
+
+    program.unsafeRunSync();
+
+    assertTrue(released.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void bracketDoesNotBlockThreads() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      IO<Integer> fiber = IO.bracket(IO.pure("resource"),
+          resource -> IO.sleep(Duration.ofMillis(500)).andThen(IO.pure(1)), resource -> { });
+      IO<Integer> program = IO.pure(0);
+      for (int i = 0; i < 100; i++) {
+        IO<Integer> previous = program;
+        program = fiber.fork(executor).flatMap(f -> previous.flatMap(x -> f.join().map(y -> x + y)));
+      }
+
+      Tuple2<Duration, Integer> result = program.timed().toFuture(executor).await().get();
+
+      assertEquals(100, result.get2());
+      assertTrue(result.get1().toMillis() < 5000);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void async() {
+    IO<String> program = IO.async(
+        callback -> Future.DEFAULT_EXECUTOR.execute(() -> callback.accept(Try.success("hola"))));
+
+    Future<String> future = program.foldMap(FutureInstances.monadDefer()).fix(FutureOf::narrowK);
+
+    assertAll(
+        () -> assertEquals("hola", program.unsafeRunSync()),
+        () -> assertEquals(Try.success("hola"), program.toFuture().await()),
+        () -> assertEquals(Try.success("hola"), future.await()));
+  }
+
+  @Test
+  public void fromFuture() {
+    RuntimeException error = new RuntimeException();
+    IO<String> success = IO.fromFuture(Future.delay(Duration.ofMillis(100), () -> "hola"));
+    IO<String> failure = IO.fromFuture(Future.failure(error));
+
+    assertAll(
+        () -> assertEquals(Try.success("hola"), success.toFuture().await()),
+        () -> assertEquals(Try.failure(error), failure.toFuture().await()));
+  }
+
+  @Test
+  public void fromCompletionStage() {
+    RuntimeException error = new RuntimeException();
+    IO<String> success = IO.fromCompletionStage(CompletableFuture.supplyAsync(() -> "hola"));
+    IO<String> failure = IO.fromCompletionStage(CompletableFuture.supplyAsync(() -> { throw error; }));
+
+    assertAll(
+        () -> assertEquals(Try.success("hola"), success.toFuture().await()),
+        () -> assertEquals(Try.failure(error), failure.toFuture().await()));
+  }
+
+  @Test
+  public void parMap2() {
+    IO<Integer> first = IO.sleep(Duration.ofMillis(500)).andThen(IO.pure(10));
+    IO<Integer> second = IO.sleep(Duration.ofMillis(500)).andThen(IO.pure(20));
+
+    Tuple2<Duration, Integer> result = IO.parMap2(first, second, Integer::sum).timed().unsafeRunSync();
+
+    assertEquals(30, result.get2());
+    assertTrue(result.get1().toMillis() < 900);
+    assertEquals(Tuple.of(10, 20), IO.parTuple(first, second).unsafeRunSync());
+  }
+
+  @Test
+  public void parTraverse() {
+    IO<Sequence<Integer>> program = IO.parTraverse(listOf(5, 4, 3, 2, 1),
+        x -> IO.sleep(Duration.ofMillis(x * 50)).andThen(IO.pure(x * 2)));
+
+    assertEquals(listOf(10, 8, 6, 4, 2), program.unsafeRunSync());
+    assertEquals(ImmutableList.empty(), IO.parSequence(ImmutableList.<IO<Integer>>empty()).unsafeRunSync());
+  }
+
+  @Test
+  public void parTraverseFailure() throws InterruptedException {
+    RuntimeException error = new RuntimeException();
+    AtomicInteger counter = new AtomicInteger();
+    IO<Integer> slow = IO.sleep(Duration.ofMillis(500)).andThen(IO.task(counter::incrementAndGet));
+    IO<Integer> failure = IO.sleep(Duration.ofMillis(100)).andThen(IO.raiseError(error));
+
+    Try<Sequence<Integer>> result = IO.parSequence(listOf(slow, failure, slow)).safeRunSync();
+    Thread.sleep(1000);
+
+    assertEquals(Try.failure(error), result);
+    assertEquals(0, counter.get());
+  }
+
+  @Test
+  public void parTraverseN() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger max = new AtomicInteger();
+    IO<Integer> task = IO.task(() -> max.accumulateAndGet(running.incrementAndGet(), Math::max))
+        .andThen(IO.sleep(Duration.ofMillis(50)))
+        .andThen(IO.task(running::decrementAndGet));
+
+    Sequence<Integer> result = IO.parTraverseN(3, listOf(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), x -> task.andThen(IO.pure(x)))
+        .unsafeRunSync();
+
+    assertEquals(listOf(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), result);
+    assertTrue(max.get() <= 3);
+  }
+
+  @Test
+  public void race() throws InterruptedException {
+    AtomicInteger counter = new AtomicInteger();
+    IO<Integer> slow = IO.sleep(Duration.ofMillis(500)).andThen(IO.task(counter::incrementAndGet));
+    IO<String> fast = IO.sleep(Duration.ofMillis(100)).andThen(IO.pure("hola"));
+
+    Either<Integer, String> result = IO.race(slow, fast).unsafeRunSync();
+    Thread.sleep(1000);
+
+    assertEquals(Either.right("hola"), result);
+    assertEquals(0, counter.get());
+    assertEquals("hola", IO.raceAll(listOf(fast, fast.andThen(fast))).unsafeRunSync());
+  }
+
   @Test
   public void timed() {
     IO<Tuple2<Duration, Integer>> sum = sum(100000, 0).timed();
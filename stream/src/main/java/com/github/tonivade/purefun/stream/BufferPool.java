@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.stream;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Small pool of direct buffers used to read files. Direct buffers are expensive to allocate and
+ * they are only released by the garbage collector, so they are reused between streams.
+ */
+final class BufferPool {
+
+  private static final int MAX_POOLED = 16;
+
+  private static final Queue<ByteBuffer> POOL = new ConcurrentLinkedQueue<>();
+
+  private BufferPool() {}
+
+  static ByteBuffer acquire(int size) {
+    ByteBuffer buffer = POOL.poll();
+    if (buffer == null || buffer.capacity() < size) {
+      return ByteBuffer.allocateDirect(size);
+    }
+    buffer.clear();
+    buffer.limit(size);
+    return buffer;
+  }
+
+  static void release(ByteBuffer buffer) {
+    if (buffer.isDirect() && POOL.size() < MAX_POOLED) {
+      POOL.offer(buffer);
+    }
+  }
+}
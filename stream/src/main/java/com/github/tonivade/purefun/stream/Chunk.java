@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.stream;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+
+import com.github.tonivade.purefun.Function1;
+import com.github.tonivade.purefun.Function2;
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.Matcher1;
+import com.github.tonivade.purefun.PartialFunction1;
+import com.github.tonivade.purefun.Producer;
+import com.github.tonivade.purefun.Tuple;
+import com.github.tonivade.purefun.Tuple2;
+import com.github.tonivade.purefun.Witness;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+/**
+ * Non empty block of pure values followed by the rest of the stream. The values are stored in a
+ * shared array, and the chunk only sees the slice between {@code from} and {@code to}, so splitting
+ * a chunk never copies the values.
+ *
+ * The pure operations are evaluated in a loop over the whole chunk, so the monad is only used once per
+ * chunk instead of once per element.
+ */
+final class Chunk<F extends Witness, T> implements SealedStream<F, T> {
+
+  static final int DEFAULT_SIZE = 1024;
+
+  private final MonadDefer<F> monad;
+  private final Object[] values;
+  private final int from;
+  private final int to;
+  private final Stream<F, T> tail;
+
+  private Chunk(MonadDefer<F> monad, Object[] values, int from, int to, Stream<F, T> tail) {
+    this.monad = checkNonNull(monad);
+    this.values = checkNonNull(values);
+    this.from = from;
+    this.to = to;
+    this.tail = checkNonNull(tail);
+  }
+
+  @Override
+  public Kind<F, Option<T>> headOption() {
+    return monad.pure(Option.some(get(from)));
+  }
+
+  @Override
+  public Kind<F, Option<Tuple2<Kind<F, T>, Stream<F, T>>>> split() {
+    return monad.pure(Option.some(Tuple.of(monad.pure(get(from)), of(monad, values, from + 1, to, tail))));
+  }
+
+  @Override
+  public Stream<F, T> concat(Stream<F, T> other) {
+    return new Chunk<>(monad, values, from, to, lazy(() -> tail.concat(other)));
+  }
+
+  @Override
+  public Stream<F, T> append(Kind<F, T> other) {
+    return new Chunk<>(monad, values, from, to, lazy(() -> tail.append(other)));
+  }
+
+  @Override
+  public Stream<F, T> prepend(Kind<F, T> other) {
+    return new Cons<>(monad, other, this);
+  }
+
+  @Override
+  public Stream<F, T> take(int n) {
+    if (n <= 0) {
+      return empty();
+    }
+    if (n <= size()) {
+      return new Chunk<>(monad, values, from, from + n, empty());
+    }
+    return new Chunk<>(monad, values, from, to, lazy(() -> tail.take(n - size())));
+  }
+
+  @Override
+  public Stream<F, T> drop(int n) {
+    if (n <= 0) {
+      return this;
+    }
+    if (n < size()) {
+      return new Chunk<>(monad, values, from + n, to, tail);
+    }
+    return lazy(() -> tail.drop(n - size()));
+  }
+
+  @Override
+  public Stream<F, T> filter(Matcher1<T> matcher) {
+    return lazy(() -> {
+      Object[] result = new Object[size()];
+      int size = 0;
+      for (int i = from; i < to; i++) {
+        T value = get(i);
+        if (matcher.match(value)) {
+          result[size++] = value;
+        }
+      }
+      return of(monad, result, 0, size, tail.filter(matcher));
+    });
+  }
+
+  @Override
+  public Stream<F, T> takeWhile(Matcher1<T> matcher) {
+    return lazy(() -> {
+      for (int i = from; i < to; i++) {
+        if (!matcher.match(get(i))) {
+          return of(monad, values, from, i, empty());
+        }
+      }
+      return new Chunk<>(monad, values, from, to, tail.takeWhile(matcher));
+    });
+  }
+
+  @Override
+  public Stream<F, T> dropWhile(Matcher1<T> matcher) {
+    return lazy(() -> {
+      for (int i = from; i < to; i++) {
+        if (!matcher.match(get(i))) {
+          return new Chunk<>(monad, values, i, to, tail);
+        }
+      }
+      return tail.dropWhile(matcher);
+    });
+  }
+
+  @Override
+  public <R> Stream<F, R> collect(PartialFunction1<T, R> partial) {
+    return lazy(() -> {
+      Object[] result = new Object[size()];
+      int size = 0;
+      for (int i = from; i < to; i++) {
+        T value = get(i);
+        if (partial.isDefinedAt(value)) {
+          result[size++] = partial.apply(value);
+        }
+      }
+      return of(monad, result, 0, size, tail.collect(partial));
+    });
+  }
+
+  @Override
+  public <R> Kind<F, R> foldLeft(R begin, Function2<R, T, R> combinator) {
+    return monad.defer(() -> tail.foldLeft(foldValues(begin, combinator), combinator));
+  }
+
+  @Override
+  public <R> Kind<F, R> foldRight(Kind<F, R> begin, Function2<T, Kind<F, R>, Kind<F, R>> combinator) {
+    return monad.defer(() -> {
+      Kind<F, R> accumulator = begin;
+      for (int i = from; i < to; i++) {
+        accumulator = combinator.apply(get(i), accumulator);
+      }
+      return tail.foldRight(accumulator, combinator);
+    });
+  }
+
+  @Override
+  public Kind<F, Boolean> exists(Matcher1<T> matcher) {
+    return monad.defer(() -> {
+      for (int i = from; i < to; i++) {
+        if (matcher.match(get(i))) {
+          return monad.pure(true);
+        }
+      }
+      return tail.exists(matcher);
+    });
+  }
+
+  @Override
+  public Kind<F, Boolean> forall(Matcher1<T> matcher) {
+    return monad.defer(() -> {
+      for (int i = from; i < to; i++) {
+        if (!matcher.match(get(i))) {
+          return monad.pure(false);
+        }
+      }
+      return tail.forall(matcher);
+    });
+  }
+
+  @Override
+  public <R> Stream<F, R> map(Function1<T, R> map) {
+    return lazy(() -> {
+      Object[] result = new Object[size()];
+      for (int i = from; i < to; i++) {
+        result[i - from] = map.apply(get(i));
+      }
+      return new Chunk<>(monad, result, 0, result.length, lazy(() -> tail.map(map)));
+    });
+  }
+
+  @Override
+  public <R> Stream<F, R> mapEval(Function1<T, Kind<F, R>> mapper) {
+    return toCons().mapEval(mapper);
+  }
+
+  @Override
+  public <R> Stream<F, R> flatMap(Function1<T, Stream<F, R>> map) {
+    return lazy(() -> map.apply(get(from)).concat(of(monad, values, from + 1, to, tail).flatMap(map)));
+  }
+
+  @Override
+  public Stream<F, T> repeat() {
+    return concat(lazy(this::repeat));
+  }
+
+  @Override
+  public Stream<F, T> intersperse(Kind<F, T> value) {
+    return toCons().intersperse(value);
+  }
+
+  @Override
+  public Compiled<F, T> compile() {
+    return new Compiled<>(monad, this);
+  }
+
+  <R> R foldValues(R begin, Function2<R, T, R> combinator) {
+    R accumulator = begin;
+    for (int i = from; i < to; i++) {
+      accumulator = combinator.apply(accumulator, get(i));
+    }
+    return accumulator;
+  }
+
+  Stream<F, T> rest() {
+    return tail;
+  }
+
+  static <F extends Witness, T> Stream<F, T> of(MonadDefer<F> monad, Object[] values, int from, int to, Stream<F, T> tail) {
+    return from < to ? new Chunk<>(monad, values, from, to, tail) : tail;
+  }
+
+  /**
+   * Splits the values in chunks of the given size, the next chunk is not created until the previous one is consumed.
+   */
+  static <F extends Witness, T> Stream<F, T> from(MonadDefer<F> monad, Object[] values, int from, int chunkSize) {
+    int to = Math.min(values.length, from + chunkSize);
+    Stream<F, T> tail = to < values.length ?
+        new Suspend<>(monad, monad.defer(() -> monad.pure(from(monad, values, to, chunkSize)))) : new Nil<>(monad);
+    return of(monad, values, from, to, tail);
+  }
+
+  private int size() {
+    return to - from;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T get(int index) {
+    return (T) values[index];
+  }
+
+  private Stream<F, T> toCons() {
+    return new Cons<>(monad, monad.pure(get(from)), of(monad, values, from + 1, to, tail));
+  }
+
+  private <R> Stream<F, R> lazy(Producer<Stream<F, R>> stream) {
+    return new Suspend<>(monad, monad.defer(stream.map(monad::<Stream<F, R>>pure)));
+  }
+
+  private <R> Stream<F, R> empty() {
+    return new Nil<>(monad);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.stream;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.Unit.unit;
+
+import com.github.tonivade.purefun.Function1;
+import com.github.tonivade.purefun.Function2;
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.Producer;
+import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.Witness;
+import com.github.tonivade.purefun.data.ImmutableArray;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+/**
+ * Evaluates a stream in a loop. The chunks of pure values are folded without using the monad, and the monad
+ * is only used to evaluate the effectful elements and the suspended parts of the stream, so the evaluation is
+ * stack safe if {@code flatMap} is stack safe.
+ *
+ * The accumulators created by {@link #collect(Producer, Function2, Function1)} can be mutable, a new
+ * accumulator is created every time the effect is evaluated.
+ *
+ * The resources owned by the stream are released when the evaluation finishes, successfully or not.
+ */
+public final class Compiled<F extends Witness, T> {
+
+  private final MonadDefer<F> monad;
+  private final Stream<F, T> stream;
+
+  Compiled(MonadDefer<F> monad, Stream<F, T> stream) {
+    this.monad = checkNonNull(monad);
+    this.stream = checkNonNull(stream);
+  }
+
+  public <R> Kind<F, R> fold(R begin, Function2<R, T, R> combinator) {
+    checkNonNull(combinator);
+    return scoped(scope -> loop(scope, stream, begin, combinator));
+  }
+
+  public <A, R> Kind<F, R> collect(Producer<A> supplier, Function2<A, T, A> accumulator, Function1<A, R> finisher) {
+    checkNonNull(supplier);
+    checkNonNull(accumulator);
+    checkNonNull(finisher);
+    return scoped(scope -> monad.map(loop(scope, stream, supplier.get(), accumulator), finisher));
+  }
+
+  public Kind<F, Unit> drain() {
+    return fold(unit(), (acc, value) -> acc);
+  }
+
+  public Kind<F, ImmutableList<T>> toList() {
+    return collect(() -> ImmutableList.<T>empty().toTransient(), ImmutableList.Transient::append,
+        ImmutableList.Transient::persistent);
+  }
+
+  public Kind<F, ImmutableArray<T>> toArray() {
+    return collect(() -> ImmutableArray.<T>empty().toTransient(), ImmutableArray.Transient::append,
+        ImmutableArray.Transient::persistent);
+  }
+
+  public Kind<F, String> string() {
+    return collect(StringBuilder::new, StringBuilder::append, StringBuilder::toString);
+  }
+
+  private <R> Kind<F, R> scoped(Function1<Scope, Kind<F, R>> use) {
+    return monad.bracket(monad.later(Scope::new), use, Scope::close);
+  }
+
+  // the resources are registered in the scope only once, instead of opening a bracket for every
+  // stream that owns them
+  @SuppressWarnings("unchecked")
+  private <A> Kind<F, A> loop(Scope scope, Stream<F, T> start, A begin, Function2<A, T, A> combinator) {
+    Stream<F, T> current = start;
+    A accumulator = begin;
+    while (current instanceof Chunk || current instanceof Resource) {
+      if (current instanceof Resource) {
+        Resource<F, ?, T> resource = (Resource<F, ?, T>) current;
+        scope.add(resource.handle());
+        current = resource.stream();
+      } else {
+        Chunk<F, T> chunk = (Chunk<F, T>) current;
+        accumulator = chunk.foldValues(accumulator, combinator);
+        current = chunk.rest();
+      }
+    }
+    A result = accumulator;
+    if (current instanceof Cons) {
+      Cons<F, T> cons = (Cons<F, T>) current;
+      return monad.flatMap(cons.first(), value -> loop(scope, cons.rest(), combinator.apply(result, value), combinator));
+    }
+    if (current instanceof Suspend) {
+      return monad.flatMap(((Suspend<F, T>) current).next(), next -> loop(scope, next, result, combinator));
+    }
+    return monad.pure(result);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.stream;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import com.github.tonivade.purefun.Consumer1;
+import com.github.tonivade.purefun.concurrent.Future;
+
+/**
+ * Futures in the order they complete. A callback is registered once per future, when it's added,
+ * and the futures are consumed by a single consumer, the stream that emits the results.
+ */
+final class CompletionQueue<T> {
+
+  private final Queue<Future<T>> completed = new ArrayDeque<>();
+  private Consumer1<Future<T>> waiting;
+
+  void add(Future<T> future) {
+    future.onComplete(result -> offer(future));
+  }
+
+  synchronized Future<T> poll() {
+    return completed.poll();
+  }
+
+  void take(Consumer1<Future<T>> consumer) {
+    Future<T> ready;
+    synchronized (this) {
+      ready = completed.poll();
+      if (ready == null) {
+        waiting = consumer;
+        return;
+      }
+    }
+    consumer.accept(ready);
+  }
+
+  private void offer(Future<T> future) {
+    Consumer1<Future<T>> consumer;
+    synchronized (this) {
+      consumer = waiting;
+      waiting = null;
+      if (consumer == null) {
+        completed.add(future);
+        return;
+      }
+    }
+    consumer.accept(future);
+  }
+}
@@ -140,6 +140,19 @@ final class Cons<F extends Witness, T> implements SealedStream<F, T> {
     return suspend(() -> cons(head, suspend(() -> cons(value, tail.intersperse(value)))));
   }
 
+  @Override
+  public Compiled<F, T> compile() {
+    return new Compiled<>(monad, this);
+  }
+
+  Kind<F, T> first() {
+    return head;
+  }
+
+  Stream<F, T> rest() {
+    return tail;
+  }
+
   private <R> Stream<F, R> cons(Kind<F, R> head, Stream<F, R> tail) {
     return new Cons<>(monad, head, tail);
   }
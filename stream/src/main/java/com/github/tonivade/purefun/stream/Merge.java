@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.stream;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.Unit.unit;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.github.tonivade.purefun.Consumer1;
+import com.github.tonivade.purefun.Function1;
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.Producer;
+import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.Witness;
+import com.github.tonivade.purefun.data.ImmutableArray;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Try;
+import com.github.tonivade.purefun.typeclasses.Concurrent;
+
+/**
+ * Pulls several streams at the same time, every stream is pulled in its own fiber and the elements are
+ * sent to a bounded queue, so a stream is paused when the queue is full until the consumer takes some
+ * elements from the queue. The elements are emitted in the same order they arrive to the queue.
+ *
+ * A fiber waiting for space in the queue, or for a permit to open a stream, is suspended using {@code async}
+ * without blocking a thread, and it's resumed when the consumer takes an element, or a stream finishes.
+ *
+ * When the consumer finishes, the merge is closed, the fibers are resumed and stop pulling elements,
+ * and the resources of the streams that were not pulled until the end are released.
+ */
+final class Merge<F extends Witness, T> implements AutoCloseable {
+
+  static final int QUEUE_SIZE = 256;
+
+  private final Concurrent<F> concurrent;
+  private final BlockingQueue<Try<Option<T>>> queue;
+  private final Semaphore permits;
+  private final Queue<Runnable> waitingSpace = new ConcurrentLinkedQueue<>();
+  private final Queue<Runnable> waitingPermit = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger active = new AtomicInteger(1);
+  private final AtomicBoolean closed = new AtomicBoolean();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+  Merge(Concurrent<F> concurrent, int maxOpen, int queueSize) {
+    this.concurrent = checkNonNull(concurrent);
+    this.permits = new Semaphore(maxOpen);
+    this.queue = new ArrayBlockingQueue<>(queueSize);
+  }
+
+  /**
+   * Pulls the streams emitted by {@code streams}, no more than {@code maxOpen} streams are pulled at the same time.
+   */
+  Kind<F, Unit> pumpAll(Stream<F, Stream<F, T>> streams) {
+    return pull(streams, stream -> concurrent.flatMap(open(),
+        ignore -> closed.get() ? Resource.release(concurrent, stream) : concurrent.map(
+            concurrent.start(concurrent.flatMap(pump(stream), x -> concurrent.exec(this::releasePermit))),
+            future -> unit())),
+        this::finish);
+  }
+
+  /**
+   * Pulls the stream and discards the elements, an error stops the merge.
+   */
+  Kind<F, Unit> drain(Stream<F, ?> stream) {
+    return pull(stream, value -> concurrent.pure(unit()), () -> concurrent.pure(unit()));
+  }
+
+  /**
+   * Raises the error of the background streams, if any.
+   */
+  <A> Kind<F, A> check(A value) {
+    return concurrent.defer(() -> {
+      Throwable error = failure.get();
+      return error == null ? concurrent.pure(value) : concurrent.raiseError(error);
+    });
+  }
+
+  Stream<F, T> output() {
+    return new Suspend<>(concurrent, concurrent.flatMap(concurrent.later(this::take), signal -> signal.fold(
+        concurrent::raiseError,
+        option -> concurrent.pure(option.fold(
+            () -> new Nil<>(concurrent),
+            value -> new Cons<>(concurrent, concurrent.pure(value), output()))))));
+  }
+
+  /**
+   * Emits the elements in groups of {@code size} elements, a group is emitted before it's complete if
+   * there are no new elements before the {@code timeout} since the first element of the group arrived.
+   */
+  Stream<F, ImmutableArray<T>> groupWithin(int size, Duration timeout) {
+    return new Suspend<>(concurrent, concurrent.later(() -> {
+      Option<T> first = value(take());
+      if (!first.isPresent()) {
+        return new Nil<>(concurrent);
+      }
+      ImmutableArray.Transient<T> group = ImmutableArray.<T>empty().toTransient().append(first.get());
+      long deadline = System.nanoTime() + timeout.toNanos();
+      while (group.size() < size) {
+        Try<Option<T>> next = poll(deadline - System.nanoTime());
+        if (next == null) {
+          break;
+        }
+        Option<T> value = value(next);
+        if (!value.isPresent()) {
+          return new Cons<>(concurrent, concurrent.pure(group.persistent()), new Nil<>(concurrent));
+        }
+        group.append(value.get());
+      }
+      return new Cons<>(concurrent, concurrent.pure(group.persistent()), groupWithin(size, timeout));
+    }));
+  }
+
+  /**
+   * Emits an element only if there are no new elements before the {@code timeout}, otherwise the element is dropped.
+   */
+  Stream<F, T> debounce(Duration timeout) {
+    return new Suspend<>(concurrent, concurrent.later(() -> {
+      Option<T> last = value(take());
+      while (last.isPresent()) {
+        Try<Option<T>> next = poll(timeout.toNanos());
+        if (next == null) {
+          return new Cons<>(concurrent, concurrent.pure(last.get()), debounce(timeout));
+        }
+        Option<T> value = value(next);
+        if (!value.isPresent()) {
+          return new Cons<>(concurrent, concurrent.pure(last.get()), new Nil<>(concurrent));
+        }
+        last = value;
+      }
+      return new Nil<>(concurrent);
+    }));
+  }
+
+  @Override
+  public void close() {
+    closed.set(true);
+    queue.clear();
+    wakeUpAll(waitingSpace);
+    wakeUpAll(waitingPermit);
+  }
+
+  private Kind<F, Unit> pump(Stream<F, T> stream) {
+    return pull(stream, value -> offer(Try.success(Option.some(value))), this::finish);
+  }
+
+  // the rest of the stream is released when the merge is closed or the consumer fails
+  private <A> Kind<F, Unit> pull(Stream<F, A> stream,
+      Function1<A, Kind<F, Unit>> consumer, Producer<Kind<F, Unit>> onComplete) {
+    return concurrent.defer(() -> {
+      if (closed.get()) {
+        return Resource.release(concurrent, stream);
+      }
+      return concurrent.flatMap(concurrent.attempt(stream.split()), next -> next.fold(
+          this::fail,
+          option -> option.fold(
+              onComplete,
+              tuple -> concurrent.flatMap(concurrent.attempt(concurrent.flatMap(tuple.get1(), consumer)), result -> result.fold(
+                  error -> concurrent.flatMap(Resource.release(concurrent, tuple.get2()), ignore -> fail(error)),
+                  ignore -> pull(tuple.get2(), consumer, onComplete))))));
+    });
+  }
+
+  private Option<T> value(Try<Option<T>> signal) throws Throwable {
+    if (signal.isFailure()) {
+      throw signal.getCause();
+    }
+    return signal.get();
+  }
+
+  private Try<Option<T>> take() throws InterruptedException {
+    Try<Option<T>> signal = queue.take();
+    wakeUp(waitingSpace);
+    return signal;
+  }
+
+  private Try<Option<T>> poll(long nanos) throws InterruptedException {
+    Try<Option<T>> signal = queue.poll(nanos, TimeUnit.NANOSECONDS);
+    if (signal != null) {
+      wakeUp(waitingSpace);
+    }
+    return signal;
+  }
+
+  private Kind<F, Unit> finish() {
+    return concurrent.defer(
+        () -> active.decrementAndGet() == 0 ? offer(Try.success(Option.none())) : concurrent.pure(unit()));
+  }
+
+  private Kind<F, Unit> fail(Throwable error) {
+    return concurrent.defer(
+        () -> failure.compareAndSet(null, error) ? offer(Try.failure(error)) : concurrent.pure(unit()));
+  }
+
+  private Kind<F, Unit> open() {
+    return concurrent.async(callback -> await(waitingPermit, () -> {
+      if (permits.tryAcquire()) {
+        active.incrementAndGet();
+        return true;
+      }
+      return false;
+    }, () -> permits.availablePermits() > 0, callback));
+  }
+
+  private void releasePermit() {
+    permits.release();
+    wakeUp(waitingPermit);
+  }
+
+  private Kind<F, Unit> offer(Try<Option<T>> signal) {
+    return concurrent.async(
+        callback -> await(waitingSpace, () -> queue.offer(signal), () -> queue.remainingCapacity() > 0, callback));
+  }
+
+  /**
+   * Completes the callback when the action succeeds or the merge is closed, otherwise the action is
+   * retried when a waiter is woken up. The condition is checked again after the waiter is added, so
+   * a wake up that happens before is not lost.
+   */
+  private void await(Queue<Runnable> waiters, Producer<Boolean> action, Producer<Boolean> ready,
+      Consumer1<Try<Unit>> callback) {
+    while (true) {
+      if (closed.get() || action.get()) {
+        callback.accept(Try.success(unit()));
+        return;
+      }
+      Runnable retry = () -> await(waiters, action, ready, callback);
+      waiters.add(retry);
+      if (!(closed.get() || ready.get()) || !waiters.remove(retry)) {
+        return;
+      }
+    }
+  }
+
+  private static void wakeUp(Queue<Runnable> waiters) {
+    Runnable waiter = waiters.poll();
+    if (waiter != null) {
+      waiter.run();
+    }
+  }
+
+  private static void wakeUpAll(Queue<Runnable> waiters) {
+    for (Runnable waiter = waiters.poll(); waiter != null; waiter = waiters.poll()) {
+      waiter.run();
+    }
+  }
+}
@@ -123,4 +123,9 @@ final class Nil<F extends Witness, T> implements SealedStream<F, T> {
   public Stream<F, T> intersperse(Kind<F, T> value) {
     return this;
   }
+
+  @Override
+  public Compiled<F, T> compile() {
+    return new Compiled<>(monad, this);
+  }
 }
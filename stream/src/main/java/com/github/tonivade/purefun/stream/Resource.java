@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.stream;
+
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.Unit.unit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.github.tonivade.purefun.Consumer1;
+import com.github.tonivade.purefun.Function1;
+import com.github.tonivade.purefun.Function2;
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.Matcher1;
+import com.github.tonivade.purefun.PartialFunction1;
+import com.github.tonivade.purefun.Tuple;
+import com.github.tonivade.purefun.Tuple2;
+import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.Witness;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+/**
+ * Stream that owns a resource. The resource is released when a terminal operation like {@code foldLeft}
+ * finishes, successfully or not, or when the stream is consumed using {@code split} and there are
+ * no more elements or an error is raised.
+ *
+ * The transformations return a new stream that owns the same resource, so operations that stop early,
+ * like {@code take} or {@code takeWhile}, release the resource too. The operations that consume other
+ * streams using {@code split}, like {@code zip}, keep the resources of these streams in the stream
+ * they return, so a stream that is not pulled until the end is released when the terminal operation
+ * finishes. The resource is released only once, no matter how many streams own it.
+ */
+final class Resource<F extends Witness, R, T> implements SealedStream<F, T> {
+
+  private final MonadDefer<F> monad;
+  private final Handle<R> handle;
+  private final Stream<F, T> stream;
+
+  Resource(MonadDefer<F> monad, R resource, Consumer1<R> release, Stream<F, T> stream) {
+    this(monad, new Handle<>(resource, release), stream);
+  }
+
+  private Resource(MonadDefer<F> monad, Handle<R> handle, Stream<F, T> stream) {
+    this.monad = checkNonNull(monad);
+    this.handle = checkNonNull(handle);
+    this.stream = checkNonNull(stream);
+  }
+
+  @Override
+  public Kind<F, Option<T>> headOption() {
+    return bracket(stream.headOption());
+  }
+
+  @Override
+  public Kind<F, Option<Tuple2<Kind<F, T>, Stream<F, T>>>> split() {
+    Kind<F, Option<Tuple2<Kind<F, T>, Stream<F, T>>>> next = monad.handleErrorWith(stream.split(),
+        error -> monad.flatMap(release(), ignore -> monad.raiseError(error)));
+    return monad.flatMap(next, option -> option.fold(
+        () -> monad.map(release(), ignore -> Option.none()),
+        tuple -> monad.pure(Option.some(Tuple.of(tuple.get1(), with(tuple.get2()))))));
+  }
+
+  /**
+   * The resource is released as soon as this stream is exhausted, before the other stream is evaluated.
+   */
+  @Override
+  public Stream<F, T> concat(Stream<F, T> other) {
+    if (other instanceof Nil) {
+      return this;
+    }
+    return new Suspend<>(monad, monad.map(split(), option -> option.fold(
+        () -> other,
+        tuple -> new Cons<>(monad, tuple.get1(), with(tuple.get2().concat(other))))));
+  }
+
+  @Override
+  public Stream<F, T> append(Kind<F, T> other) {
+    return with(stream.append(other));
+  }
+
+  @Override
+  public Stream<F, T> prepend(Kind<F, T> other) {
+    return with(stream.prepend(other));
+  }
+
+  @Override
+  public Stream<F, T> take(int n) {
+    return with(stream.take(n));
+  }
+
+  @Override
+  public Stream<F, T> drop(int n) {
+    return with(stream.drop(n));
+  }
+
+  @Override
+  public Stream<F, T> filter(Matcher1<T> matcher) {
+    return with(stream.filter(matcher));
+  }
+
+  @Override
+  public Stream<F, T> takeWhile(Matcher1<T> matcher) {
+    return with(stream.takeWhile(matcher));
+  }
+
+  @Override
+  public Stream<F, T> dropWhile(Matcher1<T> matcher) {
+    return with(stream.dropWhile(matcher));
+  }
+
+  @Override
+  public <X> Stream<F, X> collect(PartialFunction1<T, X> partial) {
+    return with(stream.collect(partial));
+  }
+
+  @Override
+  public <X> Kind<F, X> foldLeft(X begin, Function2<X, T, X> combinator) {
+    return bracket(stream.foldLeft(begin, combinator));
+  }
+
+  @Override
+  public <X> Kind<F, X> foldRight(Kind<F, X> begin, Function2<T, Kind<F, X>, Kind<F, X>> combinator) {
+    return bracket(stream.foldRight(begin, combinator));
+  }
+
+  @Override
+  public Kind<F, Boolean> exists(Matcher1<T> matcher) {
+    return bracket(stream.exists(matcher));
+  }
+
+  @Override
+  public Kind<F, Boolean> forall(Matcher1<T> matcher) {
+    return bracket(stream.forall(matcher));
+  }
+
+  @Override
+  public <X> Stream<F, X> map(Function1<T, X> map) {
+    return with(stream.map(map));
+  }
+
+  @Override
+  public <X> Stream<F, X> mapEval(Function1<T, Kind<F, X>> mapper) {
+    return with(stream.mapEval(mapper));
+  }
+
+  @Override
+  public <X> Stream<F, X> flatMap(Function1<T, Stream<F, X>> map) {
+    return with(stream.flatMap(map));
+  }
+
+  @Override
+  public Stream<F, T> repeat() {
+    return with(stream.repeat());
+  }
+
+  @Override
+  public Stream<F, T> intersperse(Kind<F, T> value) {
+    return with(stream.intersperse(value));
+  }
+
+  @Override
+  public Compiled<F, T> compile() {
+    return new Compiled<>(monad, this);
+  }
+
+  Handle<R> handle() {
+    return handle;
+  }
+
+  Stream<F, T> stream() {
+    return stream;
+  }
+
+  Kind<F, Unit> release() {
+    return monad.exec(handle::close);
+  }
+
+  /**
+   * Releases the resource of a stream that is not going to be pulled anymore, if any.
+   */
+  static <F extends Witness> Kind<F, Unit> release(MonadDefer<F> monad, Stream<F, ?> stream) {
+    return stream instanceof Resource ? ((Resource<F, ?, ?>) stream).release() : monad.pure(unit());
+  }
+
+  /**
+   * Returns the other stream owning the same resource.
+   */
+  <X> Stream<F, X> with(Stream<F, X> other) {
+    return new Resource<>(monad, handle, other);
+  }
+
+  private <X> Kind<F, X> bracket(Kind<F, X> value) {
+    return monad.bracket(monad.pure(handle), ignore -> value, Handle::close);
+  }
+
+  static final class Handle<R> {
+
+    private final R resource;
+    private final Consumer1<R> release;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Handle(R resource, Consumer1<R> release) {
+      this.resource = checkNonNull(resource);
+      this.release = checkNonNull(release);
+    }
+
+    void close() {
+      if (released.compareAndSet(false, true)) {
+        release.accept(resource);
+      }
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.stream;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import com.github.tonivade.purefun.Recoverable;
+
+/**
+ * Resources found while a stream is compiled. They are released in reverse order when the evaluation
+ * finishes, so a resource is released even if its stream is not pulled until the end.
+ */
+final class Scope implements Recoverable {
+
+  private final Set<Resource.Handle<?>> known = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Deque<Resource.Handle<?>> handles = new ArrayDeque<>();
+
+  void add(Resource.Handle<?> handle) {
+    if (known.add(handle)) {
+      handles.push(handle);
+    }
+  }
+
+  void close() {
+    Throwable error = null;
+    while (!handles.isEmpty()) {
+      try {
+        handles.pop().close();
+      } catch (Throwable e) {
+        if (error == null) {
+          error = e;
+        } else {
+          error.addSuppressed(e);
+        }
+      }
+    }
+    if (error != null) {
+      sneakyThrow(error);
+    }
+  }
+}
@@ -4,11 +4,29 @@
  */
 package com.github.tonivade.purefun.stream;
 
+import static com.github.tonivade.purefun.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.Precondition.checkPositive;
 import static com.github.tonivade.purefun.Unit.unit;
-import static com.github.tonivade.purefun.data.Sequence.asStream;
-
-import java.util.Arrays;
-
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.tonivade.purefun.Consumer1;
 import com.github.tonivade.purefun.Function1;
 import com.github.tonivade.purefun.Function2;
 import com.github.tonivade.purefun.HigherKind;
@@ -21,9 +39,13 @@ import com.github.tonivade.purefun.Tuple;
 import com.github.tonivade.purefun.Tuple2;
 import com.github.tonivade.purefun.Unit;
 import com.github.tonivade.purefun.Witness;
+import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.data.ImmutableArray;
 import com.github.tonivade.purefun.data.ImmutableList;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Try;
+import com.github.tonivade.purefun.typeclasses.Concurrent;
 import com.github.tonivade.purefun.typeclasses.MonadDefer;
 
 @HigherKind(sealed = true)
@@ -69,20 +91,26 @@ public interface Stream<F extends Witness, T> extends StreamOf<F, T> {
   Kind<F, Boolean> exists(Matcher1<T> matcher);
   Kind<F, Boolean> forall(Matcher1<T> matcher);
 
+  /**
+   * Returns an evaluator of the stream that folds the chunks of pure values in a loop.
+   */
+  Compiled<F, T> compile();
+
   default <G extends Witness, R> Stream<G, R> through(Function1<Stream<F, T>, Stream<G, R>> function) {
     return function.apply(this);
   }
 
   default Kind<F, Sequence<T>> asSequence() {
-    return foldLeft(ImmutableList.empty(), Sequence::append);
+    return compile().collect(
+        () -> ImmutableList.<T>empty().toTransient(), ImmutableList.Transient::append, ImmutableList.Transient::persistent);
   }
 
   default Kind<F, String> asString() {
-    return foldLeft("", (acc, a) -> acc + a);
+    return compile().string();
   }
 
   default Kind<F, Unit> drain() {
-    return foldLeft(unit(), (acc, a) -> acc);
+    return compile().drain();
   }
 
   default <R> Stream<F, R> andThen(Kind<F, R> next) {
@@ -93,6 +121,10 @@ public interface Stream<F extends Witness, T> extends StreamOf<F, T> {
     return () -> monad;
   }
 
+  static <F extends Witness> ConcurrentStreamOf<F> of(Concurrent<F> concurrent) {
+    return () -> concurrent;
+  }
+
   interface StreamOf<F extends Witness> {
 
     MonadDefer<F> monadDefer();
@@ -103,11 +135,11 @@ public interface Stream<F extends Witness, T> extends StreamOf<F, T> {
 
     @SuppressWarnings("unchecked")
     default <T> Stream<F, T> of(T... values) {
-      return from(Arrays.stream(values));
+      return Chunk.from(monadDefer(), values.clone(), 0, Chunk.DEFAULT_SIZE);
     }
 
     default <T> Stream<F, T> pure(T value) {
-      return eval(monadDefer().pure(value));
+      return Chunk.of(monadDefer(), new Object[] { value }, 0, 1, empty());
     }
 
     default <T> Stream<F, T> cons(T head, Stream<F, T> tail) {
@@ -122,16 +154,139 @@ public interface Stream<F extends Witness, T> extends StreamOf<F, T> {
       return new Cons<>(monadDefer(), value, empty());
     }
 
+    /**
+     * A new iterator is created every time the stream is evaluated.
+     */
     default <T> Stream<F, T> from(Iterable<T> iterable) {
-      return from(asStream(iterable.iterator()));
+      checkNonNull(iterable);
+      return suspend(() -> from(iterable.iterator()));
     }
 
+    /**
+     * The elements are pulled from the iterator in chunks, and only when the previous chunk has been consumed,
+     * so the iterator can be infinite. The iterator is consumed only once, if the stream is evaluated
+     * again it continues from the last element pulled.
+     */
+    default <T> Stream<F, T> from(Iterator<T> iterator) {
+      checkNonNull(iterator);
+      return StreamModule.fromIterator(monadDefer(), iterator, Chunk.DEFAULT_SIZE);
+    }
+
+    /**
+     * Same as {@link #from(Iterator)}, the java stream is closed when the stream finishes, even if it
+     * is not completely consumed. The java stream can be consumed only once.
+     */
     default <T> Stream<F, T> from(java.util.stream.Stream<T> stream) {
-      return from(ImmutableList.from(stream));
+      checkNonNull(stream);
+      return bracket(monadDefer().pure(stream), s -> from(s.iterator()));
     }
 
+    /**
+     * The elements are emitted in chunks, so pure operations like map or filter are applied to every chunk in a loop.
+     */
     default <T> Stream<F, T> from(Sequence<T> sequence) {
-      return sequence.foldLeft(empty(), (acc, a) -> acc.append(monadDefer().pure(a)));
+      return Chunk.from(monadDefer(), sequence.stream().toArray(), 0, Chunk.DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a stream that owns the resource returned by {@code acquire}. The resource is released when the
+     * stream is consumed, successfully or not, or when an operation like {@code take} stops the stream early.
+     */
+    default <R, T> Stream<F, T> bracket(Kind<F, R> acquire, Function1<R, Stream<F, T>> use, Consumer1<R> release) {
+      checkNonNull(use);
+      checkNonNull(release);
+      return eval(acquire).flatMap(
+          resource -> new Resource<>(monadDefer(), resource, release, suspend(() -> use.apply(resource))));
+    }
+
+    default <R extends AutoCloseable, T> Stream<F, T> bracket(Kind<F, R> acquire, Function1<R, Stream<F, T>> use) {
+      return bracket(acquire, use, AutoCloseable::close);
+    }
+
+    /**
+     * Reads the file in blocks of {@code chunkSize} bytes. Only one block is kept in memory, the file
+     * is read using a buffer from a shared pool that is returned to the pool when the stream finishes.
+     */
+    default Stream<F, byte[]> readBytes(Path path, int chunkSize) {
+      checkNonNull(path);
+      checkPositive(chunkSize);
+      return bracket(
+          monadDefer().later(() -> Tuple.of(FileChannel.open(path, READ), BufferPool.acquire(chunkSize))),
+          tuple -> StreamModule.readBytes(monadDefer(), tuple.get1(), tuple.get2(), chunkSize),
+          tuple -> { BufferPool.release(tuple.get2()); tuple.get1().close(); });
+    }
+
+    default Stream<F, byte[]> readBytes(Path path) {
+      return readBytes(path, StreamModule.BUFFER_SIZE);
+    }
+
+    /**
+     * Reads the lines of the file, the lines are emitted in chunks so only one chunk is kept in memory.
+     */
+    default Stream<F, String> readLines(Path path, Charset charset) {
+      checkNonNull(path);
+      checkNonNull(charset);
+      return bracket(
+          monadDefer().later(() -> new BufferedReader(
+              Channels.newReader(FileChannel.open(path, READ), charset.newDecoder(), StreamModule.BUFFER_SIZE))),
+          reader -> StreamModule.readLines(monadDefer(), reader));
+    }
+
+    /**
+     * Maps the file in memory in regions of {@code regionSize} bytes, every region is emitted
+     * as a read only buffer. The regions are not loaded until the buffer is read, and they stay
+     * valid until the buffer is collected, even if the stream has finished.
+     */
+    default Stream<F, ByteBuffer> mmap(Path path, int regionSize) {
+      checkNonNull(path);
+      checkPositive(regionSize);
+      return bracket(
+          monadDefer().later(() -> FileChannel.open(path, READ)),
+          channel -> StreamModule.mmap(monadDefer(), channel, 0, regionSize));
+    }
+
+    default Stream<F, ByteBuffer> mmap(Path path) {
+      return mmap(path, StreamModule.REGION_SIZE);
+    }
+
+    /**
+     * Writes all the blocks of bytes of the stream to the file, if the file exists it is truncated.
+     */
+    default Kind<F, Unit> writeBytes(Path path, Stream<F, byte[]> stream) {
+      checkNonNull(path);
+      checkNonNull(stream);
+      return monadDefer().bracket(
+          monadDefer().later(() -> FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)),
+          channel -> stream.mapEval(bytes -> monadDefer().exec(() -> StreamModule.write(channel, bytes))).drain());
+    }
+
+    /**
+     * Emits the elements in groups of {@code size} elements, the last group can be smaller.
+     */
+    default <T> Stream<F, ImmutableArray<T>> chunkN(Stream<F, T> stream, int size) {
+      checkNonNull(stream);
+      checkPositive(size);
+      return StreamModule.chunkN(monadDefer(), stream, size);
+    }
+
+    /**
+     * Emits no more than {@code elements} elements every {@code period}, the stream waits using
+     * {@link com.github.tonivade.purefun.typeclasses.Timer#sleep(Duration)} when the elements arrive too fast.
+     */
+    default <T> Stream<F, T> throttle(Stream<F, T> stream, int elements, Duration period) {
+      checkNonNull(stream);
+      checkPositive(elements);
+      checkNonNull(period);
+      long interval = period.toNanos() / elements;
+      return suspend(() -> {
+        AtomicLong next = new AtomicLong(System.nanoTime());
+        return stream.mapEval(value -> monadDefer().defer(() -> {
+          long now = System.nanoTime();
+          long wait = next.getAndAccumulate(now, (last, current) -> Math.max(last, current) + interval) - now;
+          return wait > 0 ? monadDefer().map(monadDefer().sleep(Duration.ofNanos(wait)), ignore -> value)
+              : monadDefer().pure(value);
+        }));
+      });
     }
 
     default <T, S> Stream<F, T> unfold(S seed, Function1<S, Option<Tuple2<T, S>>> function) {
@@ -147,7 +302,7 @@ public interface Stream<F extends Witness, T> extends StreamOf<F, T> {
     }
 
     default <A, B, R> Stream<F, R> zipWith(Stream<F, A> s1, Stream<F, B> s2, Function2<A, B, R> combinator) {
-      return new Suspend<>(monadDefer(), monadDefer().defer(
+      Stream<F, R> zipped = new Suspend<>(monadDefer(), monadDefer().defer(
         () -> monadDefer().map2(s1.split(), s2.split(),
           (op1, op2) -> {
             Option<Stream<F, R>> result = StreamModule.map2(op1, op2,
@@ -156,9 +311,11 @@ public interface Stream<F extends Witness, T> extends StreamOf<F, T> {
                 Stream<F, R> tail = zipWith(t1.get2(), t2.get2(), combinator);
                 return new Cons<>(monadDefer(), head, tail);
               });
-            return result.getOrElse(this::empty);
+            return result.getOrElse(
+                () -> StreamModule.abandon(monadDefer(), op1.map(Tuple2::get2), op2.map(Tuple2::get2)));
           })
         ));
+      return StreamModule.owned(StreamModule.owned(zipped, s1), s2);
     }
 
     default <A, B> Stream<F, Tuple2<A, B>> zip(Stream<F, A> s1, Stream<F, B> s2) {
@@ -170,7 +327,7 @@ public interface Stream<F extends Witness, T> extends StreamOf<F, T> {
     }
 
     default <A> Stream<F, A> merge(Stream<F, A> s1, Stream<F, A> s2) {
-      return new Suspend<>(monadDefer(), monadDefer().defer(
+      Stream<F, A> merged = new Suspend<>(monadDefer(), monadDefer().defer(
         () -> monadDefer().map2(s1.split(), s2.split(),
           (opt1, opt2) -> {
             Option<Stream<F, A>> result = StreamModule.map2(opt1, opt2,
@@ -179,15 +336,107 @@ public interface Stream<F extends Witness, T> extends StreamOf<F, T> {
                 Stream<F, A> tail = eval(t2.get1()).concat(merge(t1.get2(), t2.get2()));
                 return new Cons<>(monadDefer(), head, tail);
               });
-            return result.getOrElse(this::empty);
+            return result.getOrElse(
+                () -> StreamModule.abandon(monadDefer(), opt1.map(Tuple2::get2), opt2.map(Tuple2::get2)));
           })
         ));
+      return StreamModule.owned(StreamModule.owned(merged, s1), s2);
+    }
+  }
+
+  interface ConcurrentStreamOf<F extends Witness> extends StreamOf<F> {
+
+    Concurrent<F> concurrent();
+
+    @Override
+    default MonadDefer<F> monadDefer() {
+      return concurrent();
+    }
+
+    /**
+     * Same as {@link Stream#mapEval(Function1)} but up to {@code maxConcurrency} effects are evaluated
+     * at the same time. The results are emitted in the same order than the elements of the stream,
+     * and no more elements are pulled from the stream while there are {@code maxConcurrency} effects running.
+     */
+    default <T, R> Stream<F, R> parEvalMap(Stream<F, T> stream, int maxConcurrency, Function1<T, Kind<F, R>> mapper) {
+      checkPositive(maxConcurrency);
+      checkNonNull(mapper);
+      return StreamModule.parEvalMap(concurrent(), stream, ImmutableList.empty(), maxConcurrency, mapper);
+    }
+
+    /**
+     * Same as {@link #parEvalMap(Stream, int, Function1)} but the results are emitted as soon as they are available.
+     */
+    default <T, R> Stream<F, R> parEvalMapUnordered(Stream<F, T> stream, int maxConcurrency, Function1<T, Kind<F, R>> mapper) {
+      checkPositive(maxConcurrency);
+      checkNonNull(mapper);
+      Concurrent<F> concurrent = concurrent();
+      return StreamModule.owned(new Suspend<>(concurrent, concurrent.later(() -> StreamModule.parEvalMapUnordered(
+          concurrent, stream, new CompletionQueue<>(), 0, maxConcurrency, mapper))), stream);
+    }
+
+    /**
+     * Pulls the streams emitted by {@code streams} at the same time, no more than {@code maxOpen} streams
+     * are pulled at the same time. Every stream is pulled in its own fiber to a bounded queue, and the
+     * elements are emitted in the same order they arrive to the queue. The stream finishes when all
+     * the streams finish, or when any of them raises an error.
+     */
+    default <T> Stream<F, T> parJoin(Stream<F, Stream<F, T>> streams, int maxOpen) {
+      checkNonNull(streams);
+      checkPositive(maxOpen);
+      return bracket(StreamModule.merge(concurrent(), streams, maxOpen), Merge::output);
+    }
+
+    /**
+     * Unlike {@link #merge(Stream, Stream)}, both streams are pulled at the same time, so a slow
+     * stream does not stop the other one. The stream finishes when both streams finish.
+     */
+    default <T> Stream<F, T> parMerge(Stream<F, T> s1, Stream<F, T> s2) {
+      return parJoin(cons(s1, pure(s2)), 2);
+    }
+
+    /**
+     * Emits the elements in groups of {@code size} elements, but a group is emitted before it's
+     * complete when the {@code timeout} expires since its first element was received.
+     * The stream is pulled in its own fiber, so the elements keep arriving while a group is emitted.
+     */
+    default <T> Stream<F, ImmutableArray<T>> groupWithin(Stream<F, T> stream, int size, Duration timeout) {
+      checkNonNull(stream);
+      checkPositive(size);
+      checkNonNull(timeout);
+      return bracket(StreamModule.merge(concurrent(), pure(stream), 1), merge -> merge.groupWithin(size, timeout));
+    }
+
+    /**
+     * Emits an element only when no other element is received during the {@code timeout}, the
+     * intermediate elements are dropped. The last element of the stream is always emitted.
+     */
+    default <T> Stream<F, T> debounce(Stream<F, T> stream, Duration timeout) {
+      checkNonNull(stream);
+      checkNonNull(timeout);
+      return bracket(StreamModule.merge(concurrent(), pure(stream), 1), merge -> merge.debounce(timeout));
+    }
+
+    /**
+     * Pulls the {@code background} stream while the elements of {@code stream} are emitted. The background
+     * stream is stopped when the stream finishes, and if it raises an error the error is raised by the stream.
+     */
+    default <T> Stream<F, T> concurrently(Stream<F, T> stream, Stream<F, ?> background) {
+      checkNonNull(stream);
+      checkNonNull(background);
+      return bracket(
+          concurrent().flatMap(concurrent().later(() -> new Merge<F, T>(concurrent(), 1, 1)),
+              merge -> concurrent().map(concurrent().start(merge.drain(background)), ignore -> merge)),
+          merge -> stream.mapEval(merge::check));
     }
   }
 }
 
 interface StreamModule {
 
+  int BUFFER_SIZE = 1 << 16;
+  int REGION_SIZE = 1 << 26;
+
   static <A, B, C> Option<C> map2(Option<A> fa, Option<B> fb, Function2<A, B, C> combiner) {
     return fa.flatMap(a -> fb.map(b -> combiner.apply(a, b)));
   }
@@ -198,4 +447,179 @@ interface StreamModule {
       .map(tuple -> streamOf.cons(tuple.get1(), streamOf.suspend(() -> unfold(streamOf, tuple.get2(), function))))
       .getOrElse(streamOf::empty);
   }
+
+  /**
+   * The stream keeps the resource of the source, if any, so it's released when the stream is compiled
+   * even if the source is not pulled until the end.
+   */
+  static <F extends Witness, T> Stream<F, T> owned(Stream<F, T> stream, Stream<F, ?> source) {
+    return source instanceof Resource ? ((Resource<F, ?, ?>) source).with(stream) : stream;
+  }
+
+  /**
+   * Releases the resources of the streams that are not going to be pulled anymore, and ends the stream.
+   */
+  static <F extends Witness, T> Stream<F, T> abandon(MonadDefer<F> monad,
+      Option<? extends Stream<F, ?>> first, Option<? extends Stream<F, ?>> second) {
+    Kind<F, Unit> release = monad.flatMap(release(monad, first), ignore -> release(monad, second));
+    return new Suspend<>(monad, monad.map(release, ignore -> new Nil<>(monad)));
+  }
+
+  static <F extends Witness> Kind<F, Unit> release(MonadDefer<F> monad, Option<? extends Stream<F, ?>> stream) {
+    return stream.fold(() -> monad.pure(unit()), current -> Resource.release(monad, current));
+  }
+
+  static <F extends Witness, T> Stream<F, T> fromIterator(MonadDefer<F> monad, Iterator<T> iterator, int chunkSize) {
+    return new Suspend<>(monad, monad.later(() -> {
+      Object[] values = new Object[chunkSize];
+      int size = 0;
+      while (size < chunkSize && iterator.hasNext()) {
+        values[size++] = iterator.next();
+      }
+      Stream<F, T> tail = size < chunkSize ? new Nil<>(monad) : fromIterator(monad, iterator, chunkSize);
+      return Chunk.of(monad, values, 0, size, tail);
+    }));
+  }
+
+  static <F extends Witness, T> Stream<F, ImmutableArray<T>> chunkN(MonadDefer<F> monad, Stream<F, T> stream, int size) {
+    Kind<F, Tuple2<ImmutableArray<T>, Option<Stream<F, T>>>> next =
+        monad.defer(() -> pull(monad, stream, size, ImmutableArray.<T>empty().toTransient()));
+    return owned(new Suspend<>(monad, monad.map(next, tuple -> {
+      Stream<F, ImmutableArray<T>> tail = tuple.get2().fold(() -> new Nil<>(monad), rest -> chunkN(monad, rest, size));
+      return tuple.get1().isEmpty() ? tail : new Cons<>(monad, monad.pure(tuple.get1()), tail);
+    })), stream);
+  }
+
+  /**
+   * Pulls up to {@code remaining} elements, returns the elements and the rest of the stream if it's not finished.
+   */
+  static <F extends Witness, T> Kind<F, Tuple2<ImmutableArray<T>, Option<Stream<F, T>>>> pull(
+      MonadDefer<F> monad, Stream<F, T> stream, int remaining, ImmutableArray.Transient<T> result) {
+    if (remaining == 0) {
+      return monad.pure(Tuple.of(result.persistent(), Option.some(stream)));
+    }
+    return monad.flatMap(stream.split(), next -> next.fold(
+        () -> monad.pure(Tuple.of(result.persistent(), Option.none())),
+        tuple -> monad.flatMap(tuple.get1(),
+            value -> pull(monad, tuple.get2(), remaining - 1, result.append(value)))));
+  }
+
+  static <F extends Witness, T> Kind<F, Merge<F, T>> merge(Concurrent<F> concurrent,
+      Stream<F, Stream<F, T>> streams, int maxOpen) {
+    return concurrent.flatMap(concurrent.later(() -> new Merge<F, T>(concurrent, maxOpen, Merge.QUEUE_SIZE)),
+        merge -> concurrent.map(concurrent.start(merge.pumpAll(streams)), ignore -> merge));
+  }
+
+  static <F extends Witness> Stream<F, byte[]> readBytes(MonadDefer<F> monad, ReadableByteChannel channel,
+      ByteBuffer buffer, int chunkSize) {
+    return new Suspend<>(monad, monad.later(() -> {
+      buffer.clear();
+      buffer.limit(chunkSize);
+      if (channel.read(buffer) < 0) {
+        return new Nil<>(monad);
+      }
+      buffer.flip();
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      return new Cons<>(monad, monad.pure(bytes), readBytes(monad, channel, buffer, chunkSize));
+    }));
+  }
+
+  static <F extends Witness> Stream<F, String> readLines(MonadDefer<F> monad, BufferedReader reader) {
+    return new Suspend<>(monad, monad.later(() -> {
+      Object[] lines = new Object[Chunk.DEFAULT_SIZE];
+      int size = 0;
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+        lines[size++] = line;
+        if (size == lines.length) {
+          return Chunk.of(monad, lines, 0, size, readLines(monad, reader));
+        }
+      }
+      return Chunk.of(monad, lines, 0, size, new Nil<>(monad));
+    }));
+  }
+
+  static <F extends Witness> Stream<F, ByteBuffer> mmap(MonadDefer<F> monad, FileChannel channel,
+      long position, int regionSize) {
+    return new Suspend<>(monad, monad.later(() -> {
+      long size = channel.size();
+      if (position >= size) {
+        return new Nil<>(monad);
+      }
+      ByteBuffer region = channel.map(MapMode.READ_ONLY, position, Math.min(regionSize, size - position));
+      return new Cons<>(monad, monad.pure(region), mmap(monad, channel, position + region.capacity(), regionSize));
+    }));
+  }
+
+  static void write(WritableByteChannel channel, byte[] bytes) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  // completed results are emitted before pulling more elements from the upstream
+  static <F extends Witness, T, R> Stream<F, R> parEvalMap(Concurrent<F> concurrent, Stream<F, T> upstream,
+      ImmutableList<Future<R>> running, int maxConcurrency, Function1<T, Kind<F, R>> mapper) {
+    return owned(new Suspend<>(concurrent, concurrent.later(() -> {
+      if (running.size() < maxConcurrency && (running.isEmpty() || !running.head().get().isCompleted())) {
+        return new Suspend<>(concurrent, concurrent.flatMap(upstream.split(), next -> next.fold(
+            () -> concurrent.pure(joinAll(concurrent, running)),
+            tuple -> concurrent.map(
+                concurrent.flatMap(tuple.get1(), value -> concurrent.start(mapper.apply(value))),
+                future -> parEvalMap(concurrent, tuple.get2(), running.append(future), maxConcurrency, mapper)))));
+      }
+      return new Cons<>(concurrent, concurrent.join(running.head().get()),
+          parEvalMap(concurrent, upstream, running.tail(), maxConcurrency, mapper));
+    })), upstream);
+  }
+
+  static <F extends Witness, T, R> Stream<F, R> parEvalMapUnordered(Concurrent<F> concurrent, Stream<F, T> upstream,
+      CompletionQueue<R> completed, int running, int maxConcurrency, Function1<T, Kind<F, R>> mapper) {
+    return owned(new Suspend<>(concurrent, concurrent.later(() -> {
+      Future<R> ready = completed.poll();
+      if (ready != null) {
+        return new Cons<>(concurrent, concurrent.fromTry(ready.await()),
+            parEvalMapUnordered(concurrent, upstream, completed, running - 1, maxConcurrency, mapper));
+      }
+      if (running < maxConcurrency) {
+        return new Suspend<>(concurrent, concurrent.flatMap(upstream.split(), next -> next.fold(
+            () -> concurrent.pure(joinAllUnordered(concurrent, completed, running)),
+            tuple -> concurrent.map(
+                concurrent.flatMap(tuple.get1(), value -> concurrent.start(mapper.apply(value))),
+                future -> {
+                  completed.add(future);
+                  return parEvalMapUnordered(concurrent, tuple.get2(), completed, running + 1, maxConcurrency, mapper);
+                }))));
+      }
+      return joinAny(concurrent, completed, running,
+          rest -> parEvalMapUnordered(concurrent, upstream, completed, rest, maxConcurrency, mapper));
+    })), upstream);
+  }
+
+  static <F extends Witness, R> Stream<F, R> joinAll(Concurrent<F> concurrent, ImmutableList<Future<R>> running) {
+    if (running.isEmpty()) {
+      return new Nil<>(concurrent);
+    }
+    return new Cons<>(concurrent, concurrent.join(running.head().get()), joinAll(concurrent, running.tail()));
+  }
+
+  static <F extends Witness, R> Stream<F, R> joinAllUnordered(Concurrent<F> concurrent,
+      CompletionQueue<R> completed, int running) {
+    return joinAny(concurrent, completed, running, rest -> joinAllUnordered(concurrent, completed, rest));
+  }
+
+  /**
+   * Emits the result of the next future that completes, and continues with the number of futures still running.
+   */
+  static <F extends Witness, R> Stream<F, R> joinAny(Concurrent<F> concurrent, CompletionQueue<R> completed,
+      int running, Function1<Integer, Stream<F, R>> next) {
+    if (running == 0) {
+      return new Nil<>(concurrent);
+    }
+    Kind<F, Future<R>> first = concurrent.async(
+        callback -> completed.take(future -> callback.accept(Try.success(future))));
+    return new Suspend<>(concurrent, concurrent.map(first,
+        future -> new Cons<>(concurrent, concurrent.fromTry(future.await()), next.apply(running - 1))));
+  }
 }
\ No newline at end of file
@@ -127,6 +127,15 @@ final class Suspend<F extends Witness, T> implements SealedStream<F, T> {
     return lazyMap(s -> s.intersperse(value));
   }
 
+  @Override
+  public Compiled<F, T> compile() {
+    return new Compiled<>(monad, this);
+  }
+
+  Kind<F, Stream<F, T>> next() {
+    return evalStream;
+  }
+
   private <R> Stream<F, R> lazyMap(Function1<Stream<F, T>, Stream<F, R>> mapper) {
     return suspend(() -> monad.map(evalStream, mapper));
   }
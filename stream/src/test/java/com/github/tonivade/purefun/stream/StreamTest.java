@@ -6,9 +6,12 @@ package com.github.tonivade.purefun.stream;
 
 import static com.github.tonivade.purefun.Function1.cons;
 import static com.github.tonivade.purefun.Nothing.nothing;
+import static com.github.tonivade.purefun.data.Sequence.arrayOf;
 import static com.github.tonivade.purefun.data.Sequence.listOf;
 import static com.github.tonivade.purefun.instances.FutureInstances.monadDefer;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -18,14 +21,24 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.Nothing;
 import com.github.tonivade.purefun.PartialFunction1;
 import com.github.tonivade.purefun.Tuple2;
+import com.github.tonivade.purefun.Unit;
 import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.concurrent.FutureOf;
+import com.github.tonivade.purefun.data.ImmutableArray;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Range;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.effect.EIO;
 import com.github.tonivade.purefun.effect.EIOOf;
@@ -43,12 +56,13 @@ import com.github.tonivade.purefun.instances.StreamInstances;
 import com.github.tonivade.purefun.monad.IO;
 import com.github.tonivade.purefun.monad.IOOf;
 import com.github.tonivade.purefun.monad.IO_;
+import com.github.tonivade.purefun.stream.Stream.ConcurrentStreamOf;
 import com.github.tonivade.purefun.stream.Stream.StreamOf;
 import com.github.tonivade.purefun.type.Option;
 
 public class StreamTest {
 
-  private final StreamOf<IO_> streamOfIO = StreamInstances.ofIO();
+  private final ConcurrentStreamOf<IO_> streamOfIO = StreamInstances.ofIO();
   private final StreamOf<UIO_> streamOfUIO = StreamInstances.ofUIO();
   private final StreamOf<Task_> streamOfTask = StreamInstances.ofTask();
   private final StreamOf<Kind<EIO_, Throwable>> streamOfEIO = StreamInstances.ofEIO();
@@ -151,6 +165,27 @@ public class StreamTest {
     assertEquals(listOf(2, 4), run(result.asSequence()));
   }
 
+  @Test
+  public void fromJavaStream() {
+    AtomicInteger closed = new AtomicInteger();
+    AtomicInteger pulled = new AtomicInteger();
+    java.util.stream.Stream<Integer> infinite = java.util.stream.Stream.iterate(0, x -> x + 1)
+        .peek(x -> pulled.incrementAndGet()).onClose(closed::incrementAndGet);
+
+    Stream<IO_, Integer> result = streamOfIO.from(infinite).filter(x -> x % 2 == 0).take(3);
+
+    assertEquals(0, pulled.get());
+    assertEquals(listOf(0, 2, 4), run(result.asSequence()));
+    assertEquals(1, closed.get());
+  }
+
+  @Test
+  public void fromIterator() {
+    Stream<IO_, Integer> stream = streamOfIO.from(Range.of(0, Integer.MAX_VALUE).iterator());
+
+    assertEquals(listOf(0, 1, 2), run(stream.take(3).asSequence()));
+  }
+
   @Test
   public void collect() {
     Stream<IO_, Integer> stream = streamOfIO.of(1, 2, 3, 4, 5);
@@ -206,6 +241,273 @@ public class StreamTest {
     assertEquals(listOf(1, 4, 2, 5, 3, 6), run(merge.asSequence()));
   }
 
+  @Test
+  public void parJoin() {
+    AtomicInteger open = new AtomicInteger();
+    AtomicInteger maxOpen = new AtomicInteger();
+    Stream<IO_, Stream<IO_, Integer>> streams = streamOfIO.from(Range.of(0, 6).collect())
+        .map(i -> streamOfIO.eval(IO.task(() -> {
+          maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+          Thread.sleep(20);
+          open.decrementAndGet();
+          return i;
+        })));
+
+    Sequence<Integer> result = run(streamOfIO.parJoin(streams, 2).asSequence());
+
+    assertEquals(Range.of(0, 6).collect().asSet(), result.asSet());
+    assertEquals(2, maxOpen.get());
+  }
+
+  @Test
+  public void parMerge() {
+    Stream<IO_, Integer> slow = streamOfIO.of(1, 2, 3).mapEval(x -> IO.sleep(Duration.ofMillis(50)).andThen(IO.pure(x)));
+    Stream<IO_, Integer> fast = streamOfIO.of(10, 11, 12);
+    Stream<IO_, Integer> infinite = streamOfIO.iterate(0, x -> x + 1);
+
+    assertAll(
+        () -> assertEquals(listOf(10, 11, 12, 1, 2, 3), run(streamOfIO.parMerge(slow, fast).asSequence())),
+        () -> assertEquals(5, run(streamOfIO.parMerge(infinite, infinite).take(5).asSequence()).size()),
+        () -> assertThrows(UnsupportedOperationException.class,
+            () -> run(streamOfIO.parMerge(slow, streamOfIO.eval(IO.raiseError(new UnsupportedOperationException()))).drain())));
+  }
+
+  @Test
+  public void concurrently() throws InterruptedException {
+    AtomicInteger counter = new AtomicInteger();
+    Stream<IO_, Integer> stream = streamOfIO.of(1, 2, 3).mapEval(x -> IO.sleep(Duration.ofMillis(20)).andThen(IO.pure(x)));
+    Stream<IO_, Integer> background = streamOfIO.iterate(0, x -> x + 1)
+        .mapEval(x -> IO.sleep(Duration.ofMillis(5)).andThen(IO.exec(counter::incrementAndGet)).andThen(IO.pure(x)));
+
+    assertEquals(listOf(1, 2, 3), run(streamOfIO.concurrently(stream, background).asSequence()));
+    assertTrue(counter.get() > 0);
+
+    Thread.sleep(20);
+    int stopped = counter.get();
+    Thread.sleep(50);
+    assertTrue(counter.get() - stopped <= 1);
+
+    assertThrows(UnsupportedOperationException.class,
+        () -> run(streamOfIO.concurrently(stream, streamOfIO.eval(IO.raiseError(new UnsupportedOperationException()))).drain()));
+  }
+
+  @Test
+  public void chunkN() {
+    Stream<IO_, Integer> stream = streamOfIO.from(Range.of(0, 1200).collect());
+
+    Sequence<ImmutableArray<Integer>> result = run(streamOfIO.chunkN(stream, 500).asSequence());
+
+    assertAll(
+        () -> assertEquals(listOf(500, 500, 200), result.map(ImmutableArray::size).asList()),
+        () -> assertEquals(Range.of(0, 1200).collect().asArray(), result.flatMap(x -> x).asArray()),
+        () -> assertEquals(listOf(listOf(1, 2), listOf(3)),
+            run(streamOfIO.chunkN(streamOfIO.of(1, 2, 3), 2).map(ImmutableArray::asList).asSequence())),
+        () -> assertEquals(ImmutableList.empty(), run(streamOfIO.chunkN(streamOfIO.empty(), 2).asSequence())));
+  }
+
+  @Test
+  public void groupWithin() {
+    Stream<IO_, Integer> stream = streamOfIO.of(1, 2, 3, 4, 5)
+        .mapEval(x -> x == 4 ? IO.sleep(Duration.ofMillis(200)).andThen(IO.pure(x)) : IO.pure(x));
+
+    Sequence<ImmutableArray<Integer>> result = run(streamOfIO.groupWithin(stream, 2, Duration.ofMillis(50)).asSequence());
+
+    assertEquals(listOf(arrayOf(1, 2), arrayOf(3), arrayOf(4, 5)), result);
+  }
+
+  @Test
+  public void debounce() {
+    Stream<IO_, Integer> stream = streamOfIO.of(1, 2, 3, 4, 5)
+        .mapEval(x -> x == 4 ? IO.sleep(Duration.ofMillis(200)).andThen(IO.pure(x)) : IO.pure(x));
+
+    assertEquals(listOf(3, 5), run(streamOfIO.debounce(stream, Duration.ofMillis(50)).asSequence()));
+  }
+
+  @Test
+  public void throttle() {
+    Stream<IO_, Integer> stream = streamOfIO.throttle(streamOfIO.of(1, 2, 3, 4, 5), 1, Duration.ofMillis(20));
+
+    long start = System.nanoTime();
+    assertEquals(listOf(1, 2, 3, 4, 5), run(stream.asSequence()));
+    assertTrue(System.nanoTime() - start >= Duration.ofMillis(80).toNanos());
+  }
+
+  @Test
+  public void compile() {
+    Stream<IO_, Integer> stream = streamOfIO.of(1, 2).concat(streamOfIO.eval(IO.task(() -> 3))).append(IO.pure(4));
+
+    assertAll(
+        () -> assertEquals(Integer.valueOf(10), run(stream.compile().fold(0, Integer::sum))),
+        () -> assertEquals(listOf(1, 2, 3, 4), run(stream.compile().toList())),
+        () -> assertEquals(arrayOf(1, 2, 3, 4), run(stream.compile().toArray())),
+        () -> assertEquals("1234", run(stream.compile().string())),
+        () -> assertEquals(Unit.unit(), run(stream.compile().drain())));
+  }
+
+  @Test
+  public void compileLargeStream() {
+    Stream<IO_, Integer> stream = streamOfIO.iterate(0, x -> x + 1).take(1_000_000);
+
+    assertEquals(Long.valueOf(499_999_500_000L), run(stream.compile().fold(0L, (acc, x) -> acc + x)));
+    assertEquals(488_890, run(streamOfIO.from(Range.of(0, 100_000).collect()).asString()).length());
+  }
+
+  @Test
+  public void chunks() {
+    ImmutableArray<Integer> values = Range.of(0, 3000).collect().asArray();
+    Stream<IO_, Integer> stream = streamOfIO.from(values);
+
+    assertAll(
+        () -> assertEquals(values.map(x -> x * 2).asList(), run(stream.map(x -> x * 2).asSequence())),
+        () -> assertEquals(values.filter(x -> x % 7 == 0).asList(), run(stream.filter(x -> x % 7 == 0).asSequence())),
+        () -> assertEquals(Range.of(1020, 1030).collect().asList(), run(stream.drop(1020).take(10).asSequence())),
+        () -> assertEquals(Range.of(0, 2000).collect().asList(), run(stream.takeWhile(x -> x < 2000).asSequence())),
+        () -> assertEquals(Range.of(2500, 3000).collect().asList(), run(stream.dropWhile(x -> x < 2500).asSequence())),
+        () -> assertEquals(listOf(0, 2000), run(stream.collect(PartialFunction1.of(x -> x % 2000 == 0, x -> x)).asSequence())),
+        () -> assertEquals(listOf(1024, 1025), run(stream.filter(x -> x > 1023).take(2).asSequence())),
+        () -> assertEquals(Integer.valueOf(4498500), run(stream.foldLeft(0, Integer::sum))),
+        () -> assertTrue(run(stream.exists(x -> x == 2999))),
+        () -> assertFalse(run(stream.forall(x -> x < 2999))),
+        () -> assertEquals(Integer.valueOf(6000), run(stream.mapEval(x -> IO.pure(2)).foldLeft(0, Integer::sum))),
+        () -> assertEquals(listOf(2999, 0), run(stream.drop(2999).concat(stream.take(1)).asSequence())));
+  }
+
+  @Test
+  public void chunksAreLazy() {
+    List<Integer> evaluated = new ArrayList<>();
+    Stream<IO_, Integer> stream = streamOfIO.of(1, 2, 3).map(x -> { evaluated.add(x); return x; });
+
+    assertTrue(evaluated.isEmpty());
+    assertEquals(listOf(1, 2, 3), run(stream.asSequence()));
+    assertEquals(Arrays.asList(1, 2, 3), evaluated);
+  }
+
+  @Test
+  public void largeStream() {
+    Stream<IO_, Integer> stream = streamOfIO.from(Range.of(0, 1_000_000).collect());
+
+    Long result = run(stream.filter(x -> x % 2 == 0).map(Long::valueOf).foldLeft(0L, Long::sum));
+
+    assertEquals(Long.valueOf(249_999_500_000L), result);
+  }
+
+  @Test
+  public void parEvalMap() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    Stream<IO_, Integer> stream = streamOfIO.from(Range.of(0, 20).collect());
+
+    Stream<IO_, Integer> result = streamOfIO.parEvalMap(stream, 4,
+        x -> IO.exec(() -> maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max))
+          .andThen(IO.sleep(Duration.ofMillis(20 - x)))
+          .andThen(IO.exec(running::decrementAndGet))
+          .andThen(IO.pure(x * 10)));
+
+    assertEquals(Range.of(0, 20).map(x -> x * 10).asList(), run(result.asSequence()));
+    assertTrue(maxRunning.get() <= 4);
+    assertTrue(maxRunning.get() > 1);
+  }
+
+  @Test
+  public void parEvalMapUnordered() {
+    Stream<IO_, Integer> stream = streamOfIO.from(listOf(100, 10, 50));
+
+    Stream<IO_, Integer> result = streamOfIO.parEvalMapUnordered(stream, 3,
+        x -> IO.sleep(Duration.ofMillis(x)).andThen(IO.pure(x)));
+
+    assertEquals(listOf(10, 50, 100), run(result.asSequence()));
+  }
+
+  @Test
+  public void parEvalMapEmitsCompletedResults() {
+    AtomicInteger pulled = new AtomicInteger();
+    Stream<IO_, Integer> stream = streamOfIO.iterate(0, x -> x + 1)
+        .mapEval(x -> IO.sleep(Duration.ofMillis(10)).andThen(IO.task(() -> { pulled.incrementAndGet(); return x; })));
+
+    assertEquals(listOf(0, 1), run(streamOfIO.parEvalMap(stream, 100, IO::pure).take(2).asSequence()));
+    assertTrue(pulled.get() < 10);
+
+    pulled.set(0);
+    assertEquals(2, run(streamOfIO.parEvalMapUnordered(stream, 100, IO::pure).take(2).asSequence()).size());
+    assertTrue(pulled.get() < 10);
+  }
+
+  @Test
+  public void bracket() {
+    List<String> events = new ArrayList<>();
+    Stream<IO_, Integer> stream = streamOfIO.bracket(
+        IO.task(() -> { events.add("acquire"); return "resource"; }),
+        resource -> streamOfIO.from(Range.of(0, 10).collect()),
+        resource -> events.add("release"));
+
+    assertEquals(listOf(0, 1, 2), run(stream.take(3).asSequence()));
+    assertEquals(Arrays.asList("acquire", "release"), events);
+    assertThrows(UnsupportedOperationException.class,
+        () -> run(stream.map(x -> { throw new UnsupportedOperationException(); }).drain()));
+    assertEquals(Arrays.asList("acquire", "release", "acquire", "release"), events);
+    assertEquals(listOf(0, 1), run(streamOfIO.zip(stream, streamOfIO.of("a", "b")).map(Tuple2::get1).asSequence()));
+    assertEquals(Arrays.asList("acquire", "release", "acquire", "release", "acquire", "release"), events);
+    assertEquals(Integer.valueOf(45), run(streamOfIO.zip(stream, streamOfIO.iterate(0, x -> x + 1))
+        .foldLeft(0, (acc, t) -> acc + t.get1())));
+    assertEquals("release", events.get(events.size() - 1));
+  }
+
+  @Test
+  public void abandonedStreamsAreReleased() throws InterruptedException {
+    AtomicInteger released = new AtomicInteger();
+    Stream<IO_, Integer> stream = streamOfIO.bracket(
+        IO.pure("resource"), resource -> streamOfIO.iterate(0, x -> x + 1), resource -> released.incrementAndGet());
+
+    assertEquals(listOf(0), run(streamOfIO.zip(stream, streamOfIO.of("a")).map(Tuple2::get1).asSequence()));
+    assertEquals(1, released.get());
+    assertEquals(listOf(0, 0), run(streamOfIO.merge(streamOfIO.of(0), stream).take(2).asSequence()));
+    assertEquals(2, released.get());
+    assertEquals(1, run(streamOfIO.zip(streamOfIO.chunkN(stream, 5), stream).take(1).asSequence()).size());
+    assertEquals(4, released.get());
+
+    // the merge can be closed before the second stream is acquired
+    AtomicInteger acquired = new AtomicInteger();
+    AtomicInteger closed = new AtomicInteger();
+    AtomicInteger pulled = new AtomicInteger();
+    Stream<IO_, Integer> infinite = streamOfIO.bracket(IO.exec(acquired::incrementAndGet),
+        resource -> streamOfIO.iterate(0, x -> x + 1).mapEval(x -> IO.task(() -> { pulled.incrementAndGet(); return x; })),
+        resource -> closed.incrementAndGet());
+
+    assertEquals(1, run(streamOfIO.zip(streamOfIO.parMerge(infinite, infinite), streamOfIO.of("a")).asSequence()).size());
+    for (int i = 0; i < 100 && closed.get() < acquired.get(); i++) {
+      Thread.sleep(10);
+    }
+    assertTrue(acquired.get() > 0);
+    assertEquals(acquired.get(), closed.get());
+    int stopped = pulled.get();
+    Thread.sleep(50);
+    assertEquals(stopped, pulled.get());
+  }
+
+  @Test
+  public void readAndWriteFiles() throws IOException {
+    Path input = Files.createTempFile("purefun", ".txt");
+    Path output = Files.createTempFile("purefun", ".txt");
+    try {
+      List<String> lines = Range.of(0, 5000).map(i -> "line " + i).stream().collect(toList());
+      Files.write(input, lines, UTF_8);
+
+      Stream<IO_, byte[]> bytes = streamOfIO.readBytes(input, 1000);
+      run(streamOfIO.writeBytes(output, bytes));
+
+      assertAll(
+          () -> assertEquals(lines, Files.readAllLines(output, UTF_8)),
+          () -> assertEquals(Integer.valueOf(lines.size()), run(streamOfIO.readLines(input, UTF_8).foldLeft(0, (a, b) -> a + 1))),
+          () -> assertEquals(listOf("line 0", "line 1"), run(streamOfIO.readLines(input, UTF_8).take(2).asSequence())),
+          () -> assertEquals(Long.valueOf(Files.size(input)), run(streamOfIO.mmap(input, 1000)
+              .foldLeft(0L, (acc, buffer) -> acc + buffer.remaining()))),
+          () -> assertEquals(Integer.valueOf(1000), run(bytes.map(b -> b.length).headOption()).get()));
+    } finally {
+      Files.delete(input);
+      Files.delete(output);
+    }
+  }
+
   @Test
   public void forAll() {
     Stream<IO_, String> stream = streamOfIO.from(listOf("a", "b", "c"));
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2018-2020, Antonio Gabriel Muñoz Conejo <antoniogmc at gmail dot com>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.typeclasses;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.Witness;
+import com.github.tonivade.purefun.concurrent.Future;
+
+/**
+ * Effects that can be evaluated in background.
+ */
+public interface Concurrent<F extends Witness> extends MonadDefer<F> {
+
+  /**
+   * Starts the evaluation of the given effect in background. The returned effect doesn't wait
+   * until the evaluation finishes, the result will be available in the future.
+   */
+  <A> Kind<F, Future<A>> start(Kind<F, A> value);
+
+  /**
+   * Waits until the future is completed.
+   */
+  default <A> Kind<F, A> join(Future<A> future) {
+    return async(future::onComplete);
+  }
+}
@@ -5,10 +5,12 @@
 package com.github.tonivade.purefun.typeclasses;
 
 import com.github.tonivade.purefun.CheckedRunnable;
+import com.github.tonivade.purefun.Consumer1;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.Witness;
 import com.github.tonivade.purefun.Producer;
 import com.github.tonivade.purefun.Unit;
+import com.github.tonivade.purefun.concurrent.Promise;
 import com.github.tonivade.purefun.type.Try;
 
 public interface MonadDefer<F extends Witness> extends MonadThrow<F>, Bracket<F>, Defer<F>, Timer<F> {
@@ -20,4 +22,17 @@ public interface MonadDefer<F extends Witness> extends MonadThrow<F>, Bracket<F>
   default <A> Kind<F, Unit> exec(CheckedRunnable later) {
     return later(later.asProducer());
   }
+
+  /**
+   * Suspends the computation until the callback is called. The default implementation
+   * blocks the current thread until the result is available, asynchronous types should
+   * override this method to wait without blocking.
+   */
+  default <A> Kind<F, A> async(Consumer1<Consumer1<Try<A>>> consumer) {
+    return defer(() -> {
+      Promise<A> promise = Promise.make();
+      consumer.accept(promise::tryComplete);
+      return fromTry(promise.get());
+    });
+  }
 }